@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.orb.OCI.GiopVersion;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.StructMember;
+import org.omg.CORBA.TCKind;
+import org.omg.CORBA.TypeCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marshalling and unmarshalling throughput of the CDR streams for common IDL types.
+ * Each write benchmark marshals into a fresh stream, and each read benchmark unmarshals from a stream prepared in advance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CdrBenchmark {
+    /** the number of characters in each string, or elements in each sequence */
+    @Param({"16", "65536"})
+    int size;
+
+    private ORB orb;
+    private String string;
+    private String wstring;
+    private double[] doubles;
+    private int[] longs;
+    private Any any;
+    private TypeCode typeCode;
+
+    private OutputStream encodedString;
+    private OutputStream encodedWstring;
+    private OutputStream encodedDoubles;
+    private OutputStream encodedLongs;
+    private OutputStream encodedAny;
+    private OutputStream encodedTypeCode;
+
+    @Setup
+    public void setup() {
+        orb = Orbs.init();
+        final char[] ascii = new char[size];
+        final char[] greek = new char[size];
+        for (int i = 0; i < size; i++) {
+            ascii[i] = (char) ('a' + i % 26);
+            greek[i] = (char) ('\u03b1' + i % 24);
+        }
+        string = new String(ascii);
+        wstring = new String(greek);
+        doubles = new double[size];
+        longs = new int[size];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = i * Math.PI;
+            longs[i] = i * 0x01010101;
+        }
+        typeCode = orb.create_struct_tc("IDL:yoko/benchmarks/Sample:1.0", "Sample", new StructMember[]{
+                new StructMember("id", orb.get_primitive_tc(TCKind.tk_long), null),
+                new StructMember("name", orb.create_string_tc(0), null),
+                new StructMember("values", orb.create_sequence_tc(0, orb.get_primitive_tc(TCKind.tk_double)), null)});
+        any = orb.create_any();
+        any.insert_string(string);
+
+        encodedString = newOutputStream();
+        encodedString.write_string(string);
+        encodedWstring = newOutputStream();
+        encodedWstring.write_wstring(wstring);
+        encodedDoubles = newOutputStream();
+        encodedDoubles.write_ulong(size);
+        encodedDoubles.write_double_array(doubles, 0, size);
+        encodedLongs = newOutputStream();
+        encodedLongs.write_ulong(size);
+        encodedLongs.write_long_array(longs, 0, size);
+        encodedAny = newOutputStream();
+        encodedAny.write_any(any);
+        encodedTypeCode = newOutputStream();
+        encodedTypeCode.write_TypeCode(typeCode);
+    }
+
+    @TearDown
+    public void tearDown() { Orbs.destroy(orb); }
+
+    private OutputStream newOutputStream() {
+        final OutputStream out = new OutputStream(null, GiopVersion.GIOP1_2);
+        out._OB_ORBInstance(((ORB_impl) orb)._OB_ORBInstance());
+        return out;
+    }
+
+    @Benchmark
+    public int writeString() {
+        final OutputStream out = newOutputStream();
+        out.write_string(string);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public String readString() { return encodedString.create_input_stream().read_string(); }
+
+    @Benchmark
+    public int writeWstring() {
+        final OutputStream out = newOutputStream();
+        out.write_wstring(wstring);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public String readWstring() { return encodedWstring.create_input_stream().read_wstring(); }
+
+    @Benchmark
+    public int writeDoubleSequence() {
+        final OutputStream out = newOutputStream();
+        out.write_ulong(size);
+        out.write_double_array(doubles, 0, size);
+        return out.getPosition();
+    }
+
+    /** the same encoding as {@link #writeDoubleSequence()}, one element at a time, for comparison with the bulk copy */
+    @Benchmark
+    public int writeDoubleSequenceElementwise() {
+        final OutputStream out = newOutputStream();
+        out.write_ulong(size);
+        for (double d : doubles) out.write_double(d);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public double[] readDoubleSequence() {
+        final InputStream in = encodedDoubles.create_input_stream();
+        final double[] result = new double[in.read_ulong()];
+        in.read_double_array(result, 0, result.length);
+        return result;
+    }
+
+    /** the same decoding as {@link #readDoubleSequence()}, one element at a time, for comparison with the bulk copy */
+    @Benchmark
+    public double[] readDoubleSequenceElementwise() {
+        final InputStream in = encodedDoubles.create_input_stream();
+        final double[] result = new double[in.read_ulong()];
+        for (int i = 0; i < result.length; i++) result[i] = in.read_double();
+        return result;
+    }
+
+    @Benchmark
+    public int writeLongSequence() {
+        final OutputStream out = newOutputStream();
+        out.write_ulong(size);
+        out.write_long_array(longs, 0, size);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public int writeLongSequenceElementwise() {
+        final OutputStream out = newOutputStream();
+        out.write_ulong(size);
+        for (int l : longs) out.write_long(l);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public int[] readLongSequence() {
+        final InputStream in = encodedLongs.create_input_stream();
+        final int[] result = new int[in.read_ulong()];
+        in.read_long_array(result, 0, result.length);
+        return result;
+    }
+
+    @Benchmark
+    public int[] readLongSequenceElementwise() {
+        final InputStream in = encodedLongs.create_input_stream();
+        final int[] result = new int[in.read_ulong()];
+        for (int i = 0; i < result.length; i++) result[i] = in.read_long();
+        return result;
+    }
+
+    @Benchmark
+    public int writeAny() {
+        final OutputStream out = newOutputStream();
+        out.write_any(any);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public Any readAny() { return encodedAny.create_input_stream().read_any(); }
+
+    @Benchmark
+    public int writeTypeCode() {
+        final OutputStream out = newOutputStream();
+        out.write_TypeCode(typeCode);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public TypeCode readTypeCode() { return encodedTypeCode.create_input_stream().read_TypeCode(); }
+}
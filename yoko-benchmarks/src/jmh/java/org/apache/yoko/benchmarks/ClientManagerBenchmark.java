@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.OB.ClientManager;
+import org.apache.yoko.orb.OB.ClientProfilePair;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.IOP.IOR;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention on the client manager when many threads resolve clients for the same endpoint at once,
+ * as happens when a burst of new object references is used for the first time.
+ * One client is held for the duration of the run so that every lookup finds the existing reusable client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClientManagerBenchmark {
+    private static final Policy[] NO_POLICIES = {};
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private ClientManager clientManager;
+    private IOR ior;
+    private List<ClientProfilePair> held;
+
+    @Setup
+    public void setup() throws Exception {
+        serverOrb = Orbs.initServer();
+        final org.omg.CORBA.Object ref = Orbs.rootPoa(serverOrb).servant_to_reference(new Echo.Servant_());
+        clientOrb = Orbs.init();
+        clientManager = ((ORB_impl) clientOrb)._OB_ORBInstance().getClientManager();
+        final ObjectImpl obj = (ObjectImpl) clientOrb.string_to_object(serverOrb.object_to_string(ref));
+        ior = ((Delegate) obj._get_delegate())._OB_IOR();
+        held = clientManager.getClientProfilePairs(ior, NO_POLICIES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (ClientProfilePair pair : held) clientManager.releaseClient(pair.client);
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    private int resolve() {
+        final List<ClientProfilePair> pairs = clientManager.getClientProfilePairs(ior, NO_POLICIES);
+        for (ClientProfilePair pair : pairs) clientManager.releaseClient(pair.client);
+        return pairs.size();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int resolveUncontended() { return resolve(); }
+
+    @Benchmark
+    @Threads(8)
+    public int resolveContended() { return resolve(); }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.omg.CORBA.BAD_OPERATION;
+import org.omg.CORBA.UNKNOWN;
+import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.InvokeHandler;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.RemarshalException;
+import org.omg.CORBA.portable.ResponseHandler;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.Servant;
+
+/**
+ * A minimal remote interface, hand-written in the style of IDL-generated code so that the benchmarks need no IDL compiler.
+ * <pre>
+ *     interface Echo {
+ *         void ping();
+ *         sequence&lt;octet&gt; echo(in sequence&lt;octet&gt; data);
+ *     };
+ * </pre>
+ */
+enum Echo {
+    ;
+    private static final String[] IDS = {"IDL:yoko/benchmarks/Echo:1.0"};
+
+    static final class Servant_ extends Servant implements InvokeHandler {
+        @Override
+        public String[] _all_interfaces(POA poa, byte[] objectId) { return IDS.clone(); }
+
+        @Override
+        public OutputStream _invoke(String method, InputStream in, ResponseHandler handler) {
+            switch (method) {
+            case "ping":
+                return handler.createReply();
+            case "echo":
+                final byte[] data = readOctets(in);
+                final OutputStream out = handler.createReply();
+                writeOctets(out, data);
+                return out;
+            default:
+                throw new BAD_OPERATION(method);
+            }
+        }
+    }
+
+    static final class Stub extends ObjectImpl {
+        Stub(org.omg.CORBA.Object target) {
+            _set_delegate(((ObjectImpl) target)._get_delegate());
+        }
+
+        @Override
+        public String[] _ids() { return IDS.clone(); }
+
+        void ping() { invoke("ping", null); }
+
+        byte[] echo(byte[] data) { return invoke("echo", data); }
+
+        private byte[] invoke(String operation, byte[] data) {
+            while (true) {
+                InputStream in = null;
+                try {
+                    final OutputStream out = _request(operation, true);
+                    if (data != null) writeOctets(out, data);
+                    in = _invoke(out);
+                    return data == null ? null : readOctets(in);
+                } catch (RemarshalException e) {
+                    // try again
+                } catch (ApplicationException e) {
+                    throw new UNKNOWN("Unexpected user exception: " + e.getId());
+                } finally {
+                    _releaseReply(in);
+                }
+            }
+        }
+    }
+
+    private static void writeOctets(OutputStream out, byte[] data) {
+        out.write_ulong(data.length);
+        out.write_octet_array(data, 0, data.length);
+    }
+
+    private static byte[] readOctets(InputStream in) {
+        final byte[] data = new byte[in.read_ulong()];
+        in.read_octet_array(data, 0, data.length);
+        return data;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.omg.CORBA.ORB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and throughput of remote invocations over IIOP on the loopback interface.
+ * The client and server are separate ORBs in this process, so every call goes through the transport
+ * rather than being collocated. Run with <code>-t</code> to measure concurrent callers sharing a connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoopbackInvocationBenchmark {
+    /** the communications concurrency model of the server's POA manager */
+    @Param({"threaded", "reactive"})
+    String concModel;
+
+    /** the number of octets sent in each direction by {@link #echo()} */
+    @Param({"64", "65536"})
+    int payloadSize;
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private Echo.Stub echo;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws Exception {
+        serverOrb = Orbs.initServer("yoko.orb.poamanager.RootPOAManager.conc_model", concModel);
+        final org.omg.CORBA.Object ref = Orbs.rootPoa(serverOrb).servant_to_reference(new Echo.Servant_());
+        clientOrb = Orbs.init();
+        echo = new Echo.Stub(clientOrb.string_to_object(serverOrb.object_to_string(ref)));
+        payload = new byte[payloadSize];
+        // establish the connection before measuring
+        echo.ping();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    @Benchmark
+    public void ping() { echo.ping(); }
+
+    @Benchmark
+    public byte[] echo() { return echo.echo(payload); }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.omg.CORBA.ORB;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAHelper;
+
+import java.util.Properties;
+
+/** Helpers for setting up in-process ORBs for the benchmarks */
+enum Orbs {
+    ;
+
+    /**
+     * Initialise a Yoko ORB.
+     * @param keysAndValues alternating property names and values
+     */
+    static ORB init(String... keysAndValues) {
+        final Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        for (int i = 0; i < keysAndValues.length; i += 2) props.put(keysAndValues[i], keysAndValues[i + 1]);
+        return ORB.init(new String[0], props);
+    }
+
+    /** Initialise a server ORB listening on an ephemeral port on the loopback interface, with its root POA active */
+    static ORB initServer(String... keysAndValues) throws Exception {
+        final String[] props = new String[keysAndValues.length + 2];
+        props[0] = "yoko.orb.oa.endpoint";
+        props[1] = "iiop --host localhost";
+        System.arraycopy(keysAndValues, 0, props, 2, keysAndValues.length);
+        final ORB orb = init(props);
+        rootPoa(orb).the_POAManager().activate();
+        return orb;
+    }
+
+    static POA rootPoa(ORB orb) throws Exception {
+        return POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+    }
+
+    static void destroy(ORB orb) {
+        if (orb == null) return;
+        try {
+            orb.destroy();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.PortableServer.POA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of finding the target of each incoming request, when the objects live in a POA nested deep
+ * below the root POA and successive calls go to different objects.
+ * Calls go over IIOP on the loopback interface, cycling through every object in turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoaDemuxBenchmark {
+    /** the number of POAs between the root POA and the objects */
+    @Param({"1", "8"})
+    int depth;
+
+    /** the number of objects called in turn */
+    @Param({"1", "1000"})
+    int objects;
+
+    private ORB serverOrb;
+    private ORB clientOrb;
+    private Echo.Stub[] stubs;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        serverOrb = Orbs.initServer();
+        POA poa = Orbs.rootPoa(serverOrb);
+        for (int i = 0; i < depth; i++) poa = poa.create_POA("level" + i, poa.the_POAManager(), new Policy[0]);
+        clientOrb = Orbs.init();
+        stubs = new Echo.Stub[objects];
+        for (int i = 0; i < objects; i++) {
+            final byte[] id = poa.activate_object(new Echo.Servant_());
+            final String ior = serverOrb.object_to_string(poa.id_to_reference(id));
+            stubs[i] = new Echo.Stub(clientOrb.string_to_object(ior));
+        }
+        // establish the connection before measuring
+        for (Echo.Stub stub : stubs) stub.ping();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Orbs.destroy(clientOrb);
+        Orbs.destroy(serverOrb);
+    }
+
+    @Benchmark
+    public void ping() {
+        stubs[next].ping();
+        if (++next == stubs.length) next = 0;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.portable.InvokeHandler;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.ResponseHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.rmi.CORBA.Tie;
+import javax.rmi.CORBA.Util;
+import javax.rmi.PortableRemoteObject;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of dispatching small-argument RMI-IIOP calls on the server, from the tie's
+ * {@link InvokeHandler#_invoke} to the finished reply, with no transport involved.
+ * The nested classes compare the direct method-handle invokers with the reflective path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class RmiDispatchBenchmark {
+    public interface Calculator extends Remote {
+        int add(int a, int b) throws RemoteException;
+        long scale(long value, double factor, boolean round) throws RemoteException;
+        void nop() throws RemoteException;
+    }
+
+    public static class CalculatorImpl implements Calculator {
+        public int add(int a, int b) { return a + b; }
+        public long scale(long value, double factor, boolean round) { return round ? Math.round(value * factor) : (long) (value * factor); }
+        public void nop() {}
+    }
+
+    @Fork(jvmArgsAppend = "-Dorg.apache.yoko.rmi.reflectiveDispatch=false")
+    public static class Direct extends RmiDispatchBenchmark {}
+
+    @Fork(jvmArgsAppend = "-Dorg.apache.yoko.rmi.reflectiveDispatch=true")
+    public static class Reflective extends RmiDispatchBenchmark {}
+
+    private InvokeHandler tie;
+    private ResponseHandler replies;
+    private OutputStream addArgs;
+    private OutputStream scaleArgs;
+    private OutputStream noArgs;
+
+    @Setup
+    public void setup() throws Exception {
+        System.setProperty("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        System.setProperty("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        final CalculatorImpl impl = new CalculatorImpl();
+        PortableRemoteObject.exportObject(impl);
+        tie = (InvokeHandler) Util.getTie(impl);
+        final ORB orb = ((Tie) tie).orb();
+        replies = new ResponseHandler() {
+            public OutputStream createReply() { return orb.create_output_stream(); }
+            public OutputStream createExceptionReply() { return orb.create_output_stream(); }
+        };
+        addArgs = orb.create_output_stream();
+        addArgs.write_long(40);
+        addArgs.write_long(2);
+        scaleArgs = orb.create_output_stream();
+        scaleArgs.write_longlong(1234567L);
+        scaleArgs.write_double(1.5);
+        scaleArgs.write_boolean(true);
+        noArgs = orb.create_output_stream();
+    }
+
+    @Benchmark
+    public OutputStream add() { return tie._invoke("add", addArgs.create_input_stream(), replies); }
+
+    @Benchmark
+    public OutputStream scale() { return tie._invoke("scale", scaleArgs.create_input_stream(), replies); }
+
+    @Benchmark
+    public OutputStream nop() { return tie._invoke("nop", noArgs.create_input_stream(), replies); }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.benchmarks;
+
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.orb.OCI.GiopVersion;
+import org.omg.CORBA.ORB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marshalling and unmarshalling throughput for RMI-IIOP values.
+ * These are written and read by the CDR streams through the RMI value handler,
+ * {@link org.apache.yoko.rmi.impl.ValueHandlerImpl}, which uses the reflective class descriptors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RmiValueBenchmark {
+    public static class Item implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final int id;
+        final String name;
+        final double[] readings;
+
+        Item(int id, String name, double[] readings) {
+            this.id = id;
+            this.name = name;
+            this.readings = readings;
+        }
+    }
+
+    public static class Order implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final long number;
+        final Date placed;
+        final String customer;
+        final List<Item> items;
+
+        Order(long number, Date placed, String customer, List<Item> items) {
+            this.number = number;
+            this.placed = placed;
+            this.customer = customer;
+            this.items = items;
+        }
+    }
+
+    /** the number of items in the order */
+    @Param({"1", "100"})
+    int items;
+
+    private ORB orb;
+    private Order order;
+    private OutputStream encodedOrder;
+
+    @Setup
+    public void setup() {
+        orb = Orbs.init();
+        final List<Item> list = new ArrayList<>();
+        for (int i = 0; i < items; i++) list.add(new Item(i, "item " + i, new double[]{i, i * 0.5, i * 0.25}));
+        order = new Order(42L, new Date(0), "customer", list);
+        encodedOrder = newOutputStream();
+        encodedOrder.write_value(order, Order.class);
+    }
+
+    @TearDown
+    public void tearDown() { Orbs.destroy(orb); }
+
+    private OutputStream newOutputStream() {
+        final OutputStream out = new OutputStream(null, GiopVersion.GIOP1_2);
+        out._OB_ORBInstance(((ORB_impl) orb)._OB_ORBInstance());
+        return out;
+    }
+
+    @Benchmark
+    public int writeValue() {
+        final OutputStream out = newOutputStream();
+        out.write_value(order, Order.class);
+        return out.getPosition();
+    }
+
+    @Benchmark
+    public Serializable readValue() { return encodedOrder.create_input_stream().read_value(Order.class); }
+}
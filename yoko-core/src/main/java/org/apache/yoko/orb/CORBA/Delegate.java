@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ package org.apache.yoko.orb.CORBA;
 import org.apache.yoko.orb.OB.ClientManager;
 import org.apache.yoko.orb.OB.DowncallStub;
 import org.apache.yoko.orb.OB.FailureException;
+import org.apache.yoko.orb.OB.IsACache;
 import org.apache.yoko.orb.OB.LocationForward;
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.RETRY_NEVER;
@@ -235,11 +236,16 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         for (String id : o._ids()) if (repository_id.equals(id)) return true;
 
         // Check the type_id in the IOR and the original IOR
+        final IOR target;
         synchronized (this) {
             if (repository_id.equals(ior.type_id) || repository_id.equals(origIor.type_id)) return true;
+            target = origIor;
         }
 
-        // TODO: Some kind of is-a cache should be consulted here
+        // Check for an earlier answer about the same object
+        final IsACache isACache = orbInstance.getIsACache();
+        final Boolean cached = isACache.get(target, repository_id);
+        if (cached != null) return cached;
 
         // Check implementation object
         while (true) {
@@ -250,7 +256,9 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
                     out = request(self, "_is_a", true);
                     out.write_string(repository_id);
                     in = invoke(self, out);
-                    return in.read_boolean();
+                    final boolean answer = in.read_boolean();
+                    isACache.put(target, repository_id, answer);
+                    return answer;
                 } catch (ApplicationException ex) {
                     throw Assert.fail(ex);
                 } catch (RemarshalException ex) {
@@ -585,10 +593,14 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
     // ------------------------------------------------------------------
 
     public Delegate(ORBInstance orbInstance, IOR ior, IOR origIor, Policy...policies) {
+        this(orbInstance, ior, origIor, new RefCountPolicyList(policies));
+    }
+
+    public Delegate(ORBInstance orbInstance, IOR ior, IOR origIor, RefCountPolicyList policyList) {
         this.orbInstance = orbInstance;
         this.ior = ior;
         this.origIor = origIor;
-        this.policyList = new RefCountPolicyList(policies);
+        this.policyList = policyList;
     }
 
     public ORBInstance _OB_ORBInstance() {
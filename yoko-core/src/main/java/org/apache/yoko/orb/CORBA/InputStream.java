@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,12 @@ package org.apache.yoko.orb.CORBA;
 
 import org.apache.yoko.io.AlignmentBoundary;
 import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.InternTable;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.orb.OB.CodeBaseProxy;
 import org.apache.yoko.orb.OB.CodeConverterBase;
 import org.apache.yoko.orb.OB.CodeConverters;
+import org.apache.yoko.orb.OB.CodeSetInfo;
 import org.apache.yoko.orb.OB.CodeSetReader;
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.ObjectFactory;
@@ -53,7 +55,6 @@ import java.security.PrivilegedActionException;
 import java.util.Hashtable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.IntStream;
 
 import static java.security.AccessController.doPrivileged;
 import static org.apache.yoko.io.AlignmentBoundary.EIGHT_BYTE_BOUNDARY;
@@ -144,6 +145,9 @@ import static org.omg.CORBA.TCKind.tk_union;
 final public class InputStream extends InputStreamWithOffsets {
     private static final Logger logger = Logger.getLogger(InputStream.class.getName());
 
+    /** Repository ids and operation names recur on every request, so canonical instances are kept here */
+    private static final InternTable INTERNED_STRINGS = new InternTable(2048);
+
     private ORBInstance orbInstance_;
 
     private final ReadBuffer readBuffer;
@@ -172,6 +176,8 @@ final public class InputStream extends InputStreamWithOffsets {
 
     private boolean charConversionRequired_;
 
+    private boolean charReaderUtf8_;
+
     private boolean wCharReaderRequired_;
 
     private boolean wCharConversionRequired_;
@@ -188,15 +194,25 @@ final public class InputStream extends InputStreamWithOffsets {
         TypeCode tc = null;
 
         if (id.length() > 0) {
-            tc = cache_.get(id);
+            final int pos = readBuffer.getPosition();
+            readBuffer.setPosition(startPos);
+            tc = cache_.get(id, readBuffer, length);
+            readBuffer.setPosition(pos);
             if (tc != null) {
-                _OB_skip(length + startPos - readBuffer.getPosition());
+                _OB_skip(length + startPos - pos);
             }
         }
 
         return tc;
     }
 
+    private void cacheTypeCode(String id, TypeCode tc, int startPos, int length) {
+        final int pos = readBuffer.getPosition();
+        readBuffer.setPosition(startPos);
+        if (length >= 0 && readBuffer.available() >= length) cache_.put(id, tc, readBuffer.readBytes(new byte[length]));
+        readBuffer.setPosition(pos);
+    }
+
     private org.omg.CORBA.TypeCode readTypeCodeImpl(Hashtable<Integer, TypeCode> history, boolean isTopLevel) {
         int kind = read_ulong();
         int oldPos = readBuffer.getPosition() - 4;
@@ -256,7 +272,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -264,7 +280,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         tc = (TypeCode) createInterfaceTC(id, read_string());
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     history.put(oldPos, tc);
@@ -283,7 +299,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -309,7 +325,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -326,7 +342,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -396,7 +412,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -413,7 +429,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -427,7 +443,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -479,7 +495,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -489,7 +505,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -506,7 +522,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -538,7 +554,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -555,7 +571,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -564,7 +580,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -581,7 +597,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (logger.isLoggable(Level.FINE))
                         logger.fine(String.format("Abstract interface typecode encapsulaton length=0x%x id=%s", length, id));
@@ -593,7 +609,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -610,7 +626,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -618,7 +634,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         tc = (TypeCode) createNativeTC(id, read_string());
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     history.put(oldPos, tc);
@@ -636,7 +652,7 @@ final public class InputStream extends InputStreamWithOffsets {
                     boolean swap = swap_;
                     _OB_readEndian();
 
-                    String id = read_string();
+                    String id = _OB_readInternedString();
 
                     if (isTopLevel && cache_ != null)
                         tc = checkCache(id, typePos, length); // may advance pos
@@ -645,7 +661,7 @@ final public class InputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (id.length() > 0 && cache_ != null)
-                            cache_.put(id, tc);
+                            cacheTypeCode(id, tc, typePos, length);
                     }
 
                     swap_ = swap;
@@ -891,6 +907,39 @@ final public class InputStream extends InputStreamWithOffsets {
     }
 
     public String read_string() {
+        return readString(null);
+    }
+
+    /**
+     * Read a string that is likely to recur, such as a repository id or an operation name.
+     * ASCII strings are looked up in a shared, bounded table, so repeated reads return the same instance.
+     */
+    public String _OB_readInternedString() {
+        return readString(INTERNED_STRINGS);
+    }
+
+    /**
+     * Read an operation name. It is read as octets to avoid code set conversion,
+     * and ASCII names are interned as by {@link #_OB_readInternedString()}.
+     */
+    public String _OB_readOperation() {
+        final int len = read_ulong();
+        if (len > 0) {
+            checkChunk();
+            if (readBuffer.available() >= len) {
+                final String op = readBuffer.readAscii(len - 1, INTERNED_STRINGS);
+                if (op != null) {
+                    readBuffer.skipBytes(1); // null terminator
+                    return op;
+                }
+            }
+        }
+        final byte[] s = new byte[len];
+        read_octet_array(s, 0, len);
+        return new String(s, 0, len - 1);
+    }
+
+    private String readString(InternTable table) {
         checkChunk();
 
         // Number of octets (i.e. bytes) in the string (including the null terminator).
@@ -906,6 +955,17 @@ final public class InputStream extends InputStreamWithOffsets {
             throw newMarshalError(MinorReadStringOverflow);
         }
 
+        if (!charConversionRequired_ && (!charReaderRequired_ || charReaderUtf8_)) {
+            // Where every char is known to take a single byte, decode straight from the buffer.
+            // UTF-8 only qualifies when the whole string is ASCII; anything else takes the slow path.
+            String s = table == null ? null : readBuffer.readAscii(byteCount - 1, table);
+            if (s == null) s = charReaderRequired_ ? readBuffer.readAscii(byteCount - 1) : readBuffer.readLatin1(byteCount - 1);
+            if (s != null) {
+                if (readBuffer.readByte() != 0) throw newMarshalError(MinorReadStringNoTerminator);
+                return s;
+            }
+        }
+
         // Java strings don't need null terminators, so our string length will be at most one less than the byte count
         StringBuilder sb = new StringBuilder(byteCount - 1);
 
@@ -1120,12 +1180,7 @@ final public class InputStream extends InputStreamWithOffsets {
         if (readBuffer.available() < length * 2)
             throw newMarshalError(MinorReadShortArrayOverflow);
 
-        if (swap_)
-            for (int i = offset; i < offset + length; i++)
-                value[i] = (short) (((short) readBuffer.readByte() & 0xff) | ((short) readBuffer.readByte() << 8));
-        else
-            for (int i = offset; i < offset + length; i++)
-                value[i] = (short) (((short) readBuffer.readByte() << 8) | ((short) readBuffer.readByte() & 0xff));
+        readBuffer.readShorts(value, offset, length, swap_);
     }
 
     public void read_ushort_array(short[] value, int offset, int length) {
@@ -1140,18 +1195,7 @@ final public class InputStream extends InputStreamWithOffsets {
         if (readBuffer.available() < length * 4)
             throw newMarshalError(MinorReadLongArrayOverflow);
 
-        if (swap_)
-            for (int i = offset; i < offset + length; i++)
-                value[i] = ((int) readBuffer.readByte() & 0xff)
-                        | (((int) readBuffer.readByte() << 8) & 0xff00)
-                        | (((int) readBuffer.readByte() << 16) & 0xff0000)
-                        | ((int) readBuffer.readByte() << 24);
-        else
-            for (int i = offset; i < offset + length; i++)
-                value[i] = ((int) readBuffer.readByte() << 24)
-                        | (((int) readBuffer.readByte() << 16) & 0xff0000)
-                        | (((int) readBuffer.readByte() << 8) & 0xff00)
-                        | ((int) readBuffer.readByte() & 0xff);
+        readBuffer.readInts(value, offset, length, swap_);
     }
 
     private static MARSHAL newMarshalError(int minor) {
@@ -1173,26 +1217,7 @@ final public class InputStream extends InputStreamWithOffsets {
         if (readBuffer.available() < length * 8)
             throw newMarshalError(MinorReadLongLongArrayOverflow);
 
-        if (swap_)
-            for (int i = offset; i < offset + length; i++)
-                value[i] = ((long) readBuffer.readByte() & 0xffL)
-                        | (((long) readBuffer.readByte() << 8) & 0xff00L)
-                        | (((long) readBuffer.readByte() << 16) & 0xff0000L)
-                        | (((long) readBuffer.readByte() << 24) & 0xff000000L)
-                        | (((long) readBuffer.readByte() << 32) & 0xff00000000L)
-                        | (((long) readBuffer.readByte() << 40) & 0xff0000000000L)
-                        | (((long) readBuffer.readByte() << 48) & 0xff000000000000L)
-                        | ((long) readBuffer.readByte() << 56);
-        else
-            for (int i = offset; i < offset + length; i++)
-                value[i] = ((long) readBuffer.readByte() << 56)
-                        | (((long) readBuffer.readByte() << 48) & 0xff000000000000L)
-                        | (((long) readBuffer.readByte() << 40) & 0xff0000000000L)
-                        | (((long) readBuffer.readByte() << 32) & 0xff00000000L)
-                        | (((long) readBuffer.readByte() << 24) & 0xff000000L)
-                        | (((long) readBuffer.readByte() << 16) & 0xff0000L)
-                        | (((long) readBuffer.readByte() << 8) & 0xff00L)
-                        | ((long) readBuffer.readByte() & 0xffL);
+        readBuffer.readLongs(value, offset, length, swap_);
     }
 
     public void read_ulonglong_array(long[] value, int offset, int length) {
@@ -1208,10 +1233,7 @@ final public class InputStream extends InputStreamWithOffsets {
         if (readBuffer.available() < length * 4)
             throw newMarshalError(MinorReadFloatArrayOverflow);
 
-        if (swap_)
-            IntStream.range(offset, offset + length).forEach(i -> value[i] = Float.intBitsToFloat(readBuffer.readInt_LE()));
-        else
-            IntStream.range(offset, offset + length).forEach(i -> value[i] = Float.intBitsToFloat(readBuffer.readInt()));
+        readBuffer.readFloats(value, offset, length, swap_);
     }
 
     public void read_double_array(double[] value, int offset, int length) {
@@ -1223,19 +1245,7 @@ final public class InputStream extends InputStreamWithOffsets {
         if (readBuffer.available() < length * 8)
             throw newMarshalError(MinorReadDoubleArrayOverflow);
 
-        if (swap_) {
-            for (int i = offset; i < offset + length; i++) {
-                long v = ((long) readBuffer.readByte() & 0xffL) | (((long) readBuffer.readByte() << 8) & 0xff00L) | (((long) readBuffer.readByte() << 16) & 0xff0000L) | (((long) readBuffer.readByte() << 24) & 0xff000000L) | (((long) readBuffer.readByte() << 32) & 0xff00000000L) | (((long) readBuffer.readByte() << 40) & 0xff0000000000L) | (((long) readBuffer.readByte() << 48) & 0xff000000000000L) | ((long) readBuffer.readByte() << 56);
-
-                value[i] = Double.longBitsToDouble(v);
-            }
-        } else {
-            for (int i = offset; i < offset + length; i++) {
-                long v = ((long) readBuffer.readByte() << 56) | (((long) readBuffer.readByte() << 48) & 0xff000000000000L) | (((long) readBuffer.readByte() << 40) & 0xff0000000000L) | (((long) readBuffer.readByte() << 32) & 0xff00000000L) | (((long) readBuffer.readByte() << 24) & 0xff000000L) | (((long) readBuffer.readByte() << 16) & 0xff0000L) | (((long) readBuffer.readByte() << 8) & 0xff00L) | ((long) readBuffer.readByte() & 0xffL);
-
-                value[i] = Double.longBitsToDouble(v);
-            }
-        }
+        readBuffer.readDoubles(value, offset, length, swap_);
     }
 
     public org.omg.CORBA.Object read_Object() {
@@ -1500,6 +1510,7 @@ final public class InputStream extends InputStreamWithOffsets {
 
         charReaderRequired_ = false;
         charConversionRequired_ = false;
+        charReaderUtf8_ = false;
         wCharReaderRequired_ = false;
         wCharConversionRequired_ = false;
 
@@ -1509,6 +1520,7 @@ final public class InputStream extends InputStreamWithOffsets {
             if (codeConverters_.inputCharConverter != null) {
                 charReaderRequired_ = codeConverters_.inputCharConverter.readerRequired();
                 charConversionRequired_ = codeConverters_.inputCharConverter.conversionRequired();
+                charReaderUtf8_ = codeConverters_.inputCharConverter.getSourceCodeSet() == CodeSetInfo.UTF_8;
             }
 
             if (codeConverters_.inputWcharConverter != null) {
@@ -1562,11 +1574,11 @@ final public class InputStream extends InputStreamWithOffsets {
     public void _OB_ORBInstance(ORBInstance orbInstance) {
         orbInstance_ = orbInstance;
 
-        if (orbInstance_ != null && orbInstance_.useTypeCodeCache()) {
+        if (orbInstance_ != null) {
             //
             // Get the TypeCodeCache of this ORBInstance
             //
-            cache_ = TypeCodeCache.instance();
+            cache_ = orbInstance_.getTypeCodeCache();
         }
     }
 
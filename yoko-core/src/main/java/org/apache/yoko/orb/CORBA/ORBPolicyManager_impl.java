@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.CORBA;
 
+import org.apache.yoko.orb.OB.RefCountPolicyList;
 import org.omg.CORBA.BAD_PARAM;
 import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.Policy;
@@ -28,11 +29,42 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 final public class ORBPolicyManager_impl extends LocalObject implements PolicyManager {
     private final PolicyMap policies;
+    /** Incremented by every call to set_policy_overrides, guarded by this */
+    private long version;
+    /**
+     * The effective ORB policies, shared by every reference and upcall.
+     * It is discarded whenever the policies change, and recomputed when next needed.
+     */
+    private volatile Snapshot snapshot;
+
+    /** An immutable view of the ORB policies as they stood at one version of the policy manager. */
+    public static final class Snapshot {
+        /** The version of the policy manager this snapshot was taken at */
+        public final long version;
+        /** The policies, which must not be modified */
+        public final RefCountPolicyList policies;
+
+        private Snapshot(long version, RefCountPolicyList policies) {
+            this.version = version;
+            this.policies = policies;
+        }
+    }
 
     public ORBPolicyManager_impl(PolicyMap policies) {
         this.policies = new PolicyMap(policies);
     }
 
+    /** @return the current ORB policies */
+    public Snapshot _OB_snapshot() {
+        final Snapshot result = snapshot;
+        return result == null ? takeSnapshot() : result;
+    }
+
+    private synchronized Snapshot takeSnapshot() {
+        if (snapshot == null) snapshot = new Snapshot(version, new RefCountPolicyList(policies.getAllPolicies()));
+        return snapshot;
+    }
+
     public synchronized Policy[] get_policy_overrides(int[] ts) {
         // if an empty array was passed in, return EVERYTHING
         if (ts.length == 0) return policies.getAllPolicies();
@@ -46,5 +78,7 @@ final public class ORBPolicyManager_impl extends LocalObject implements PolicyMa
         if (newPolicies.size() < newPolicyArr.length) throw new BAD_PARAM(MinorDuplicatePolicyType, COMPLETED_NO);
         if (set_add == SetOverrideType.SET_OVERRIDE) policies.clear();
         policies.putAll(newPolicies);
+        version++;
+        snapshot = null;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ package org.apache.yoko.orb.CORBA;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.orb.OB.CodeConverterBase;
 import org.apache.yoko.orb.OB.CodeConverters;
+import org.apache.yoko.orb.OB.CodeSetInfo;
 import org.apache.yoko.orb.OB.CodeSetWriter;
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.TypeCodeFactory;
@@ -53,6 +54,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Vector;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static org.apache.yoko.util.Assert.ensure;
@@ -67,6 +69,7 @@ import static org.apache.yoko.io.AlignmentBoundary.FOUR_BYTE_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.NO_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.TWO_BYTE_BOUNDARY;
 import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_0;
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_YES;
 import static org.omg.CORBA.TCKind._tk_Principal;
@@ -120,6 +123,8 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
     private boolean charConversionRequired_;
 
+    private boolean charWriterUtf8_;
+
     private boolean wCharWriterRequired_;
 
     private boolean wCharConversionRequired_;
@@ -136,6 +141,20 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
     private Object delegateContext_;
     private Timeout timeout = Timeout.NEVER;
 
+    /** Sends on the leading part of a message while the rest of it is still being written */
+    public interface FragmentSink {
+        /**
+         * @param head  the bytes to send, a multiple of eight bytes long
+         * @param first true iff this is the start of the message, including the space reserved for its header
+         */
+        void send(byte[] head, boolean first);
+    }
+
+    // When streaming, the written data is passed to the sink whenever it grows beyond the fragment size
+    private FragmentSink fragmentSink_;
+    private int fragmentSize_;
+    private int flushedTo_; // the position up to which data has been passed to the sink
+
     private SimplyCloseable recordLength() {
         addCapacity(4, FOUR_BYTE_BOUNDARY);
         return writeBuffer.recordLength(LOGGER);
@@ -162,7 +181,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
             }
         }
 
-        LOGGER.finest("Writing a type code of type " + tc.kind().value());
+        if (LOGGER.isLoggable(Level.FINEST)) LOGGER.finest("Writing a type code of type " + tc.kind().value());
 
         // For performance reasons, handle the primitive TypeCodes first
         switch (tc.kind().value()) {
@@ -192,7 +211,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (indirectionPos != null) {
             write_long(-1);
             int offs = indirectionPos - writeBuffer.getPosition();
-            LOGGER.finest("Writing an indirect type code for offset " + offs);
+            if (LOGGER.isLoggable(Level.FINEST)) LOGGER.finest("Writing an indirect type code for offset " + offs);
             write_long(offs);
         } else {
             write_ulong(tc.kind().value());
@@ -399,7 +418,21 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         return valueWriter_;
     }
 
+    private void checkFlush(int size) {
+        if (writeBuffer.getPosition() - flushedTo_ + size <= fragmentSize_) return;
+        // never flush data that might still be written back, such as a length or a chunk size
+        if (!writeBuffer.canFlush()) return;
+        if (valueWriter_ != null && valueWriter_.isChunking()) return;
+        // keep fragments a multiple of eight bytes so that alignment is preserved
+        final int newStart = writeBuffer.getPosition() & ~7;
+        if (newStart <= flushedTo_ + 16) return;
+        final boolean first = flushedTo_ == 0;
+        flushedTo_ = newStart;
+        fragmentSink_.send(writeBuffer.flushTo(newStart), first);
+    }
+
     private void addCapacity(int size) {
+        if (fragmentSink_ != null) checkFlush(size);
         if (atEndOfGiop_1_2_Header) {
             atEndOfGiop_1_2_Header = false;
             addCapacity(size, EIGHT_BYTE_BOUNDARY);
@@ -429,6 +462,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
     private void addCapacity(int size, AlignmentBoundary boundary) {
         Assert.ensure(boundary != NO_BOUNDARY);
+        if (fragmentSink_ != null) checkFlush(size + 7);
 
         //
         // If we're at the end of the current buffer, then we are about
@@ -623,7 +657,20 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
     }
 
     public void write_string(String value) {
-        LOGGER.finest("Writing string value " + value);
+        if (LOGGER.isLoggable(Level.FINEST)) LOGGER.finest("Writing string value " + value);
+        if (!charConversionRequired_ && (!charWriterRequired_ || charWriterUtf8_)) {
+            // Where every char fits in a single byte, copy the string straight into the buffer.
+            // UTF-8 only qualifies when the whole string is ASCII; anything else takes the slow path.
+            final int len = value.length();
+            int bits = 0;
+            for (int i = 0; i < len; i++) bits |= value.charAt(i);
+            if (bits <= (charWriterRequired_ ? 0x7f : 0xff)) {
+                write_ulong(len + 1); // writes the length and ensures a two-byte boundary alignment
+                addCapacity(len + 1);
+                writeBuffer.writeLatin1(value).writeByte(0);
+                return;
+            }
+        }
         final char[] arr = value.toCharArray();
         final CodeConverterBase converter = codeConverters_.outputCharConverter;
 
@@ -671,7 +718,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         final char[] arr = value.toCharArray();
         final int len = arr.length;
 
-        LOGGER.finest("Writing wstring value " + value);
+        if (LOGGER.isLoggable(Level.FINEST)) LOGGER.finest("Writing wstring value " + value);
         //
         // get converter/writer instance
         //
@@ -815,6 +862,13 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
     public void write_octet_array(byte[] value, int offset, int length) {
         if (length <= 0) return;
+        // when streaming, write large arrays a fragment at a time so they need not be buffered whole
+        if (fragmentSink_ != null) {
+            for (; length > fragmentSize_; offset += fragmentSize_, length -= fragmentSize_) {
+                addCapacity(fragmentSize_);
+                writeBuffer.writeBytes(value, offset, fragmentSize_);
+            }
+        }
         addCapacity(length);
         writeBuffer.writeBytes(value, offset, length);
     }
@@ -823,9 +877,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (length > 0) {
             addCapacity(length * 2, TWO_BYTE_BOUNDARY);
 
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeShort(value[i]);
-            }
+            writeBuffer.writeShorts(value, offset, length);
         }
     }
 
@@ -837,9 +889,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (length > 0) {
             addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
 
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeInt(value[i]);
-            }
+            writeBuffer.writeInts(value, offset, length);
         }
     }
 
@@ -851,9 +901,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (length > 0) {
             addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
 
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeLong(value[i]);
-            }
+            writeBuffer.writeLongs(value, offset, length);
         }
     }
 
@@ -865,11 +913,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (length > 0) {
             addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
 
-            for (int i = offset; i < offset + length; i++) {
-                int v = Float.floatToIntBits(value[i]);
-
-                writeBuffer.writeInt(v);
-            }
+            writeBuffer.writeFloats(value, offset, length);
         }
     }
 
@@ -877,11 +921,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         if (length > 0) {
             addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
 
-            for (int i = offset; i < offset + length; i++) {
-                long v = Double.doubleToLongBits(value[i]);
-
-                writeBuffer.writeLong(v);
-            }
+            writeBuffer.writeDoubles(value, offset, length);
         }
     }
 
@@ -914,7 +954,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
     }
 
     public void write_any(org.omg.CORBA.Any value) {
-        LOGGER.finest("Writing an ANY value of type " + value.type().kind());
+        if (LOGGER.isLoggable(Level.FINEST)) LOGGER.finest("Writing an ANY value of type " + value.type().kind());
         write_TypeCode(value.type());
         value.write_value(this);
     }
@@ -1008,7 +1048,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
     public void write_InputStream(final org.omg.CORBA.portable.InputStream in, org.omg.CORBA.TypeCode tc) {
         try {
-            LOGGER.fine("writing a value of type " + tc.kind().value());
+            if (LOGGER.isLoggable(Level.FINE)) LOGGER.fine("writing a value of type " + tc.kind().value());
 
             switch (tc.kind().value()) {
                 case _tk_null:
@@ -1535,6 +1575,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
 
         charWriterRequired_ = false;
         charConversionRequired_ = false;
+        charWriterUtf8_ = false;
         wCharWriterRequired_ = false;
         wCharConversionRequired_ = false;
 
@@ -1544,6 +1585,7 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
             if (codeConverters_.outputCharConverter != null) {
                 charWriterRequired_ = codeConverters_.outputCharConverter.writerRequired();
                 charConversionRequired_ = codeConverters_.outputCharConverter.conversionRequired();
+                charWriterUtf8_ = codeConverters_.outputCharConverter.getDestinationCodeSet() == CodeSetInfo.UTF_8;
             }
 
             if (codeConverters_.outputWcharConverter != null) {
@@ -1580,6 +1622,28 @@ public final class OutputStream extends org.omg.CORBA_2_3.portable.OutputStream
         writeBuffer.setPosition(pos);
     }
 
+    /**
+     * Start streaming this message: whenever the unsent data would grow beyond the fragment size,
+     * as much of it as can safely be sent is passed to the sink and removed from this stream.
+     * Only GIOP 1.2 messages may be streamed, since the sink must send each part as a fragment.
+     */
+    public void _OB_streamFragments(FragmentSink sink, int fragmentSize) {
+        Assert.ensure(giopVersion_ == GIOP1_2);
+        fragmentSink_ = sink;
+        fragmentSize_ = fragmentSize;
+    }
+
+    /** @return true iff the start of this message has already been passed to a fragment sink */
+    public boolean _OB_fragmented() {
+        return flushedTo_ > 0;
+    }
+
+    /** Stop streaming and remove the data not yet passed to the fragment sink */
+    public byte[] _OB_takeUnflushedBytes() {
+        fragmentSink_ = null;
+        return writeBuffer.flushTo(writeBuffer.getPosition());
+    }
+
     public void markGiop_1_2_HeaderComplete() {
         this.atEndOfGiop_1_2_Header = true;
     }
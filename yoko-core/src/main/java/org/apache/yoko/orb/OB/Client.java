@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ public abstract class Client {
     public static final int Blocking = 0;
     public static final int Threaded = 2;
     private final String label = ObjectUtil.getNextObjectLabel(this.getClass());
+    private static final int RETIRED = -1;
     private final AtomicInteger users = new AtomicInteger(0);
     private final CodeConverters codeConverters;
     final int concurrencyModel;
@@ -50,15 +51,29 @@ public abstract class Client {
         Assert.ensure(count > 0);
     }
 
+    /**
+     * Start using this client unless it has already been released by its last user.
+     *
+     * @return true iff the client was obtained
+     */
+    final boolean tryObtain() {
+        for (int count = users.get(); count >= 0; count = users.get()) {
+            if (users.compareAndSet(count, count + 1)) return true;
+        }
+        return false;
+    }
+
     /**
      * Stop using this client on a particular thread.
+     * Once the last user has released a client it can no longer be obtained with {@link #tryObtain()}.
      *
      * @return true iff the client is no longer in use by any threads
      */
     public final boolean release() {
         int count = users.decrementAndGet();
         Assert.ensure(count >= 0);
-        return count == 0;
+        // a concurrent tryObtain() may revive the client before it is retired
+        return count == 0 && users.compareAndSet(0, RETIRED);
     }
 
     final CodeConverters codeConverters() {
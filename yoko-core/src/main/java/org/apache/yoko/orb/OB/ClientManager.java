@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
  */
 package org.apache.yoko.orb.OB;
 
-import static java.util.Collections.synchronizedSet;
 import static org.apache.yoko.orb.exceptions.Transients.NO_USABLE_PROFILE_IN_IOR;
 import static org.apache.yoko.util.MinorCodes.MinorORBDestroyed;
 import static org.apache.yoko.util.MinorCodes.describeInitialize;
@@ -27,6 +26,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,19 +48,61 @@ import org.omg.BiDirPolicy.BidirectionalPolicyHelper;
 import org.omg.CORBA.INITIALIZE;
 import org.omg.CORBA.INV_OBJREF;
 import org.omg.CORBA.Policy;
+import org.omg.CORBA.SystemException;
 import org.omg.IOP.IOR;
 import org.omg.PortableServer.POAManagerPackage.AdapterInactive;
 import org.omg.PortableServer.POAManagerPackage.State;
 
 public final class ClientManager {
     static final Logger logger = Logger.getLogger(ClientManager.class.getName());
-    private boolean destroyed; // True if destroy() was called
+    private volatile boolean destroyed; // True if destroy() was called
 
-    private ORBInstance orbInstance;
+    private volatile ORBInstance orbInstance;
 
-    private Set<Client> allClients = synchronizedSet(new HashSet<Client>());
+    private final Set<Client> allClients = ConcurrentHashMap.newKeySet();
 
-    private Set<Client> reusableClients = synchronizedSet(new HashSet<Client>());
+    /** Reusable clients indexed by endpoint, so that a bind to a connected endpoint needs no global lock */
+    private final ConcurrentMap<ClientKey, Client> reusableClients = new ConcurrentHashMap<>();
+
+    /** The index key of each reusable client, so that it can be removed cheaply */
+    private final ConcurrentMap<Client, ClientKey> reusableKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a reusable client by its connector and code converters,
+     * which is exactly what {@link GIOPClient#matches(Client)} compares.
+     */
+    private static final class ClientKey {
+        final Connector connector;
+        final CodeConverters conv;
+        final int hash;
+
+        private ClientKey(Connector connector, CodeConverters conv, int hash) {
+            this.connector = connector;
+            this.conv = conv;
+            this.hash = hash;
+        }
+
+        /** @return a key for the connector, or null if its endpoint cannot be hashed */
+        static ClientKey of(Connector connector, CodeConverters conv) {
+            try {
+                return new ClientKey(connector, conv, 31 * connector.get_info().hashCode() + conv.hashCode());
+            } catch (SystemException e) {
+                // e.g. the host could not be resolved - let the connection attempt report it
+                return null;
+            }
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClientKey)) return false;
+            ClientKey that = (ClientKey) o;
+            return hash == that.hash && conv.equals(that.conv) && connector.equal(that.connector);
+        }
+    }
 
     //
     // The concurrency model with which new Clients are created
@@ -74,6 +117,7 @@ public final class ClientManager {
         Assert.ensure(destroyed);
         Assert.ensure(allClients.isEmpty());
         Assert.ensure(reusableClients.isEmpty());
+        Assert.ensure(reusableKeys.isEmpty());
 
         super.finalize();
     }
@@ -106,6 +150,7 @@ public final class ClientManager {
         orbInstance = null;
         allClients.clear();
         reusableClients.clear();
+        reusableKeys.clear();
     }
 
     // ----------------------------------------------------------------------
@@ -124,7 +169,7 @@ public final class ClientManager {
     //
     // Get a list of ClientProfilePairs for an IOR and a list of policies
     //
-    public synchronized Vector<ClientProfilePair> getClientProfilePairs(IOR ior, Policy[] policies) {
+    public Vector<ClientProfilePair> getClientProfilePairs(IOR ior, Policy[] policies) {
         Assert.ensure(ior.type_id != null);
 
         //
@@ -138,7 +183,8 @@ public final class ClientManager {
         // The ORB destroys this object, so it's an initialization error
         // if this operation is called after ORB destruction
         //
-        if (destroyed) {
+        final ORBInstance orbInstance = this.orbInstance;
+        if (destroyed || orbInstance == null) {
             throw new INITIALIZE(describeInitialize(MinorORBDestroyed),
                     MinorORBDestroyed,
                     COMPLETED_NO);
@@ -227,34 +273,14 @@ public final class ClientManager {
         }
 
         //
-        // If connection reuse is permitted, add all existing reusable
-        // clients which are usable for the given IOR and policies
+        // Reusable clients obtained from the index are pinned until the
+        // pairs have been counted, so that a concurrent release by their
+        // last user cannot destroy them in the meantime
         //
-        if (reuseConnections) {
-            for (Client reusableClient : reusableClients) {
-
-                //
-                // Skip any client whose protocol is not present in the
-                // protocol list
-                //
-                if (protocolPolicy != null) {
-                    ConnectorInfo info = reusableClient.connectorInfo();
-                    if (info != null && !protocolPolicy.contains(info.id())) {
-                        continue;
-                    }
-                }
-
-                for (ProfileInfo profileInfo : reusableClient.getUsableProfiles(ior, policies)) {
-                    ClientProfilePair pair = new ClientProfilePair();
-                    pair.client = reusableClient;
-                    pair.profile = profileInfo;
-                    pairs.addElement(pair);
-                }
-            }
-        }
+        Set<Client> pinned = new HashSet<>();
 
         //
-        // Finally, create new GIOPClients for all connectors we can get
+        // Finally, find or create GIOPClients for all connectors we can get
         //
         ConFactoryRegistry conFactoryRegistry = orbInstance.getConFactoryRegistry();
         ConFactory[] factories = conFactoryRegistry.get_factories();
@@ -287,6 +313,19 @@ public final class ClientManager {
                 for (ProfileInfo profileInfo: profileInfos) {
                     CodeConverters conv = CodeSetUtil.getCodeConverters(orbInstance, profileInfo);
 
+                    //
+                    // If connection reuse is permitted, look for an
+                    // existing client for the same endpoint
+                    //
+                    ClientKey key = reuseConnections ? ClientKey.of(connector, conv) : null;
+                    if (key != null) {
+                        Client reusableClient = obtainReusableClient(key, pinned);
+                        if (reusableClient != null) {
+                            if (!containsClient(pairs, reusableClient)) addPairs(pairs, reusableClient, ior, policies);
+                            continue;
+                        }
+                    }
+
                     Client newClient = new GIOPClient(orbInstance, connector, concModel_, conv, enableBidir);
 
                     if (!pairs.isEmpty()) {
@@ -305,21 +344,29 @@ public final class ClientManager {
                         }
                     }
 
+                    // If no private clients have been requested, also add the
+                    // client to the index of existing reusable clients,
+                    // unless another thread has just indexed an equivalent one
+                    if (key != null) {
+                        newClient.obtain();
+                        Client existing = reusableClients.putIfAbsent(key, newClient);
+                        if (existing == null) reusableKeys.put(newClient, key);
+                        Client reusableClient = existing == null ? null : obtainReusableClient(key, pinned);
+                        if (reusableClient != null) {
+                            newClient.destroy();
+                            if (!containsClient(pairs, reusableClient)) addPairs(pairs, reusableClient, ior, policies);
+                            continue;
+                        }
+                        // if the indexed client was retired meanwhile, use the new one privately
+                        pinned.add(newClient);
+                    }
+
                     allClients.add(newClient);
 
                     //
                     // Add client/profile pairs
                     //
-                    for (ProfileInfo clientProfileInfo : newClient.getUsableProfiles(ior, policies)) {
-                        ClientProfilePair pair = new ClientProfilePair();
-                        pair.client = newClient;
-                        pair.profile = clientProfileInfo;
-                        pairs.addElement(pair);
-                    }
-
-                    // If no private clients have been requested, also add the
-                    // client to the list of existing reusable clients
-                    if (reuseConnections) reusableClients.add(newClient);
+                    addPairs(pairs, newClient, ior, policies);
                 }
             }
         }
@@ -360,6 +407,14 @@ public final class ClientManager {
             pairs = newPairs;
         }
 
+        //
+        // Increment the usage count on all clients, then unpin
+        //
+        for (ClientProfilePair pair : pairs) {
+            pair.client.obtain();
+        }
+        for (Client client : pinned) releaseClient(client);
+
         //
         // If we still don't have any client/profile pairs, throw a
         // TRANSIENT exception
@@ -367,17 +422,42 @@ public final class ClientManager {
         if (pairs.isEmpty()) {
             throw NO_USABLE_PROFILE_IN_IOR.create();
         }
+        return pairs;
+    }
 
-        //
-        // Increment the usage count on all clients
-        //
-        for (ClientProfilePair pair : pairs) {
-            pair.client.obtain();
+    /**
+     * Find and pin the indexed client for an endpoint.
+     * @return the pinned client, or null if there is no live client for the endpoint
+     */
+    private Client obtainReusableClient(ClientKey key, Set<Client> pinned) {
+        final Client client = reusableClients.get(key);
+        if (client == null) return null;
+        if (pinned.contains(client)) return client;
+        if (!client.tryObtain()) return null;
+        // the client may have been besmirched after it was looked up
+        if (reusableClients.get(key) != client) {
+            releaseClient(client);
+            return null;
+        }
+        pinned.add(client);
+        return client;
+    }
+
+    private static boolean containsClient(Vector<ClientProfilePair> pairs, Client client) {
+        for (ClientProfilePair pair : pairs) if (pair.client == client) return true;
+        return false;
+    }
+
+    private static void addPairs(Vector<ClientProfilePair> pairs, Client client, IOR ior, Policy[] policies) {
+        for (ProfileInfo profileInfo : client.getUsableProfiles(ior, policies)) {
+            ClientProfilePair pair = new ClientProfilePair();
+            pair.client = client;
+            pair.profile = profileInfo;
+            pairs.addElement(pair);
         }
-        return pairs;
     }
 
-    public synchronized void releaseClient(Client client) {
+    public void releaseClient(Client client) {
         // The ORB destroys this object, so it's an initialization error
         // if this operation is called after ORB destruction
         if (destroyed) return;
@@ -387,13 +467,14 @@ public final class ClientManager {
     /**
      * Instructs the client manager never to reuse a client or expect any further notification regarding it
      */
-    public synchronized void besmirchClient(Client client) {
+    public void besmirchClient(Client client) {
         if (logger.isLoggable(Level.FINE)) logger.fine("Client besmirched: " + client);
         destroyClient(client);
     }
 
     private void destroyClient(Client client) {
-        reusableClients.remove(client);
+        ClientKey key = reusableKeys.remove(client);
+        if (key != null) reusableClients.remove(key, client);
         allClients.remove(client);
         client.destroy();
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.util.Reference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * The outbound connections that one client stripes its requests across, and the choice between them.
+ * <br>
+ * Only the first connection is open to begin with. Another is opened when the choice falls on it:
+ * the caller connects it without holding any lock, and then {@link #publish publishes} it here,
+ * unless another thread has published that stripe first or the stripes have been closed.
+ */
+final class ConnectionStripes<C> {
+    private final List<C> connections;
+    /** the references to release on close, which do not include the first connection's */
+    private final List<Reference<C>> refs;
+    private final boolean roundRobin;
+    private final ToIntFunction<? super C> load;
+    private int next;
+    private boolean closed;
+
+    /**
+     * @param first the first connection, which the caller keeps its own reference to
+     * @param load reports the number of outstanding requests on a connection
+     */
+    ConnectionStripes(int count, boolean roundRobin, ToIntFunction<? super C> load, C first) {
+        this.connections = new ArrayList<>(Collections.nCopies(count, null));
+        this.refs = new ArrayList<>(Collections.nCopies(count, null));
+        this.roundRobin = roundRobin;
+        this.load = load;
+        connections.set(0, first);
+    }
+
+    int size() { return connections.size(); }
+
+    /**
+     * Round-robin selection takes each stripe in turn.
+     * Least-outstanding selection only chooses a stripe that is not yet open when every open one is busy.
+     * @return the index of the stripe to use for the next request
+     */
+    synchronized int choose() {
+        if (roundRobin) {
+            final int chosen = next;
+            next = (next + 1) % connections.size();
+            return chosen;
+        }
+        int chosen = 0;
+        int least = Integer.MAX_VALUE;
+        for (int i = 0; i < connections.size(); i++) {
+            final C connection = connections.get(i);
+            if (connection == null) {
+                if (least > 0) chosen = i;
+                break;
+            }
+            final int outstanding = load.applyAsInt(connection);
+            if (outstanding < least) {
+                least = outstanding;
+                chosen = i;
+            }
+        }
+        return chosen;
+    }
+
+    /** @return the open connection for the stripe, or <code>null</code> if it has not been published */
+    synchronized C get(int stripe) { return connections.get(stripe); }
+
+    /**
+     * Publish a newly opened connection for a stripe. If it cannot be published, the reference is closed.
+     * @return the connection published for the stripe, which is another thread's if it got there first,
+     *         or <code>null</code> if the stripes have been closed
+     */
+    C publish(int stripe, Reference<C> ref) {
+        final C published;
+        synchronized (this) {
+            if (!closed && connections.get(stripe) == null) {
+                refs.set(stripe, ref);
+                connections.set(stripe, ref.get());
+                return ref.get();
+            }
+            published = closed ? null : connections.get(stripe);
+        }
+        ref.close();
+        return published;
+    }
+
+    /** Release every connection published since the first. Nothing more can be published afterwards. */
+    void close() {
+        final List<Reference<C>> toClose;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            toClose = new ArrayList<>(refs);
+        }
+        for (Reference<C> ref : toClose) if (ref != null) ref.close();
+    }
+}
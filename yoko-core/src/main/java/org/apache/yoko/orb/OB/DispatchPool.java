@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+/**
+ * A pool of threads that a thread pool dispatch strategy hands its requests to.
+ */
+interface DispatchPool {
+    /** Queue a request for dispatch, or reject it with a system exception */
+    void add(DispatchRequest request);
+
+    /** Stop accepting requests and wait for the pool threads to end */
+    void destroy();
+
+    /** @return a snapshot of the pool's activity */
+    ThreadPoolMetrics metrics();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,8 @@ import java.util.Vector;
 import java.util.logging.Logger;
 
 import static java.util.logging.Logger.getLogger;
+import static org.apache.yoko.orb.OB.WorkStealingThreadPool.Overflow.CALLER_RUNS;
+import static org.apache.yoko.orb.OB.WorkStealingThreadPool.Overflow.REJECT;
 import static org.apache.yoko.util.MinorCodes.*;
 import static org.omg.CORBA.CompletionStatus.*;
 
@@ -104,7 +106,7 @@ final class DispatchThreadPerRequest_impl extends LocalObject implements Dispatc
 final class DispatchThreadPool_impl extends LocalObject implements DispatchStrategy {
     private final int id_;
 
-    private final ThreadPool pool_;
+    private final DispatchPool pool_;
 
     // ------------------------------------------------------------------
     // Standard IDL to Java Mapping
@@ -129,7 +131,7 @@ final class DispatchThreadPool_impl extends LocalObject implements DispatchStrat
     // Application programs must not use these functions directly
     // ------------------------------------------------------------------
 
-    DispatchThreadPool_impl(int id, ThreadPool pool) {
+    DispatchThreadPool_impl(int id, DispatchPool pool) {
         id_ = id;
         pool_ = pool;
     }
@@ -141,7 +143,7 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
     // A sequence of thread pools. The index in the sequence is the
     // thread pool id.
     //
-    private final Vector<ThreadPool> pools_ = new Vector<>();
+    private final Vector<DispatchPool> pools_ = new Vector<>();
 
     //
     // Has the default thread pool been created yet?
@@ -176,6 +178,17 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
             throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
         }
 
+        int i = nextFreeSlot();
+
+        //
+        // Allocate a new ThreadPool
+        //
+        pools_.setElementAt(new ThreadPool(i, nthreads), i);
+
+        return i;
+    }
+
+    private int nextFreeSlot() {
         //
         // Find the first empty thread pool
         //
@@ -192,12 +205,6 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         if (i >= pools_.size()) {
             pools_.addElement(null);
         }
-
-        //
-        // Allocate a new ThreadPool
-        //
-        pools_.setElementAt(new ThreadPool(i, nthreads), i);
-
         return i;
     }
 
@@ -310,8 +317,7 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
                         if (nthreads == 0) {
                             nthreads = 10;
                         }
-                        logger.fine("Creating a thread pool of size " + nthreads);
-                        defaultThreadPool_ = create_thread_pool(nthreads);
+                        defaultThreadPool_ = createDefaultThreadPool(properties, nthreads);
                     }
                     try {
                         logger.fine("Using a thread pool dispatch strategy");
@@ -336,6 +342,64 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         return create_thread_per_request_strategy();
     }
 
+    private int createDefaultThreadPool(Properties properties, int nthreads) {
+        String type = properties.getProperty("yoko.orb.oa.thread_pool.type", "fixed");
+        switch (type) {
+            case "work_stealing":
+                int queueLimit = Integer.parseInt(properties.getProperty("yoko.orb.oa.thread_pool.queue_limit", "0"));
+                String overflow = properties.getProperty("yoko.orb.oa.thread_pool.overflow", "reject");
+                if (!overflow.equals("reject") && !overflow.equals("caller_runs")) {
+                    orbInstance_.getLogger().warning("yoko.orb.oa.thread_pool.overflow: Unknown value `" + overflow + "'");
+                }
+                logger.fine("Creating a work-stealing thread pool of size " + nthreads + " with queue limit " + queueLimit + " and overflow policy " + overflow);
+                return create_work_stealing_thread_pool(nthreads, queueLimit, overflow.equals("caller_runs"));
+            case "fixed":
+                break;
+            default:
+                orbInstance_.getLogger().warning("yoko.orb.oa.thread_pool.type: Unknown value `" + type + "'");
+                break;
+        }
+        logger.fine("Creating a thread pool of size " + nthreads);
+        return create_thread_pool(nthreads);
+    }
+
+    // ------------------------------------------------------------------
+    // Yoko extensions
+    // ------------------------------------------------------------------
+
+    /**
+     * Create a work-stealing thread pool with a bounded queue.
+     * The returned id can be passed to {@link #create_thread_pool_strategy(int)}
+     * and {@link #destroy_thread_pool(int)} like that of any other thread pool.
+     *
+     * @param nthreads   the number of threads in the pool
+     * @param queueLimit the maximum number of requests waiting for a thread, or zero for no limit
+     * @param callerRuns if true, a request that would exceed the limit is run by the submitting thread;
+     *                   otherwise it is rejected with <code>TRANSIENT</code>
+     * @return the thread pool id
+     */
+    public synchronized int create_work_stealing_thread_pool(int nthreads, int queueLimit, boolean callerRuns) {
+        //
+        // The ORB destroys this object, so it's an initialization
+        // error if this operation is called after ORB destruction
+        //
+        if (destroy_) {
+            throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
+        }
+
+        int i = nextFreeSlot();
+        pools_.setElementAt(new WorkStealingThreadPool(i, nthreads, queueLimit, callerRuns ? CALLER_RUNS : REJECT), i);
+        return i;
+    }
+
+    /** @return a snapshot of the activity of the thread pool with the given id */
+    public synchronized ThreadPoolMetrics thread_pool_metrics(int id) throws InvalidThreadPool {
+        if (id < 0 || id >= pools_.size() || pools_.elementAt(id) == null) {
+            throw new InvalidThreadPool();
+        }
+        return pools_.elementAt(id).metrics();
+    }
+
     // ------------------------------------------------------------------
     // Yoko internal functions
     // Application programs must not use these functions directly
@@ -363,7 +427,7 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         // Destroy each of the thread pools
         //
         for (int i = 0; i < pools_.size(); i++) {
-            ThreadPool pool = pools_.elementAt(i);
+            DispatchPool pool = pools_.elementAt(i);
             if (pool != null) {
                 pool.destroy();
                 pools_.setElementAt(null, i);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -76,6 +76,12 @@ final class GIOPClient extends Client {
     /** The connection cache reference to release on destroy().  */
     private Reference<GIOPConnection> connectionRef;
 
+    /**
+     * All the outbound connections to stripe requests across, starting with connection_,
+     * when the ORB allows more than one per endpoint. Further connections are only opened when needed.
+     */
+    private ConnectionStripes<GIOPConnection> stripes_;
+
     /** Codesets SC */
     protected ServiceContext codeSetSC_;
 
@@ -141,7 +147,7 @@ final class GIOPClient extends Client {
             connectionRef = connCache.getOrCreate(connector_.get_info(), new Factory<GIOPConnection>() {
                 @Override
                 public GIOPConnection create() {
-                    return createOutboundConnection(timeout);
+                    return createOutboundConnection(timeout, 0);
                 }
             });
         } else {
@@ -149,6 +155,8 @@ final class GIOPClient extends Client {
         }
         connCache.clean();
         connection_ = connectionRef.get();
+        final int stripes = orbInstance_.getConnectionsPerEndpoint();
+        if (stripes > 1) stripes_ = new ConnectionStripes<>(stripes, orbInstance_.useRoundRobinConnections(), GIOPConnection::outstandingRequests, connection_);
 
         //
         // bidirWorker_ means that this connection may be used to
@@ -173,7 +181,37 @@ final class GIOPClient extends Client {
         if (CONN_OUT_LOG.isLoggable(FINE)) CONN_OUT_LOG.fine("reusing established bidir connection\n" + connection_.transport());
     }
 
-    private GIOPConnectionThreaded createOutboundConnection(int t) {
+    /**
+     * Choose the connection for the next request, opening another stripe if the ORB allows it and the choice calls for it.
+     * A new stripe is connected without holding this client's lock, and published once it is established.
+     */
+    private GIOPConnection selectWorker(int timeout) {
+        final GIOPConnection first = getWorker(true, timeout);
+        final ConnectionStripes<GIOPConnection> stripes;
+        synchronized (this) {
+            stripes = stripes_;
+        }
+        if (stripes == null) return first;
+        final int chosen = stripes.choose();
+        final GIOPConnection open = stripes.get(chosen);
+        if (open != null) return logChoice(chosen, open);
+
+        final Reference<GIOPConnection> ref = orbInstance_.getStripedConnectionCache().getOrCreate(
+                new OutboundConnectionKey(connector_.get_info(), chosen), () -> createOutboundConnection(timeout, chosen));
+        final GIOPConnection connection = ref.get();
+        final GIOPConnection published = stripes.publish(chosen, ref);
+        // the client was destroyed while the stripe was connecting, so the connection may already be gone
+        if (published == null) throw ACTIVE_CONNECTION_MANAGEMENT.create();
+        if (bidirWorker_ && published == connection) connection.activateServerSide();
+        return logChoice(chosen, published);
+    }
+
+    private GIOPConnection logChoice(int chosen, GIOPConnection connection) {
+        if (CONN_OUT_LOG.isLoggable(FINEST)) CONN_OUT_LOG.finest("using connection " + chosen + " of " + stripes_.size() + ": " + connection);
+        return connection;
+    }
+
+    private GIOPConnectionThreaded createOutboundConnection(int t, int stripe) {
         // Trace connection attempt
         if (CONN_OUT_LOG.isLoggable(FINE)) {
             String timeout = t >= 0 ? t + "ms" : "none";
@@ -209,7 +247,7 @@ final class GIOPClient extends Client {
         // Create new worker
         //
         Assert.ensure(concurrencyModel == Threaded);
-        return new GIOPConnectionThreaded(orbInstance_, transport, this);
+        return new GIOPConnectionThreaded(orbInstance_, transport, this, stripe);
     }
 
     // initialize internal service contexts
@@ -257,10 +295,16 @@ final class GIOPClient extends Client {
         if (destroy_) return;
         try (Reference<?> closeMe = connectionRef) {
             destroy_ = true;
+            // the first stripe is connectionRef itself
+            if (stripes_ != null) stripes_.close();
         }
     }
 
-    /** Get a new request ID */
+    /**
+     * Get a new request ID.
+     * A request is given its ID before a stripe is chosen for it, so striped connections draw their IDs
+     * from a counter shared by the whole ORB (see {@link ORBInstance#getOutboundRequestIds()}), not one per connection.
+     */
     public int getNewRequestID() {
         return connection_.getNewRequestId();
     }
@@ -308,7 +352,7 @@ final class GIOPClient extends Client {
         GIOPConnection connection;
         try {
             // Get the worker, creating a new one if there is none available
-            connection = getWorker(true, down.policies().connectTimeout);
+            connection = selectWorker(down.policies().connectTimeout);
         } catch (SystemException ex) {
             Assert.ensure(ex.completed == COMPLETED_NO);
             down.setFailureException(ex);
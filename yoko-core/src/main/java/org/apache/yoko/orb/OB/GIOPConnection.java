@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,6 @@ import org.apache.yoko.orb.IOP.ServiceContexts;
 import org.apache.yoko.orb.OBPortableServer.POAManagerFactory;
 import org.apache.yoko.orb.OBPortableServer.POAManager_impl;
 import org.apache.yoko.io.Buffer;
-import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.orb.OCI.GiopVersion;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.io.ReadBuffer;
@@ -31,6 +30,7 @@ import org.apache.yoko.orb.OCI.SendReceiveMode;
 import org.apache.yoko.orb.OCI.Transport;
 import org.apache.yoko.orb.exceptions.Transients;
 import org.apache.yoko.util.Assert;
+import org.apache.yoko.util.concurrent.TimerWheel;
 import org.omg.CONV_FRAME.CodeSetContext;
 import org.omg.CORBA.BooleanHolder;
 import org.omg.CORBA.COMM_FAILURE;
@@ -58,12 +58,13 @@ import org.omg.PortableServer.POAManager;
 import org.omg.SendingContext.CodeBase;
 
 import java.util.Properties;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.FINE;
 import static org.apache.yoko.orb.OB.Connection.State.ACTIVE;
 import static org.apache.yoko.orb.OB.Connection.State.CLOSED;
@@ -109,6 +110,9 @@ import static org.omg.GIOP.MsgType_1_1._LocateRequest;
 import static org.omg.GIOP.MsgType_1_1._MessageError;
 import static org.omg.GIOP.MsgType_1_1._Reply;
 import static org.omg.GIOP.MsgType_1_1._Request;
+import static org.omg.GIOP.ReplyStatusType_1_2.NO_EXCEPTION;
+import static org.omg.GIOP.ReplyStatusType_1_2.SYSTEM_EXCEPTION;
+import static org.omg.GIOP.ReplyStatusType_1_2.USER_EXCEPTION;
 
 abstract class GIOPConnection extends Connection implements DowncallEmitter, UpcallReturn {
     /** the next request id */
@@ -121,7 +125,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     Transport transport_ = null;
 
     /** Client parent (null if server-side only) */
-    private final ConnectorInfo outboundConnectionKey;
+    private final OutboundConnectionKey outboundConnectionKey;
 
     /** Object-adapter interface (null if client-side only) */
     private OAInterface oaInterface_ = null;
@@ -143,12 +147,13 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
 
     private int idleTimeout_ = 0;
 
-    /** timer used for ACM management */
-    Timer acmTimer_ = null;
+    /** the pending ACM idle timeout, if any */
+    private TimerWheel.Scheduled acmTimeout_ = null;
 
-    private CodeBase serverRuntime_;
+    /** incremented whenever the ACM idle timeout is cancelled, so a timeout that fires concurrently can tell */
+    private int acmGeneration_ = 0;
 
-    TimerTask acmTask_ = null;
+    private CodeBase serverRuntime_;
 
     // check if its compliant for this connection to send a
     // CloseConnection message to its peer
@@ -340,7 +345,10 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         // New upcall will be started
         if (response.value) upcallsInProgress_++;
 
-        orbInstance_.getLogger().fine("Processing request reqId=" + reqId + " op=" + op.value);
+        if (orbInstance_.getLogger().isDebugEnabled())
+            orbInstance_.getLogger().fine("Processing request reqId=" + reqId + " op=" + op.value);
+        RequestTrace trace = orbInstance_.getRequestTrace();
+        if (trace != null) trace.record(RequestTrace.Event.REQUEST_RECEIVED, reqId, op.value, null, msg.size(), -1);
 
         return oaInterface_.createUpcall(
                 response.value ? upcallReturnInterface() : null, profileInfo,
@@ -378,7 +386,10 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         // read in the peer's sending context runtime object
         assignSendingContextRuntime(in, contexts);
 
-        orbInstance_.getLogger().fine("Processing reply for reqId=" + reqId + " status=" + status.value.value());
+        if (orbInstance_.getLogger().isDebugEnabled())
+            orbInstance_.getLogger().fine("Processing reply for reqId=" + reqId + " status=" + status.value.value());
+        RequestTrace trace = orbInstance_.getRequestTrace();
+        if (trace != null) trace.record(RequestTrace.Event.REPLY_RECEIVED, reqId, down.operation(), status.value, msg.size(), -1);
 
         switch (status.value.value()) {
             case ReplyStatusType_1_2._NO_EXCEPTION:
@@ -631,7 +642,10 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         if (setState(newState) == false) return false;
 
         synchronized (this) {
-            orbInstance_.getOutboundConnectionCache().remove(outboundConnectionKey, this);
+            if (outboundConnectionKey == null || outboundConnectionKey.stripe == 0)
+                orbInstance_.getOutboundConnectionCache().remove(outboundConnectionKey == null ? null : outboundConnectionKey.info, this);
+            else
+                orbInstance_.getStripedConnectionCache().remove(outboundConnectionKey, this);
             // propagate any exceptions to the message queue
             messageQueue_.setException(ex, completed);
         }
@@ -664,38 +678,45 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     /** turn on ACM idle connection monitoring */
     synchronized void ACM_enableIdleMonitor() {
         if (idleTimeout_ > 0) {
-            acmTimer_ = new Timer(true);
-            acmTask_ = new TimerTask() {
-                public void run() {
-                    ACM_callback();
-                }
-            };
-
-            acmTimer_.schedule(acmTask_, idleTimeout_ * 1000);
+            ACM_disableIdleMonitor();
+            final int generation = acmGeneration_;
+            acmTimeout_ = orbInstance_.getTimer().schedule(() -> ACM_expired(generation), idleTimeout_, SECONDS);
         }
     }
 
     /** turn off ACM idle connection monitoring */
     synchronized void ACM_disableIdleMonitor() {
-        if (acmTimer_ != null) {
-            acmTimer_.cancel();
-            acmTimer_ = null;
+        acmGeneration_++;
+        if (acmTimeout_ != null) {
+            acmTimeout_.cancel();
+            acmTimeout_ = null;
         }
+    }
 
-        if (acmTask_ != null) {
-            acmTask_.cancel();
-            acmTask_ = null;
+    /** called on the ORB's timer thread, which must not block, so hand off to the callback */
+    private void ACM_expired(int generation) {
+        try {
+            getExecutor().execute(() -> {
+                synchronized (this) {
+                    if (generation == acmGeneration_) ACM_callback();
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // the ORB is shutting down
         }
     }
 
+    abstract ExecutorService getExecutor();
+
     /** client-side constructor */
-    GIOPConnection(ORBInstance orbInstance, Transport transport, GIOPClient client) {
+    GIOPConnection(ORBInstance orbInstance, Transport transport, GIOPClient client, int stripe) {
         super(ACTIVE);
         // set member properties
-        nextRequestId = new AtomicInteger(0xA);
+        // striped connections share their request ids, so a request id can be taken before choosing the connection
+        nextRequestId = orbInstance.getConnectionsPerEndpoint() > 1 ? orbInstance.getOutboundRequestIds() : new AtomicInteger(0xA);
         orbInstance_ = orbInstance;
         transport_ = transport;
-        outboundConnectionKey = client.connectorInfo();
+        outboundConnectionKey = new OutboundConnectionKey(client.connectorInfo(), stripe);
         markOutbound();
         markClientEnabled();
 
@@ -770,10 +791,82 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
             // recursion
             throw Assert.fail(ex);
         }
+
+        streamReply(upcall);
+    }
+
+    /** if so configured, send a GIOP 1.2 reply in fragments while it is still being marshalled */
+    private void streamReply(Upcall upcall) {
+        final int fragmentSize = orbInstance_.getReplyFragmentSize();
+        if (fragmentSize <= 0) return;
+        final ProfileInfo profileInfo = upcall.profileInfo();
+        if (profileInfo.major != 1 || profileInfo.minor != 2) return;
+        upcall.output()._OB_streamFragments(new ReplyFragmenter(upcall.requestId(), profileInfo), fragmentSize);
+    }
+
+    /** sends the leading fragments of a streamed reply straight to the transport */
+    private final class ReplyFragmenter implements OutputStream.FragmentSink {
+        private final int reqId;
+        private final ProfileInfo profileInfo;
+
+        ReplyFragmenter(int reqId, ProfileInfo profileInfo) {
+            this.reqId = reqId;
+            this.profileInfo = profileInfo;
+        }
+
+        public void send(byte[] head, boolean first) {
+            try (OutputStream out = new OutputStream(first ? head.length : 16 + head.length)) {
+                GIOPOutgoingMessage outgoing = new GIOPOutgoingMessage(orbInstance_, out, profileInfo);
+                if (first) {
+                    // the space reserved for the reply's message header is at the start of the data
+                    outgoing.writeMessageHeader(Reply, true, head.length - 12);
+                    out.write_octet_array(head, 12, head.length - 12);
+                } else {
+                    outgoing.writeFragmentHeader(reqId, true, head.length);
+                    out.write_octet_array(head, 0, head.length);
+                }
+                final ReadBuffer fragment = out.getBufferReader();
+                sendFragment(fragment);
+                fragment.release();
+            } catch (SystemException ex) {
+                processException(CLOSED, ex, false);
+                throw ex;
+            }
+        }
+    }
+
+    /** @return the final fragment of a streamed reply, which carries the remaining data */
+    private ReadBuffer lastFragment(Upcall upcall, OutputStream out) {
+        final byte[] tail = out._OB_takeUnflushedBytes();
+        try (OutputStream last = new OutputStream(16 + tail.length)) {
+            new GIOPOutgoingMessage(orbInstance_, last, upcall.profileInfo()).writeFragmentHeader(upcall.requestId(), false, tail.length);
+            last.write_octet_array(tail, 0, tail.length);
+            return last.getBufferReader();
+        }
+    }
+
+    /**
+     * Once the start of a streamed reply has been sent, a different reply cannot be sent instead.
+     * Terminate the streamed reply with an empty last fragment so that the client can fail the request.
+     * @return true iff the streamed reply was abandoned and no further reply should be sent
+     */
+    private boolean abandonStreamedReply(Upcall upcall, String reason) {
+        final OutputStream out = upcall.output();
+        if (out == null || !out._OB_fragmented()) return false;
+        REQ_IN_LOG.warning("Truncating partly sent reply to request " + upcall.requestId() + " for operation \"" + upcall.operation() + "\": " + reason);
+        out._OB_takeUnflushedBytes();
+        ReadBuffer lastFragment = lastFragment(upcall, out);
+        traceReply(upcall, RequestTrace.Event.REPLY_ABANDONED, SYSTEM_EXCEPTION, lastFragment.length() - 12);
+        sendUpcallReply(lastFragment);
+        return true;
     }
 
     /** finished reply construction; ready its return */
     public void upcallEndReply(Upcall upcall) {
+        endReply(upcall, NO_EXCEPTION);
+    }
+
+    private void endReply(Upcall upcall, ReplyStatusType_1_2 status) {
         // Make sure the transport can send a reply
         if (transport_.mode() == SendReceiveMode.ReceiveOnly) {
             REQ_IN_LOG.warning("Discarding reply - transport does not support two-way invocations: "
@@ -784,6 +877,12 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         }
 
         OutputStream out = upcall.output();
+        if (out._OB_fragmented()) {
+            ReadBuffer lastFragment = lastFragment(upcall, out);
+            traceReply(upcall, RequestTrace.Event.REPLY_SENT, status, lastFragment.length() - 12);
+            sendUpcallReply(lastFragment);
+            return;
+        }
         ProfileInfo profileInfo = upcall.profileInfo();
         GIOPOutgoingMessage outgoing = new GIOPOutgoingMessage(orbInstance_,
                 out, profileInfo);
@@ -798,9 +897,15 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
             throw Assert.fail(ex);
         }
 
+        traceReply(upcall, RequestTrace.Event.REPLY_SENT, status, pos - 12);
         sendUpcallReply(out.getBufferReader());
     }
 
+    private void traceReply(Upcall upcall, RequestTrace.Event event, ReplyStatusType_1_2 status, int size) {
+        RequestTrace trace = orbInstance_.getRequestTrace();
+        if (trace != null) trace.record(event, upcall.requestId(), upcall.operation(), status, size, upcall.elapsedNanos());
+    }
+
     /** start populating the reply with a user exception */
     public void upcallBeginUserException(Upcall upcall, ServiceContexts contexts) {
         upcall.createOutputStream(12);
@@ -818,11 +923,13 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
             // recursion
             throw Assert.fail(ex);
         }
+
+        streamReply(upcall);
     }
 
     /** finished reply construction; ready its return */
     public void upcallEndUserException(Upcall upcall) {
-        upcallEndReply(upcall);
+        endReply(upcall, USER_EXCEPTION);
     }
 
     /** populate and send the reply with a UserException */
@@ -854,6 +961,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
 
     /** populate and end the reply with a system exception */
     public void upcallSystemException(Upcall upcall, SystemException ex, ServiceContexts contexts) {
+        if (abandonStreamedReply(upcall, ex.toString())) return;
         upcall.createOutputStream(12);
 
         OutputStream out = upcall.output();
@@ -874,11 +982,12 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
             throw Assert.fail(ex);
         }
 
-        upcallEndReply(upcall);
+        endReply(upcall, SYSTEM_EXCEPTION);
     }
 
     /** prepare the reply for location forwarding */
     public void upcallForward(Upcall upcall, IOR ior, boolean perm, ServiceContexts contexts) {
+        if (abandonStreamedReply(upcall, "location forward raised during marshalling")) return;
         upcall.createOutputStream(12);
 
         OutputStream out = upcall.output();
@@ -898,7 +1007,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
             throw Assert.fail(ex);
         }
 
-        upcallEndReply(upcall);
+        endReply(upcall, status);
     }
 
     /** enable this connection for processing as a client */
@@ -924,6 +1033,24 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         return this;
     }
 
+    /** @return the number of messages queued on this connection but not yet sent */
+    public int unsentDepth() { return messageQueue_.unsentCount(); }
+
+    /** @return the number of requests sent on this connection that are still awaiting replies */
+    public int pendingDepth() { return messageQueue_.pendingCount(); }
+
+    /** @return the greatest number of requests that have awaited replies at once on this connection */
+    public int peakPendingDepth() { return messageQueue_.peakPendingCount(); }
+
+    /** @return the number of requests queued or awaiting replies on this connection, used to balance striped connections */
+    public int outstandingRequests() { return messageQueue_.unsentCount() + messageQueue_.pendingCount(); }
+
+    /** @return the number of requests sent on this connection so far */
+    public long requestsSent() { return messageQueue_.sentCount(); }
+
+    /** send part of a message straight to the transport, ahead of any queued messages */
+    abstract void sendFragment(ReadBuffer readBuffer);
+
     /** return the transport we represent */
     Transport transport() { return transport_; }
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.giop.MessageType;
+import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.orb.OCI.SelectableTransport;
+import org.apache.yoko.orb.OCI.Transport;
+import org.omg.CORBA.SystemException;
+
+import java.nio.channels.SelectableChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.FINER;
+import static java.util.logging.Level.WARNING;
+import static org.apache.yoko.logging.VerboseLogging.CONN_IN_LOG;
+import static org.apache.yoko.orb.OB.Connection.Access.READ;
+import static org.apache.yoko.orb.OB.Connection.State.CLOSED;
+import static org.apache.yoko.orb.OB.Connection.State.ERROR;
+import static org.apache.yoko.orb.exceptions.Transients.FORCED_SHUTDOWN;
+
+/**
+ * A connection whose incoming messages are read and framed by one of the ORB's {@link Reactor} event loops
+ * instead of by a dedicated receiver thread. Upcalls are handed off to the server executor so that the
+ * event loop never blocks. Sending and shutdown are unchanged from the threaded connection.
+ * <br>
+ * If the transport cannot be driven by a selector (e.g. an SSL socket without a channel)
+ * this connection falls back to the threaded receiver.
+ */
+final class GIOPConnectionReactive extends GIOPConnectionThreaded implements Reactor.Handler {
+    /** accessed only on the event loop thread */
+    private final GIOPIncomingMessage inMsg;
+    /** the message currently being read - accessed only on the event loop thread */
+    private WriteBuffer writer;
+    /** true once the header of the current message has been read - accessed only on the event loop thread */
+    private boolean headerRead;
+    /** complete messages read while the connection was paused - accessed only on the event loop thread */
+    private final Queue<WriteBuffer> held = new ArrayDeque<>();
+
+    private volatile boolean paused = true;
+    private Reactor.Registration registration;
+    private boolean selectionUnsupported;
+
+    // server-side constructor
+    GIOPConnectionReactive(ORBInstance orbInstance, Transport transport, OAInterface oa) {
+        super(orbInstance, transport, oa);
+        inMsg = new GIOPIncomingMessage(orbInstance);
+    }
+
+    @Override
+    synchronized void addReceiver() {
+        if (selectionUnsupported) {
+            super.addReceiver();
+            return;
+        }
+        paused = false;
+        if (registration == null) {
+            final SelectableChannel channel = transport_ instanceof SelectableTransport ? ((SelectableTransport) transport_).enableSelection() : null;
+            if (channel == null) {
+                if (CONN_IN_LOG.isLoggable(FINE)) CONN_IN_LOG.fine("Transport cannot be selected, using a receiver thread: " + transport_);
+                selectionUnsupported = true;
+                super.addReceiver();
+                return;
+            }
+            registration = orbInstance_.getReactor().register(channel, this);
+        }
+        registration.resume(this::processHeld);
+    }
+
+    @Override
+    synchronized void pause() {
+        super.pause();
+        paused = true;
+        if (registration != null) registration.suspend();
+    }
+
+    @Override
+    void close() {
+        cancelRegistration();
+        super.close();
+    }
+
+    private synchronized void cancelRegistration() {
+        if (registration != null) registration.cancel();
+    }
+
+    /** Called on the event loop thread when data can be read without blocking */
+    public void readable() {
+        while (!paused) {
+            if (writer == null) writer = Buffer.createWriteBuffer(12);
+
+            // read whatever is available without blocking
+            try {
+                transport_.receive(writer, false);
+            } catch (SystemException ex) {
+                cancelRegistration();
+                processException(CLOSED, ex, false);
+                return;
+            }
+            if (!writer.isComplete()) return;
+
+            if (!headerRead) {
+                try {
+                    inMsg.extractHeader(writer.readFromStart());
+                    if (CONN_IN_LOG.isLoggable(FINER)) CONN_IN_LOG.finer("Header received for message of size " + inMsg.size());
+                    writer.ensureAvailable(inMsg.size());
+                } catch (SystemException ex) {
+                    cancelRegistration();
+                    processException(ERROR, ex, false);
+                    return;
+                }
+                headerRead = true;
+                // go round again to read the body
+                if (!writer.isComplete()) continue;
+            }
+
+            final WriteBuffer message = writer;
+            writer = null;
+            headerRead = false;
+            MessageType.logIncomingGiopMessage(message);
+            if (!process(message)) return;
+        }
+    }
+
+    public void cancelled() {
+        writer = null;
+        held.clear();
+    }
+
+    /** Called on the event loop thread when the connection resumes */
+    private void processHeld() {
+        while (!paused && !held.isEmpty()) if (!process(held.remove())) return;
+    }
+
+    /**
+     * Process one complete message on the event loop thread.
+     * @return false iff the connection should stop reading
+     */
+    private boolean process(WriteBuffer message) {
+        if (paused) {
+            held.add(message);
+            return false;
+        }
+
+        synchronized (this) {
+            if (getState().forbids(READ)) {
+                cancelRegistration();
+                return false;
+            }
+        }
+
+        final Upcall upcall;
+        try {
+            // a reply completes its downcall right here; only requests produce an upcall
+            upcall = inMsg.consumeBuffer(message) ? processMessage(inMsg) : null;
+        } catch (SystemException ex) {
+            cancelRegistration();
+            processException(ERROR, ex, false);
+            return false;
+        }
+
+        if (upcall == null) return true;
+
+        if (CONN_IN_LOG.isLoggable(FINER)) CONN_IN_LOG.finer("Dispatching message using upcall " + upcall.getClass().getName());
+        try {
+            getExecutor().execute(upcall::invoke);
+        } catch (RejectedExecutionException ree) {
+            CONN_IN_LOG.log(WARNING, "Could not submit upcall", ree);
+            cancelRegistration();
+            processException(CLOSED, FORCED_SHUTDOWN.create(), false);
+            return false;
+        }
+        return true;
+    }
+}
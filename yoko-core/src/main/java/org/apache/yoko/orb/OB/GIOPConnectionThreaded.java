@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,7 +62,7 @@ import static org.apache.yoko.util.MinorCodes.describeCommFailure;
 import static org.apache.yoko.util.MinorCodes.describeImpLimit;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
-final class GIOPConnectionThreaded extends GIOPConnection {
+class GIOPConnectionThreaded extends GIOPConnection {
 
     private final class Shutdown implements Runnable {
 
@@ -124,7 +124,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
     // add a new receiver thread
     // Assumes 'this' is synchronized on entry
-    private void addReceiverThread() {
+    void addReceiver() {
         getExecutor().submit(new Receiver());
     }
 
@@ -228,8 +228,8 @@ final class GIOPConnectionThreaded extends GIOPConnection {
     }
 
     // client-side constructor
-    GIOPConnectionThreaded(ORBInstance orbInstance, Transport transport, GIOPClient client) {
-        super(orbInstance, transport, client);
+    GIOPConnectionThreaded(ORBInstance orbInstance, Transport transport, GIOPClient client, int stripe) {
+        super(orbInstance, transport, client, stripe);
         orbInstance.getClientPhaser().register();
         start();
     }
@@ -240,7 +240,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         orbInstance.getServerPhaser().register();
     }
 
-    private ExecutorService getExecutor() {
+    ExecutorService getExecutor() {
         if (this.isOutbound())
             return orbInstance_.getClientExecutor();
         else
@@ -379,7 +379,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
             // to spawn a new thread to handle nested calls (just in case)
             if (receivedBidirContext) {
                 if (CONN_IN_LOG.isLoggable(FINER)) CONN_IN_LOG.finer("In bidirectional mode, so submitting a new receiver task");
-                addReceiverThread();
+                addReceiver();
             }
 
             upcall.invoke();
@@ -393,15 +393,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
     // ACM callback method on ACM signal
     synchronized void ACM_callback() {
-        if (acmTimer_ != null) {
-            acmTimer_.cancel();
-            acmTimer_ = null;
-        }
-
-        if (acmTask_ != null) {
-            acmTask_.cancel();
-            acmTask_ = null;
-        }
+        ACM_disableIdleMonitor();
 
         // don't shutdown if there are unsent messages or if there are
         // upcalls in progress
@@ -589,7 +581,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                 // ReentrantReadWriteLock explicitly allows downgrading a write lock to a read lock.
                 if(receiverLock.writeLock().tryLock()) {
                     try {
-                        addReceiverThread();
+                        addReceiver();
                     } finally {
                         receiverLock.writeLock().unlock();
                     }
@@ -603,6 +595,14 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         }
     }
 
+    void sendFragment(ReadBuffer readBuffer) {
+        // make sure no two threads are sending at once
+        synchronized (sendMutex) {
+            transport_.send(readBuffer, true);
+        }
+        if (!readBuffer.isComplete()) throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
+    }
+
     void refresh() {
         boolean msgSentMarked = false;
         gate.open();
@@ -646,6 +646,9 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                 // send fails
                 if (!readBuffer.isComplete()) throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
 
+                // a message without a downcall (e.g. a reply) is never sent again, so its buffer can be recycled
+                if (dummy == null) readBuffer.release();
+
                 // mark the message sent flag
                 if (!msgSentMarked && (dummy != null)) {
                     if (dummy.responseExpected() && dummy.operation().equals("_locate")) {
@@ -665,6 +668,6 @@ final class GIOPConnectionThreaded extends GIOPConnection {
     void pause() { gate.close(); }
 
     @Override
-    public String toString() { return label + ": state = " + this.getState(); }
+    public String toString() { return label + ": state = " + this.getState() + ", unsent = " + unsentDepth() + ", pending = " + pendingDepth(); }
     private final String label = ObjectUtil.getNextObjectLabel(this.getClass());
 }
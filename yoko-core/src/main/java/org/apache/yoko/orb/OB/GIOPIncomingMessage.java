@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -483,11 +483,7 @@ public final class GIOPIncomingMessage {
             //
             // Use octets for operation to avoid codeset conversion
             //
-            len = in_.read_ulong();
-            byte[] s = new byte[len];
-            in_.read_octet_array(s, 0, len);
-            op.value = new String(s, 0, len - 1);
-            // op.value = in_.read_string(); // operation
+            op.value = in_._OB_readOperation();
 
             len = in_.read_ulong(); // requesting_principal
             if (len > 0)
@@ -516,11 +512,7 @@ public final class GIOPIncomingMessage {
             //
             // Use octets for operation to avoid codeset conversion
             //
-            len = in_.read_ulong();
-            byte[] s = new byte[len];
-            in_.read_octet_array(s, 0, len);
-            op.value = new String(s, 0, len - 1);
-            // op.value = in_.read_string(); // operation
+            op.value = in_._OB_readOperation();
 
             len = in_.read_ulong(); // requesting_principal
             if (len > 0)
@@ -539,11 +531,7 @@ public final class GIOPIncomingMessage {
             //
             // Use octets for operation to avoid codeset conversion
             //
-            int len = in_.read_ulong();
-            byte[] s = new byte[len];
-            in_.read_octet_array(s, 0, len);
-            op.value = new String(s, 0, len - 1);
-            // op.value = in_.read_string(); // operation
+            op.value = in_._OB_readOperation();
 
             readServiceContextList(contexts); // service_context
 
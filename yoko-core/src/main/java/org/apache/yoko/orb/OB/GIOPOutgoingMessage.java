@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -145,6 +145,13 @@ public final class GIOPOutgoingMessage {
         out_.write_ulong(size); // message_size
     }
 
+    // Write the header of a GIOP 1.2 Fragment message, which includes the request id
+    void writeFragmentHeader(int id, boolean more, int bodySize) {
+        Assert.ensure(profileInfo_.major == (byte) 1 && profileInfo_.minor == (byte) 2);
+        writeMessageHeader(MsgType_1_1.Fragment, more, 4 + bodySize);
+        out_.write_ulong(id);
+    }
+
     void writeRequestHeader(int id, String op, boolean response, ServiceContexts contexts) {
         switch (profileInfo_.minor) {
         case 0:
@@ -351,4 +358,9 @@ public final class GIOPOutgoingMessage {
     public static void setMaxMessageSize(int max) {
         maxMessageSize_ = max;
     }
+
+    /** @return the size of the fragments to stream GIOP 1.2 replies in, rounded down to a multiple of 8, or 0 not to stream them */
+    static int fragmentSize(int size) {
+        return size <= 0 ? 0 : Math.max(64, size & ~7);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,6 +69,9 @@ final class GIOPServer extends Server {
             case Threaded:
                 starter_ = new GIOPServerStarterThreaded(orbInstance_, acceptor_, oaInterface_);
                 break;
+            case Reactive:
+                starter_ = new GIOPServerStarterReactive(orbInstance_, acceptor_, oaInterface_);
+                break;
             }
         } catch (RuntimeException ex) {
             destroy_ = true;
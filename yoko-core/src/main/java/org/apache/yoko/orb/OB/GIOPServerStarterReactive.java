@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OCI.Acceptor;
+import org.apache.yoko.orb.OCI.Transport;
+
+/**
+ * Accepts connections on a dedicated thread, like the threaded starter,
+ * but reads from the accepted connections using the ORB's {@link Reactor}.
+ */
+final class GIOPServerStarterReactive extends GIOPServerStarterThreaded {
+    GIOPServerStarterReactive(ORBInstance orbInstance, Acceptor acceptor, OAInterface oaInterface) {
+        super(orbInstance, acceptor, oaInterface);
+    }
+
+    @Override
+    GIOPConnection createConnection(Transport transport) {
+        return new GIOPConnectionReactive(orbInstance_, transport, oaInterface_);
+    }
+}
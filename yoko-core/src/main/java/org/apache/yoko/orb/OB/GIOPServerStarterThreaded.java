@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,7 +39,7 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.apache.yoko.logging.VerboseLogging.CONN_IN_LOG;
 
 
-final class GIOPServerStarterThreaded extends GIOPServerStarter {
+class GIOPServerStarterThreaded extends GIOPServerStarter {
     protected final class Starter implements Runnable {
         public void run() {
             try {
@@ -62,7 +62,7 @@ final class GIOPServerStarterThreaded extends GIOPServerStarter {
                         logger.fine("Null transport received from a connect");
                         break;
                     }
-                    GIOPConnection connection = new GIOPConnectionThreaded(orbInstance_, t, oaInterface_);
+                    GIOPConnection connection = createConnection(t);
                     connection.setState(State.CLOSING);
                 } catch (SystemException ex) {
                 }
@@ -102,6 +102,10 @@ final class GIOPServerStarterThreaded extends GIOPServerStarter {
         }
     }
 
+    GIOPConnection createConnection(Transport transport) {
+        return new GIOPConnectionThreaded(orbInstance_, transport, oaInterface_);
+    }
+
     // ----------------------------------------------------------------------
     // GIOPServerStarterThreaded public member implementation
     // ----------------------------------------------------------------------
@@ -218,8 +222,7 @@ final class GIOPServerStarterThreaded extends GIOPServerStarter {
                             // If we're active, we create and add a new
                             // worker to the worker list
                             //
-                            GIOPConnection connection = new GIOPConnectionThreaded(
-                                    orbInstance_, transport, oaInterface_);
+                            GIOPConnection connection = createConnection(transport);
                             connections_.addElement(connection);
                             connection.setState(State.ACTIVE);
                         } else {
@@ -231,8 +234,7 @@ final class GIOPServerStarterThreaded extends GIOPServerStarter {
                             //
                             Assert.ensure(serverState == CLOSED);
                             logger.fine("Processing an inbound connection because state is closed");
-                            GIOPConnection connection = new GIOPConnectionThreaded(
-                                    orbInstance_, transport, oaInterface_);
+                            GIOPConnection connection = createConnection(transport);
                             logger.fine("Created connection " + connection);
 
                             connection.setState(State.CLOSING);
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.omg.IOP.IOR;
+import org.omg.IOP.TaggedProfile;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the answers to remote <code>_is_a</code> calls, both positive and negative,
+ * so that narrowing a reference to a type not named in its IOR costs a round trip only the first time.
+ * <br>
+ * The type id in an IOR need not be the most derived type of the object: it may be a base interface,
+ * or the generic CORBA::Object id, so an answer is keyed by the whole IOR and the repository id that was asked about.
+ * References with an empty or generic type id are never cached.
+ * The least recently used answer is discarded once the cache is full.
+ */
+public final class IsACache {
+    static final int DEFAULT_SIZE = 1024;
+    private static final String OBJECT_ID = "IDL:omg.org/CORBA/Object:1.0";
+
+    private final int maxSize;
+    private final Map<Key, Boolean> answers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** @param maxSize the number of answers to keep, or 0 to disable caching */
+    IsACache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.answers = new LinkedHashMap<Key, Boolean>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                return size() > IsACache.this.maxSize;
+            }
+        };
+    }
+
+    /** @return the cached answer, or <code>null</code> if the question must be asked of the target */
+    public Boolean get(IOR ior, String repositoryId) {
+        if (!cacheable(ior)) return null;
+        final Boolean answer;
+        synchronized (answers) {
+            answer = answers.get(new Key(ior, repositoryId));
+        }
+        (answer == null ? misses : hits).increment();
+        return answer;
+    }
+
+    public void put(IOR ior, String repositoryId, boolean answer) {
+        if (!cacheable(ior)) return;
+        synchronized (answers) {
+            answers.put(new Key(ior, repositoryId), answer);
+        }
+    }
+
+    private boolean cacheable(IOR ior) {
+        return maxSize > 0 && !ior.type_id.isEmpty() && !ior.type_id.equals(OBJECT_ID);
+    }
+
+    public long hits() { return hits.sum(); }
+
+    public long misses() { return misses.sum(); }
+
+    public int size() {
+        synchronized (answers) {
+            return answers.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (answers) {
+            answers.clear();
+        }
+    }
+
+    private static final class Key {
+        final IOR ior;
+        final String repositoryId;
+        final int hash;
+
+        Key(IOR ior, String repositoryId) {
+            this.ior = ior;
+            this.repositoryId = repositoryId;
+            int h = ior.type_id.hashCode();
+            for (TaggedProfile profile : ior.profiles) h = 31 * (31 * h + profile.tag) + Arrays.hashCode(profile.profile_data);
+            this.hash = 31 * h + repositoryId.hashCode();
+        }
+
+        private boolean sameIor(IOR that) {
+            if (ior == that) return true;
+            if (!ior.type_id.equals(that.type_id) || ior.profiles.length != that.profiles.length) return false;
+            for (int i = 0; i < ior.profiles.length; i++) {
+                if (ior.profiles[i].tag != that.profiles[i].tag) return false;
+                if (!Arrays.equals(ior.profiles[i].profile_data, that.profiles[i].profile_data)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key that = (Key) o;
+            return hash == that.hash && repositoryId.equals(that.repositoryId) && sameIor(that.ior);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,19 @@ import org.apache.yoko.orb.CORBA.OutputStream;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.util.Assert;
+import org.omg.CORBA.COMM_FAILURE;
 import org.omg.CORBA.SystemException;
 
-import java.util.Vector;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.yoko.util.Assert.ensure;
+import static org.apache.yoko.util.MinorCodes.MinorDuplicateReqId;
+import static org.apache.yoko.util.MinorCodes.describeCommFailure;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.omg.GIOP.MsgType_1_1.LocateRequest;
@@ -33,15 +41,21 @@ import static org.omg.GIOP.MsgType_1_1.Request;
 
 public class MessageQueue {
     // Unsent requests
-    private final Vector<UnsentMessage> unsent_ = new Vector<>();
+    private final Queue<UnsentMessage> unsent_ = new ConcurrentLinkedQueue<>();
 
-    // Requests that have been sent but are waiting for replies.
-    private final Vector<Downcall> pending_ = new Vector<>();
+    // Requests that have been sent but are waiting for replies, by request id
+    private final Map<Integer, Downcall> pending_ = new ConcurrentHashMap<>();
+
+    // Queue depths, tracked separately because ConcurrentLinkedQueue.size() is not constant time
+    private final AtomicInteger unsentCount_ = new AtomicInteger();
+    private final AtomicInteger pendingCount_ = new AtomicInteger();
+    private final AtomicInteger peakPendingCount_ = new AtomicInteger();
+    private final AtomicLong sentCount_ = new AtomicLong();
 
     // Add new unsent buffer
     public void add(ORBInstance orbInstance, ReadBuffer readBuffer) {
         // Add new message to the message buffers
-        unsent_.addElement(new UnsentMessage(readBuffer));
+        addUnsent(new UnsentMessage(readBuffer));
     }
 
     // Add new unsent downcall
@@ -71,28 +85,39 @@ public class MessageQueue {
             down.setFailureException(ex);
             return;
         }
-        unsent_.addElement(new UnsentMessage(down));
+        addUnsent(new UnsentMessage(down));
+    }
+
+    private void addUnsent(UnsentMessage m) {
+        unsent_.add(m);
+        unsentCount_.incrementAndGet();
+    }
+
+    private UnsentMessage pollUnsent() {
+        UnsentMessage m = unsent_.poll();
+        if (m != null) unsentCount_.decrementAndGet();
+        return m;
     }
 
     // retrieve the first buffer in the queue
     public ReadBuffer getFirstUnsentBuffer() {
-        return unsent_.isEmpty() ? null : unsent_.firstElement().getBufferReader();
+        UnsentMessage m = unsent_.peek();
+        return m == null ? null : m.getBufferReader();
     }
 
     // Move the first unsent downcall to the list of pending downcalls
     public Downcall moveFirstUnsentToPending() {
-        if (unsent_.isEmpty()) return null;
-
         // Remove first downcall
-        UnsentMessage m = unsent_.firstElement();
+        UnsentMessage m = pollUnsent();
+        if (m == null) return null;
         Downcall down = m.down;
-        unsent_.removeElementAt(0);
 
         // Only add to pending if a response is expected
         if (down != null) {
+            sentCount_.incrementAndGet();
             if (down.responseExpected()) {
                 down.setPending();
-                pending_.addElement(down);
+                addPending(down);
             } else {
                 down.setNoException(null);
             }
@@ -100,34 +125,41 @@ public class MessageQueue {
         return down;
     }
 
+    // Add a downcall to the pending downcalls, failing it if its request id is already awaiting a reply
+    void addPending(Downcall down) {
+        int reqId = down.requestId();
+        if (pending_.putIfAbsent(reqId, down) != null) {
+            // the earlier downcall keeps the id, since a reply could not say which of the two it answers
+            down.setFailureException(new COMM_FAILURE(describeCommFailure(MinorDuplicateReqId) + ": " + reqId, MinorDuplicateReqId, COMPLETED_MAYBE));
+            return;
+        }
+        int count = pendingCount_.incrementAndGet();
+        if (count > peakPendingCount_.get()) peakPendingCount_.accumulateAndGet(count, Math::max);
+    }
+
     // Find and remove a pending downcall
     public Downcall findAndRemovePending(int reqId) {
-        for (int i = 0; i < pending_.size(); i++) {
-            Downcall d = pending_.elementAt(i);
-            if (d.requestId() == reqId) {
-                pending_.removeElementAt(i);
-                return d;
-            }
-        }
-        return null;
+        Downcall d = pending_.remove(reqId);
+        if (d != null) pendingCount_.decrementAndGet();
+        return d;
     }
 
     // Change the state of the queue due to an exception. Sets the
     // state of all unsent and pending downcalls.
     public void setException(SystemException ex, boolean notCompleted) {
         // Always use a completion status of NO for unsent requests.
-        while (!unsent_.isEmpty()) {
-            UnsentMessage m = unsent_.firstElement();
+        for (UnsentMessage m = pollUnsent(); m != null; m = pollUnsent()) {
             if (m.down != null) m.down.setFailureException(ex);
-            unsent_.removeElementAt(0);
         }
 
         SystemException except = Util.copySystemException(ex);
         except.completed = notCompleted ? COMPLETED_NO : COMPLETED_MAYBE;
-        while (!pending_.isEmpty()) {
-            Downcall down = pending_.firstElement();
-            down.setFailureException(except);
-            pending_.removeElementAt(0);
+        for (Downcall down : pending_.values()) {
+            // only fail the downcall if no reply has claimed it concurrently
+            if (pending_.remove(down.requestId(), down)) {
+                pendingCount_.decrementAndGet();
+                down.setFailureException(except);
+            }
         }
     }
 
@@ -135,4 +167,24 @@ public class MessageQueue {
     public boolean hasUnsent() {
         return !unsent_.isEmpty();
     }
+
+    // the number of messages waiting to be sent
+    public int unsentCount() {
+        return unsentCount_.get();
+    }
+
+    // the number of requests sent but still awaiting replies
+    public int pendingCount() {
+        return pendingCount_.get();
+    }
+
+    // the greatest number of requests that have been awaiting replies at once
+    public int peakPendingCount() {
+        return peakPendingCount_.get();
+    }
+
+    // the number of requests sent so far
+    public long sentCount() {
+        return sentCount_.get();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,17 @@ package org.apache.yoko.orb.OB;
 import static java.net.InetAddress.getByName;
 import static java.net.InetAddress.getLocalHost;
 import static java.security.AccessController.doPrivileged;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 public final class Net {
     //
@@ -34,18 +40,34 @@ public final class Net {
     //
     private static final String LOOPBACK_NAME = "127.0.0.1";
 
-    public static boolean CompareHosts(final String host1, final String host2, final boolean matchLoopback) {
-        // compare name matches
-        if (host1.equals(host2) || (matchLoopback && host2.equals(LOOPBACK_NAME))) return true;
+    //
+    // Locality checks compare the same few host names over and over,
+    // so successful and failed lookups are remembered for a short time.
+    // The cache is shared by every ORB in the JVM, so its lifetime is
+    // set by a system property (in milliseconds, 0 to disable it).
+    //
+    static final int DEFAULT_RESOLUTION_TTL = 30000;
+    static final int MAX_RESOLUTIONS = 1024;
+    private static final Resolver resolver = new Resolver(
+            MILLISECONDS.toNanos(resolutionTtl(doPrivileged(getSysProp("org.apache.yoko.orb.dnsCacheTtl")))),
+            System::nanoTime, Net::lookup);
+
+    static int resolutionTtl(String millis) {
+        if (millis == null) return DEFAULT_RESOLUTION_TTL;
         try {
-            // compare address matches
-            return doPrivileged(new PrivilegedExceptionAction<Boolean>() {
+            return Math.max(0, Integer.parseInt(millis.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_RESOLUTION_TTL;
+        }
+    }
+
+    /** @return the address of the host, or null if it cannot be resolved */
+    private static InetAddress lookup(final String host) {
+        try {
+            return doPrivileged(new PrivilegedExceptionAction<InetAddress>() {
                 @Override
-                public Boolean run() throws UnknownHostException {
-                    InetAddress addr1 = getByName(host1);
-                    InetAddress addr2 = getByName(host2);
-                    return (addr1.equals(addr2) ||
-                            (matchLoopback && addr2.equals(getByName(LOOPBACK_NAME))));
+                public InetAddress run() throws UnknownHostException {
+                    return getByName(host);
                 }
             });
         } catch (PrivilegedActionException e) {
@@ -54,13 +76,69 @@ public final class Net {
             } catch (RuntimeException re) {
                 throw re;
             } catch (UnknownHostException uhe) {
-                return false;
+                return null;
             } catch (Exception e2) {
                 throw new RuntimeException("Unexpected exception", e2);
             }
         }
     }
 
+    /** Resolves host names, remembering each result (including failures) for the TTL, if the TTL is positive */
+    static final class Resolver {
+        private final long ttlNanos;
+        private final LongSupplier clock;
+        private final Function<String, InetAddress> lookup;
+        private final ConcurrentMap<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+        Resolver(long ttlNanos, LongSupplier clock, Function<String, InetAddress> lookup) {
+            this.ttlNanos = ttlNanos;
+            this.clock = clock;
+            this.lookup = lookup;
+        }
+
+        InetAddress resolve(String host) {
+            final long now = clock.getAsLong();
+            if (ttlNanos > 0) {
+                final Resolution cached = resolutions.get(host);
+                if (cached != null && now - cached.expiry < 0) return cached.address;
+            }
+            final InetAddress address = lookup.apply(host);
+            if (ttlNanos > 0) {
+                if (resolutions.size() >= MAX_RESOLUTIONS) {
+                    resolutions.values().removeIf(r -> now - r.expiry >= 0);
+                    if (resolutions.size() >= MAX_RESOLUTIONS) resolutions.clear();
+                }
+                resolutions.put(host, new Resolution(address, now + ttlNanos));
+            }
+            return address;
+        }
+
+        int size() { return resolutions.size(); }
+    }
+
+    private static final class Resolution {
+        final InetAddress address; // null if the host could not be resolved
+        final long expiry;
+
+        Resolution(InetAddress address, long expiry) {
+            this.address = address;
+            this.expiry = expiry;
+        }
+    }
+
+    private static InetAddress resolve(String host) { return resolver.resolve(host); }
+
+    public static boolean CompareHosts(final String host1, final String host2, final boolean matchLoopback) {
+        // compare name matches
+        if (host1.equals(host2) || (matchLoopback && host2.equals(LOOPBACK_NAME))) return true;
+        // compare address matches
+        final InetAddress addr1 = resolve(host1);
+        if (addr1 == null) return false;
+        final InetAddress addr2 = resolve(host2);
+        if (addr2 == null) return false;
+        return addr1.equals(addr2) || (matchLoopback && addr2.equals(resolve(LOOPBACK_NAME)));
+    }
+
     public static boolean CompareHosts(final String host1, final String host2) {
         return CompareHosts(host1, host2, false);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.apache.yoko.orb.OCI.ConFactoryRegistry;
 import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.util.Cache;
+import org.apache.yoko.util.concurrent.TimerWheel;
 import org.apache.yoko.util.concurrent.WeakCountedCache;
 import org.omg.CORBA.INTERNAL;
 import org.omg.CORBA.ORB;
@@ -39,9 +40,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class ORBInstance {
     private final Cache<ConnectorInfo, GIOPConnection> outboundConnectionCache = new WeakCountedCache<>(GIOPConnection::destroy, 0, 100);
+    private final Cache<OutboundConnectionKey, GIOPConnection> stripedConnectionCache = new WeakCountedCache<>(GIOPConnection::destroy, 0, 100);
 
     private final ORB orb;
 
@@ -77,8 +80,18 @@ public final class ORBInstance {
     private UnknownExceptionStrategy unknownExceptionStrategy;
     private final URLRegistry urlRegistry;
     private final boolean useTypeCodeCache;
+
+    private final TypeCodeCache typeCodeCache;
+    private final RequestTrace requestTrace;
     private final boolean extendedWchar;
     private OrbAsyncHandler asyncHandler;
+    private Reactor reactor; // created on first use by a reactive connection
+    private final TimerWheel timer; // shared by all the ORB's timeouts; its thread starts on first use
+    private final int connectionsPerEndpoint;
+    private final boolean roundRobinConnections;
+    private final int replyFragmentSize; // 0 means replies are not streamed in fragments
+    private final IsACache isACache;
+    private final AtomicInteger outboundRequestIds = new AtomicInteger(0xA); // shared by striped connections
     private final AtomicBoolean destroyCalled = new AtomicBoolean(); // True if destroy() was called
 
     protected void finalize() throws Throwable {
@@ -145,10 +158,19 @@ public final class ORBInstance {
                     return result;
                 }
         );
+        timer = new TimerWheel("Yoko:Timer:" + orbId);
 
         // Use the TypeCode cache?
         String tcc = this.properties.getProperty("yoko.orb.use_type_code_cache");
         useTypeCodeCache = tcc == null || !tcc.equals("false");
+        String tccSize = this.properties.getProperty("yoko.orb.type_code_cache_size");
+        int typeCodeCacheSize = tccSize == null ? TypeCodeCache.DEFAULT_CAPACITY : parseInt(tccSize);
+        typeCodeCache = useTypeCodeCache && typeCodeCacheSize > 0 ? new TypeCodeCache(typeCodeCacheSize) : null;
+
+        // Keep a trace of recent requests?
+        String traceSize = this.properties.getProperty("yoko.orb.request_trace_size");
+        int requestTraceSize = traceSize == null ? 0 : parseInt(traceSize);
+        requestTrace = requestTraceSize > 0 ? new RequestTrace(requestTraceSize) : null;
 
         // Support wchar/wstring for IIOP 1.0?
         String extWchar = this.properties.getProperty("yoko.orb.extended_wchar");
@@ -159,6 +181,19 @@ public final class ORBInstance {
         int amiWorkers = amiWorkersStr == null ? 1 : Math.max(1, parseInt(amiWorkersStr));
 
         asyncHandler = new OrbAsyncHandler(amiWorkers);
+
+        // how many connections to stripe across each endpoint, and how to choose between them
+        String connections = this.properties.getProperty("yoko.orb.client_connections");
+        connectionsPerEndpoint = connections == null ? 1 : Math.max(1, parseInt(connections));
+        roundRobinConnections = "round_robin".equals(this.properties.getProperty("yoko.orb.client_connection_selection"));
+
+        // how large a reply may grow before it is streamed in fragments
+        String fragmentSize = this.properties.getProperty("yoko.orb.giop.fragment_size");
+        replyFragmentSize = fragmentSize == null ? 0 : GIOPOutgoingMessage.fragmentSize(parseInt(fragmentSize));
+
+        // how many remote _is_a answers to remember
+        String isACacheSize = this.properties.getProperty("yoko.orb.is_a_cache_size");
+        isACache = new IsACache(isACacheSize == null ? IsACache.DEFAULT_SIZE : parseInt(isACacheSize));
     }
 
     public void destroy() {
@@ -218,6 +253,11 @@ public final class ORBInstance {
         unknownExceptionStrategy = null;
         asyncHandler.shutdown();
         asyncHandler = null;
+        synchronized (this) {
+            if (reactor != null) reactor.shutdown();
+            reactor = null;
+        }
+        timer.stop();
     }
 
     public ORB getORB() {
@@ -358,6 +398,16 @@ public final class ORBInstance {
         return useTypeCodeCache;
     }
 
+    /** @return this ORB's TypeCode cache, or <code>null</code> if TypeCodes are not cached */
+    public TypeCodeCache getTypeCodeCache() {
+        return typeCodeCache;
+    }
+
+    /** @return this ORB's trace of recent requests, or <code>null</code> if requests are not traced */
+    public RequestTrace getRequestTrace() {
+        return requestTrace;
+    }
+
     public boolean extendedWchar() {
         return extendedWchar;
     }
@@ -367,4 +417,46 @@ public final class ORBInstance {
     }
 
     public Cache<ConnectorInfo, GIOPConnection> getOutboundConnectionCache() {return outboundConnectionCache;}
+
+    /** @return the cache of the additional connections striped across an endpoint, i.e. every stripe but the first */
+    Cache<OutboundConnectionKey, GIOPConnection> getStripedConnectionCache() {return stripedConnectionCache;}
+
+    /** @return the number of connections a client may open to one endpoint */
+    int getConnectionsPerEndpoint() {
+        return connectionsPerEndpoint;
+    }
+
+    int getReplyFragmentSize() {
+        return replyFragmentSize;
+    }
+
+    /** @return true to take turns between striped connections, false to pick the one with fewest outstanding requests */
+    boolean useRoundRobinConnections() {
+        return roundRobinConnections;
+    }
+
+    /** @return the request ID counter for striped connections, which must share it because IDs are given out before a stripe is chosen */
+    AtomicInteger getOutboundRequestIds() {
+        return outboundRequestIds;
+    }
+
+    /** The answers to remote <code>_is_a</code> calls made by this ORB's references */
+    public IsACache getIsACache() {
+        return isACache;
+    }
+
+    /** The ORB-wide timer, for timeouts that must fire without a thread waiting for them */
+    public TimerWheel getTimer() {
+        return timer;
+    }
+
+    synchronized Reactor getReactor() {
+        if (reactor == null) {
+            // default to one event loop per two processors, but no more than four
+            String threads = properties.getProperty("yoko.orb.reactor_threads");
+            int n = threads == null ? Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)) : parseInt(threads);
+            reactor = new Reactor("Yoko:Server:Reactor:" + orbId, n);
+        }
+        return reactor;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@
 package org.apache.yoko.orb.OB;
 
 import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.CORBA.ORBPolicyManager_impl;
 import org.apache.yoko.orb.CORBA.StubForObject;
 import org.apache.yoko.orb.CORBA.StubForRemote;
 import org.apache.yoko.util.Assert;
@@ -27,6 +28,7 @@ import org.omg.CORBA.PolicyManager;
 import org.omg.CORBA.portable.ObjectImpl;
 import org.omg.IOP.IOR;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.util.logging.Logger.getLogger;
@@ -63,10 +65,10 @@ public final class ObjectFactory {
         // Check for nil object reference
         if (ior.type_id.isEmpty() && ior.profiles.length == 0) return null;
 
-        logger.fine("Creating an object of type " + ior.type_id); 
+        if (logger.isLoggable(Level.FINE)) logger.fine("Creating an object of type " + ior.type_id);
         
         // Create new delegate, set policies and change delegate
-        Delegate p = new Delegate(orbInstance_, ior, ior, policies());
+        Delegate p = new Delegate(orbInstance_, ior, ior, policySnapshot());
 
         // Create new object, set the delegate and return
         ObjectImpl obj = ior.type_id.startsWith("RMI") ? new StubForRemote() : new StubForObject();
@@ -75,11 +77,19 @@ public final class ObjectFactory {
     }
 
     public org.omg.CORBA.Object stringToObject(String ior) {
-        logger.fine("Creating an object from " + ior); 
+        if (logger.isLoggable(Level.FINE)) logger.fine("Creating an object from " + ior);
         return orbInstance_.getURLRegistry().parse_url(ior);
     }
 
     public Policy[] policies() {
         return policyManager_.get_policy_overrides(new int[0]);
     }
+
+    /** @return the ORB policies, shared rather than copied where the policy manager allows */
+    public RefCountPolicyList policySnapshot() {
+        final PolicyManager pm = policyManager_;
+        if (pm == null) throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
+        if (pm instanceof ORBPolicyManager_impl) return ((ORBPolicyManager_impl) pm)._OB_snapshot().policies;
+        return new RefCountPolicyList(pm.get_policy_overrides(new int[0]));
+    }
 }
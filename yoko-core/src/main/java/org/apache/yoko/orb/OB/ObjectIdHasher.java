@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,29 +17,21 @@
  */
 package org.apache.yoko.orb.OB;
 
-//
-// All connected implementations
-//
-public class ObjectIdHasher {
-    private byte[] oid_;
+import java.util.Arrays;
 
-    private int hashCode_;
+/**
+ * Wraps an object id so that it can be used as a hash key.
+ * The hash covers every octet of the id and is computed once, up front,
+ * because system-generated ids often differ only in their last few octets.
+ */
+public final class ObjectIdHasher {
+    private final byte[] oid_;
+
+    private final int hashCode_;
 
     public ObjectIdHasher(byte[] oid) {
         oid_ = oid;
-
-        hashCode_ = 0;
-        int offset = 0;
-        int len = oid.length;
-
-        if (len < 16) {
-            for (int i = len; i > 0; i--)
-                hashCode_ = (hashCode_ * 37) + (int) oid[offset++];
-        } else {
-            int skip = len / 8;
-            for (int i = len; i > 0; i -= skip, offset += skip)
-                hashCode_ = (hashCode_ * 39) + (int) oid[offset];
-        }
+        hashCode_ = Arrays.hashCode(oid);
     }
 
     public byte[] getObjectId() {
@@ -51,19 +43,17 @@ public class ObjectIdHasher {
     }
 
     public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ObjectIdHasher))
+            return false;
+
         ObjectIdHasher h = (ObjectIdHasher) o;
 
-        return comp(oid_, h.oid_);
+        return hashCode_ == h.hashCode_ && comp(oid_, h.oid_);
     }
 
     public static boolean comp(byte[] id1, byte[] id2) {
-        if (id1.length != id2.length)
-            return false;
-
-        for (int i = 0; i < id1.length; i++)
-            if (id1[i] != id2[i])
-                return false;
-
-        return true;
+        return Arrays.equals(id1, id2);
     }
 }
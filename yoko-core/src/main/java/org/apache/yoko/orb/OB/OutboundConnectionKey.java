@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+
+/**
+ * The key for an outbound connection in the ORB's connection cache.
+ * When several connections are striped across one endpoint, each has its own stripe number.
+ */
+final class OutboundConnectionKey {
+    final ConnectorInfo info;
+    final int stripe;
+    private final int hashCode;
+
+    OutboundConnectionKey(ConnectorInfo info, int stripe) {
+        this.info = info;
+        this.stripe = stripe;
+        this.hashCode = 31 * info.hashCode() + stripe;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof OutboundConnectionKey)) return false;
+        final OutboundConnectionKey that = (OutboundConnectionKey) o;
+        return this.stripe == that.stripe && this.info.equals(that.info);
+    }
+
+    @Override
+    public int hashCode() { return hashCode; }
+
+    @Override
+    public String toString() { return stripe == 0 ? info.toString() : info + " #" + stripe; }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.omg.CORBA.COMM_FAILURE;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+import static org.apache.yoko.logging.VerboseLogging.CONN_IN_LOG;
+import static org.apache.yoko.util.MinorCodes.MinorSocket;
+import static org.apache.yoko.util.MinorCodes.describeCommFailure;
+import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
+
+/**
+ * A small fixed set of event loops, each multiplexing many channels on one {@link Selector}.
+ * Handlers are always called back on the event loop thread that owns their channel,
+ * so a handler never needs to guard against concurrent callbacks from the reactor.
+ */
+final class Reactor {
+    private static final Logger logger = Logger.getLogger(Reactor.class.getName());
+
+    /** Receives readiness callbacks from an event loop. Callbacks must not block. */
+    interface Handler {
+        /** the channel has data available to read */
+        void readable();
+        /** the registration has been cancelled, or the channel closed, or the reactor shut down */
+        void cancelled();
+    }
+
+    /** The handle returned by {@link #register}. All operations are asynchronous and may be called from any thread. */
+    interface Registration {
+        /** stop delivering read callbacks until resumed */
+        void suspend();
+        /** resume delivering read callbacks and run the supplied task on the event loop first */
+        void resume(Runnable onLoop);
+        /** cancel this registration permanently */
+        void cancel();
+    }
+
+    private final EventLoop[] loops;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    Reactor(String name, int threads) {
+        this.loops = new EventLoop[Math.max(1, threads)];
+        try {
+            for (int i = 0; i < loops.length; i++) loops[i] = new EventLoop(name + ":" + i);
+        } catch (IOException e) {
+            shutdown();
+            throw (COMM_FAILURE) new COMM_FAILURE(describeCommFailure(MinorSocket) + ": could not open selector", MinorSocket, COMPLETED_NO).initCause(e);
+        }
+        for (EventLoop loop : loops) loop.start();
+    }
+
+    /** Register a channel for read readiness, initially suspended. The channel must already be non-blocking. */
+    Registration register(SelectableChannel channel, Handler handler) {
+        final EventLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+        return loop.register(channel, handler);
+    }
+
+    void shutdown() {
+        for (EventLoop loop : loops) if (loop != null) loop.shutdown();
+    }
+
+    private static final class EventLoop extends Thread {
+        private final Selector selector;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private volatile boolean shutdown;
+
+        EventLoop(String name) throws IOException {
+            super(name);
+            setDaemon(true);
+            this.selector = Selector.open();
+        }
+
+        Registration register(SelectableChannel channel, Handler handler) {
+            final Entry entry = new Entry(channel, handler);
+            execute(entry::register);
+            return entry;
+        }
+
+        void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        void shutdown() {
+            shutdown = true;
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!shutdown) {
+                    runTasks();
+                    selector.select();
+                    final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        final SelectionKey key = keys.next();
+                        keys.remove();
+                        final Entry entry = (Entry) key.attachment();
+                        try {
+                            if (key.isReadable()) entry.handler.readable();
+                        } catch (CancelledKeyException ignored) {
+                            entry.cancel0();
+                        } catch (RuntimeException e) {
+                            CONN_IN_LOG.log(WARNING, "Unexpected exception in reactor handler", e);
+                            entry.cancel0();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                CONN_IN_LOG.log(WARNING, "Reactor event loop failed", e);
+            } finally {
+                runTasks();
+                for (SelectionKey key : selector.keys()) ((Entry) key.attachment()).cancel0();
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                }
+                if (logger.isLoggable(FINE)) logger.fine("Reactor event loop " + getName() + " stopped");
+            }
+        }
+
+        private void runTasks() {
+            for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) task.run();
+        }
+
+        private final class Entry implements Registration {
+            final SelectableChannel channel;
+            final Handler handler;
+            SelectionKey key; // only accessed on the event loop thread
+            boolean cancelled; // only accessed on the event loop thread
+
+            Entry(SelectableChannel channel, Handler handler) {
+                this.channel = channel;
+                this.handler = handler;
+            }
+
+            void register() {
+                if (cancelled) return;
+                try {
+                    key = channel.register(selector, 0, this);
+                } catch (ClosedChannelException | CancelledKeyException e) {
+                    cancel0();
+                }
+            }
+
+            void interest(int ops) {
+                if (cancelled) return;
+                try {
+                    key.interestOps(ops);
+                } catch (CancelledKeyException e) {
+                    cancel0();
+                }
+            }
+
+            void cancel0() {
+                if (cancelled) return;
+                cancelled = true;
+                if (key != null) key.cancel();
+                handler.cancelled();
+            }
+
+            public void suspend() { execute(() -> interest(0)); }
+
+            public void resume(Runnable onLoop) {
+                execute(() -> {
+                    if (cancelled) return;
+                    onLoop.run();
+                    interest(OP_READ);
+                });
+            }
+
+            public void cancel() { execute(this::cancel0); }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,113 +57,113 @@ import org.omg.TimeBase.UtcT;
 
 public final class RefCountPolicyList {
     //
-    // The immutable PolicyList
+    // The immutable PolicyList, a private copy of the array passed in
     //
-    public Policy[] value;
+    public final Policy[] value;
 
     //
     // The immutable value of the retry policy
     //
-    public RetryAttributes retry;
+    public final RetryAttributes retry;
 
     //
     // The immutable value of the connect timeout policy
     //
-    public int connectTimeout;
+    public final int connectTimeout;
 
     //
     // The immutable value of the request timeout policy
     //
-    public int requestTimeout;
+    public final int requestTimeout;
 
-    public int replyTimeout;
+    public final int replyTimeout;
 
     //
     // The immutable value of the request start time policy
     //
-    public UtcT requestStartTime;
+    public final UtcT requestStartTime;
 
     //
     // The immutable value of the request end time policy
     //
-    public UtcT requestEndTime;
+    public final UtcT requestEndTime;
 
     //
     // The immutable value of the reply start time policy
     //
-    public UtcT replyStartTime;
+    public final UtcT replyStartTime;
 
     //
     // The immutable value of the reply end time policy
     //
-    public UtcT replyEndTime;
+    public final UtcT replyEndTime;
 
     //
     // The immutable value of the relative request timeout policy
     //
-    public long relativeRequestTimeout;
+    public final long relativeRequestTimeout;
 
     //
     // The immutable value of the relative round trip timeout policy
     //
-    public long relativeRoundTripTimeout;
+    public final long relativeRoundTripTimeout;
 
     //
     // The immutable value of the rebind mode policy
     //
-    public short rebindMode;
+    public final short rebindMode;
 
     //
     // The immutable value of the sync scope policy
     //
-    public short syncScope;
+    public final short syncScope;
 
     //
     // The immutable value of the location transparency policy
     //
-    public short locationTransparency;
+    public final short locationTransparency;
 
     //
     // the immutable value of the bidir policy
     //
-    public short biDirMode;
+    public final short biDirMode;
 
     //
     // The immutable value of the InterceptorPolicy, or true if there
     // is no such policy
     //
-    public boolean interceptor;
+    public final boolean interceptor;
 
     //
     // The immutable value of the LocateRequestPolicy, or false if there
     // is no such policy
     //
-    public boolean locateRequest;
+    public final boolean locateRequest;
 
     //
     // the immutable value of the request priority policy
     //
-    public PriorityRange requestPriority;
+    public final PriorityRange requestPriority;
 
     //
     // the immutable value of the reply priority policy
     //
-    public PriorityRange replyPriority;
+    public final PriorityRange replyPriority;
 
     //
     // the immutable value of the routing policy
     //
-    public RoutingTypeRange routingRange;
+    public final RoutingTypeRange routingRange;
 
     //
     // the immutable value of the max hops policy
     //
-    public short maxHops;
+    public final short maxHops;
 
     //
     // the immutable value of the queue order policy
     //
-    public short queueOrder;
+    public final short queueOrder;
 
     // ----------------------------------------------------------------------
     // RefCountPolicyList private and protected members
@@ -470,7 +470,7 @@ public final class RefCountPolicyList {
     // ----------------------------------------------------------------------
 
     public RefCountPolicyList(Policy[] v) {
-        value = v;
+        value = v.clone();
         retry = getRetry(v);
         connectTimeout = getConnectTimeout(v);
         requestTimeout = getRequestTimeout(v);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.omg.GIOP.ReplyStatusType_1_2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.Integer.highestOneBit;
+
+/**
+ * A fixed-size ring of the most recent request events handled by an ORB, for diagnosing traffic that is too heavy
+ * to log. Recording an event stores a few fields in preallocated arrays, so it neither allocates nor locks.
+ * The ring can be dumped at any time. Events overwritten while a dump is in progress are left out of it.
+ * <br>
+ * Each slot is guarded by a stamp. A writer claims a slot by swapping its stamp for a busy marker, writes the fields
+ * with ordered stores, and then publishes the new stamp, so a reader that sees the same stamp before and after
+ * reading the fields has read a whole event. If a writer finds its slot still being written, or already holding
+ * a newer event, by a writer that has lapped the ring, its event is dropped.
+ * <br>
+ * The ring is enabled by setting the ORB property <code>yoko.orb.request_trace_size</code> to the number of events
+ * to keep, and is then available from {@link ORBInstance#getRequestTrace()}.
+ */
+public final class RequestTrace {
+    public enum Event {REQUEST_RECEIVED, REPLY_SENT, REPLY_ABANDONED, REPLY_RECEIVED}
+
+    private static final Event[] EVENTS = Event.values();
+    private static final long BUSY = -1;
+    private static final String[] STATUSES = {
+            "NO_EXCEPTION", "USER_EXCEPTION", "SYSTEM_EXCEPTION", "LOCATION_FORWARD", "LOCATION_FORWARD_PERM", "NEEDS_ADDRESSING_MODE"};
+
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    /** one more than the sequence number of the event in each slot, 0 if it is empty, or BUSY while it is being written */
+    private final AtomicLongArray stamps;
+    private final AtomicLongArray times;
+    private final AtomicIntegerArray events;
+    private final AtomicIntegerArray statuses;
+    private final AtomicIntegerArray requestIds;
+    private final AtomicReferenceArray<String> operations;
+    private final AtomicIntegerArray sizes;
+    private final AtomicLongArray durations;
+
+    /** @param capacity the number of events to keep, rounded up to a power of two */
+    RequestTrace(int capacity) {
+        final int size = capacity <= 1 ? 1 : highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.stamps = new AtomicLongArray(size);
+        this.times = new AtomicLongArray(size);
+        this.events = new AtomicIntegerArray(size);
+        this.statuses = new AtomicIntegerArray(size);
+        this.requestIds = new AtomicIntegerArray(size);
+        this.operations = new AtomicReferenceArray<>(size);
+        this.sizes = new AtomicIntegerArray(size);
+        this.durations = new AtomicLongArray(size);
+    }
+
+    /**
+     * @param status the reply status, or <code>null</code> for a request
+     * @param size the size in bytes of the message body, excluding the GIOP header
+     * @param durationNanos the time taken, or -1 if not known
+     */
+    public void record(Event event, int requestId, String operation, ReplyStatusType_1_2 status, int size, long durationNanos) {
+        final long seq = next.getAndIncrement();
+        final int slot = (int) seq & mask;
+        if (!claim(slot, seq)) return;
+        times.lazySet(slot, System.currentTimeMillis());
+        events.lazySet(slot, event.ordinal());
+        statuses.lazySet(slot, status == null ? -1 : status.value());
+        requestIds.lazySet(slot, requestId);
+        operations.lazySet(slot, operation);
+        sizes.lazySet(slot, size);
+        durations.lazySet(slot, durationNanos);
+        stamps.lazySet(slot, seq + 1);
+    }
+
+    /** @return true iff the slot now belongs to this event, or false if another writer holds it or has overtaken it */
+    private boolean claim(int slot, long seq) {
+        for (long stamp = stamps.get(slot); stamp != BUSY && stamp <= seq; stamp = stamps.get(slot)) {
+            if (stamps.compareAndSet(slot, stamp, BUSY)) return true;
+        }
+        return false;
+    }
+
+    /** @return the number of events recorded so far, including those since overwritten */
+    public long recorded() { return next.get(); }
+
+    /** Write the retained events, oldest first, one per line */
+    public void dump(Appendable out) throws IOException {
+        final long end = next.get();
+        for (long seq = Math.max(0, end - (mask + 1)); seq < end; seq++) {
+            final int slot = (int) seq & mask;
+            if (stamps.get(slot) != seq + 1) continue;
+            final long time = times.get(slot);
+            final Event event = EVENTS[events.get(slot)];
+            final int status = statuses.get(slot);
+            final int requestId = requestIds.get(slot);
+            final String operation = operations.get(slot);
+            final int size = sizes.get(slot);
+            final long duration = durations.get(slot);
+            if (stamps.get(slot) != seq + 1) continue; // overwritten while being read
+            out.append(String.format("%tFT%<tT.%<tL %-16s reqId=%d op=%s size=%d", time, event, requestId, operation, size));
+            if (status >= 0) out.append(" status=").append(status < STATUSES.length ? STATUSES[status] : Integer.toString(status));
+            if (duration >= 0) out.append(String.format(" duration=%dus", TimeUnit.NANOSECONDS.toMicros(duration)));
+            out.append(System.lineSeparator());
+        }
+    }
+    /** @return the retained events, oldest first, one per line */
+    public String dump() {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            dump(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+}
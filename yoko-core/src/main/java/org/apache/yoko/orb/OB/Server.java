@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ public abstract class Server {
     //
     public static final int Blocking = 0;
 
+    public static final int Reactive = 1;
+
     public static final int Threaded = 2;
 
     protected int concModel_ = Blocking;
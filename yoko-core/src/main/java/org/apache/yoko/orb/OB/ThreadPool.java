@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,13 +21,30 @@ import java.util.Vector;
 
 import org.omg.CORBA.OBJ_ADAPTER;
 
-final class ThreadPool {
+final class ThreadPool implements DispatchPool {
     private boolean destroy_ = false; // True if destroy was called
 
-    private Vector requests_ = new Vector();
+    private Vector<Queued> requests_ = new Vector<>();
 
     private ThreadGroup group_; // Thread group for the threads in the pool
 
+    private final int size_; // The number of threads in the pool
+
+    private int active_; // The number of threads dispatching requests
+
+    private long dispatched_; // The number of requests dispatched
+
+    private long waitNanos_; // The total time dispatched requests spent queued
+
+    private static final class Queued {
+        final DispatchRequest request;
+        final long enqueued = System.nanoTime();
+
+        Queued(DispatchRequest request) {
+            this.request = request;
+        }
+    }
+
     //
     // ThreadPoolDispatcher
     //
@@ -49,12 +66,18 @@ final class ThreadPool {
                 if (req == null)
                     return;
 
-                req.invoke();
+                try {
+                    req.invoke();
+                } finally {
+                    threadPool_.done();
+                }
             }
         }
     }
 
     public ThreadPool(int id, int n) {
+        size_ = n;
+
         //
         // Create a new thread group. Place each of the threads in the
         // pool in this new group.
@@ -77,7 +100,7 @@ final class ThreadPool {
         super.finalize();
     }
 
-    void destroy() {
+    public void destroy() {
         synchronized (this) {
             if (destroy_)
                 return;
@@ -98,7 +121,7 @@ final class ThreadPool {
         }
     }
 
-    synchronized void add(DispatchRequest request) {
+    public synchronized void add(DispatchRequest request) {
         //
         // If the thread pool has been destroyed then this is an
         // OBJ_ADAPTER error
@@ -106,7 +129,7 @@ final class ThreadPool {
         if (destroy_)
             throw new OBJ_ADAPTER("Thread pool is destroyed");
 
-        requests_.addElement(request);
+        requests_.addElement(new Queued(request));
         notify();
     }
 
@@ -120,9 +143,21 @@ final class ThreadPool {
 
         DispatchRequest result = null;
         if (!destroy_) {
-            result = (DispatchRequest) requests_.firstElement();
+            Queued queued = requests_.firstElement();
             requests_.removeElementAt(0);
+            result = queued.request;
+            active_++;
+            dispatched_++;
+            waitNanos_ += System.nanoTime() - queued.enqueued;
         }
         return result;
     }
+
+    private synchronized void done() {
+        active_--;
+    }
+
+    public synchronized ThreadPoolMetrics metrics() {
+        return new ThreadPoolMetrics(requests_.size(), active_, size_, dispatched_, 0, 0, waitNanos_);
+    }
 }
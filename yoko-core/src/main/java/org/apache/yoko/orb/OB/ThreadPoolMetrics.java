@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * An immutable snapshot of the activity of a dispatch thread pool.
+ * Obtain one from {@link DispatchStrategyFactory_impl#thread_pool_metrics(int)}.
+ */
+public final class ThreadPoolMetrics {
+    private final int queueLength;
+    private final int activeThreads;
+    private final int poolSize;
+    private final long dispatched;
+    private final long rejected;
+    private final long callerRuns;
+    private final long totalWaitNanos;
+
+    ThreadPoolMetrics(int queueLength, int activeThreads, int poolSize, long dispatched, long rejected, long callerRuns, long totalWaitNanos) {
+        this.queueLength = queueLength;
+        this.activeThreads = activeThreads;
+        this.poolSize = poolSize;
+        this.dispatched = dispatched;
+        this.rejected = rejected;
+        this.callerRuns = callerRuns;
+        this.totalWaitNanos = totalWaitNanos;
+    }
+
+    /** @return the number of requests waiting for a thread */
+    public int queueLength() { return queueLength; }
+
+    /** @return the number of pool threads currently dispatching requests */
+    public int activeThreads() { return activeThreads; }
+
+    /** @return the number of threads in the pool */
+    public int poolSize() { return poolSize; }
+
+    /** @return the number of requests dispatched by pool threads */
+    public long dispatched() { return dispatched; }
+
+    /** @return the number of requests rejected because the queue was full */
+    public long rejected() { return rejected; }
+
+    /** @return the number of requests run by the submitting thread because the queue was full */
+    public long callerRuns() { return callerRuns; }
+
+    /** @return the total time requests have spent queued before dispatch, in nanoseconds */
+    public long totalWaitNanos() { return totalWaitNanos; }
+
+    /** @return the mean time a dispatched request spent queued, in microseconds */
+    public long meanWaitMicros() { return dispatched == 0 ? 0 : NANOSECONDS.toMicros(totalWaitNanos / dispatched); }
+
+    @Override
+    public String toString() {
+        return String.format("queued=%d active=%d size=%d dispatched=%d rejected=%d callerRuns=%d meanWait=%dus",
+                queueLength, activeThreads, poolSize, dispatched, rejected, callerRuns, meanWaitMicros());
+    }
+}
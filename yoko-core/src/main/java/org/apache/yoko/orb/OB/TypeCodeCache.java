@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,43 +17,116 @@
  */
 package org.apache.yoko.orb.OB;
 
-import java.util.Hashtable;
-
+import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.orb.CORBA.TypeCode;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers TypeCodes read from streams, together with the encapsulations they were read from,
+ * so that a TypeCode that arrives again costs a comparison of its bytes rather than a full parse.
+ * A cached TypeCode is only used if its encapsulation is identical, so a peer that sends a different
+ * definition under the same repository id simply replaces the cached one.
+ * <br>
+ * Each ORB has its own cache. Entries are spread across independently locked shards by repository id,
+ * and each shard discards its least recently used entries once it exceeds its share of the byte budget.
+ */
 public final class TypeCodeCache {
-    private Hashtable cache_; // The type code cache hashtable
+    static final int DEFAULT_CAPACITY = 1024 * 1024;
+    static final int SHARDS = 16;
+    /** A rough allowance for the entry and the TypeCode object graph, on top of the encapsulation */
+    static final int ENTRY_OVERHEAD = 256;
 
-    private static TypeCodeCache instance_ = null; // Singleton instance
+    private final Shard[] shards = new Shard[SHARDS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
-    private static final Object instanceMutex_ = new Object();
+    /** @param capacity the approximate number of bytes to keep, which must be positive */
+    TypeCodeCache(int capacity) {
+        final int shardCapacity = Math.max(1, capacity / SHARDS);
+        for (int i = 0; i < SHARDS; i++) shards[i] = new Shard(shardCapacity);
+    }
 
-    // ----------------------------------------------------------------------
-    // ORBInstance public member implementation
-    // ----------------------------------------------------------------------
+    /**
+     * Look up the TypeCode whose encapsulation is next in the buffer. Nothing is read from the buffer.
+     * @return the cached TypeCode, or <code>null</code> if none was cached with exactly these bytes
+     */
+    public TypeCode get(String id, ReadBuffer buffer, int length) {
+        final Entry e = shardFor(id).get(id);
+        final TypeCode tc = e != null && e.encapsulation.length == length && buffer.nextBytesEqual(e.encapsulation) ? e.tc : null;
+        (tc == null ? misses : hits).increment();
+        return tc;
+    }
 
-    TypeCodeCache() {
-        cache_ = new Hashtable(63);
+    /** Cache a TypeCode along with the encapsulation it was read from */
+    public void put(String id, TypeCode tc, byte[] encapsulation) {
+        shardFor(id).put(id, new Entry(tc, encapsulation));
     }
 
-    static public TypeCodeCache instance() {
-        synchronized (instanceMutex_) {
-            if (instance_ == null) {
-                instance_ = new TypeCodeCache();
-            }
-        }
-        return instance_;
+    public long hits() { return hits.sum(); }
+
+    public long misses() { return misses.sum(); }
+
+    public long evictions() { return evictions.sum(); }
+
+    /** @return the approximate number of bytes held */
+    public long size() {
+        long size = 0;
+        for (Shard s : shards) size += s.size();
+        return size;
+    }
+
+    public void clear() { for (Shard s : shards) s.clear(); }
+
+    private Shard shardFor(String id) { return shards[shardIndex(id)]; }
+
+    static int shardIndex(String id) {
+        final int h = id.hashCode();
+        return (h ^ (h >>> 16)) & (SHARDS - 1);
     }
 
-    synchronized public TypeCode get(String id) {
-        return (TypeCode) cache_.get(id);
+    private static final class Entry {
+        final TypeCode tc;
+        final byte[] encapsulation;
+
+        Entry(TypeCode tc, byte[] encapsulation) {
+            this.tc = tc;
+            this.encapsulation = encapsulation;
+        }
+
+        int weight() { return encapsulation.length + ENTRY_OVERHEAD; }
     }
 
-    synchronized public void put(String id,
-            TypeCode tc) {
-        if (cache_.containsKey(id))
-            return;
+    private final class Shard {
+        private final int capacity;
+        private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long size;
+
+        Shard(int capacity) { this.capacity = capacity; }
 
-        cache_.put(id, tc);
+        synchronized Entry get(String id) { return entries.get(id); }
+
+        synchronized void put(String id, Entry e) {
+            if (e.weight() > capacity) return;
+            final Entry old = entries.put(id, e);
+            if (old != null) size -= old.weight();
+            size += e.weight();
+            for (Iterator<Entry> i = entries.values().iterator(); size > capacity; ) {
+                size -= i.next().weight();
+                i.remove();
+                evictions.increment();
+            }
+        }
+
+        synchronized long size() { return size; }
+
+        synchronized void clear() {
+            entries.clear();
+            size = 0;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,8 +37,6 @@ import org.apache.yoko.util.Timeout;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal;
 import org.apache.yoko.util.cmsf.CmsfThreadLocal.CmsfOverride;
 import org.omg.CORBA.Any;
-import org.omg.CORBA.Policy;
-import org.omg.CORBA.PolicyManager;
 import org.omg.CORBA.SystemException;
 import org.omg.CORBA.UserException;
 import org.omg.CORBA.portable.UnknownException;
@@ -89,6 +87,7 @@ public class Upcall {
     protected ServiceContext codeSetSC_;
     private ServiceContext codeBaseSC_;
     private final Timeout timeout;
+    private final long startNanos; // only set when the ORB keeps a request trace
 
     public Upcall(ORBInstance orbInstance, UpcallReturn upcallReturn, ProfileInfo profileInfo,
             TransportInfo transportInfo, int requestId, String op, InputStream in, ServiceContexts requestContexts) {
@@ -107,14 +106,12 @@ public class Upcall {
 
         this.userEx_ = false;
 
-        logger.fine("Creating upcall request for operation " + op + " and request id " + requestId);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Creating upcall request for operation " + op + " and request id " + requestId);
         in._OB_ORBInstance(orbInstance_);
 
         // get the reply timeout
-        PolicyManager pm = orbInstance.getPolicyManager();
-        final Policy[] policy_overrides = pm.get_policy_overrides(new int[0]);
-        RefCountPolicyList policies = new RefCountPolicyList(policy_overrides);
-        timeout = Timeout.in(policies.replyTimeout);
+        timeout = Timeout.in(orbInstance.getObjectFactory().policySnapshot().replyTimeout);
+        startNanos = orbInstance.getRequestTrace() == null ? 0 : System.nanoTime();
     }
 
     public ORBInstance orbInstance() {
@@ -137,6 +134,11 @@ public class Upcall {
         return op_;
     }
 
+    /** @return the nanoseconds elapsed since this upcall was created, or -1 if the ORB keeps no request trace */
+    long elapsedNanos() {
+        return orbInstance_.getRequestTrace() == null ? -1 : System.nanoTime() - startNanos;
+    }
+
     public boolean responseExpected() {
         return upcallReturn_ != null;
     }
@@ -314,7 +316,7 @@ public class Upcall {
         // In this case do nothing.
         try {
             if (dispatchStrategy_ != null) {
-                logger.fine("Dispatching request " + reqId_ + " with dispatch strategy " + dispatchStrategy_.getClass().getName());
+                if (logger.isLoggable(Level.FINE)) logger.fine("Dispatching request " + reqId_ + " with dispatch strategy " + dispatchStrategy_.getClass().getName());
                 dispatchStrategy_.dispatch(dispatchRequest_);
             }
         } catch (SystemException ex) {
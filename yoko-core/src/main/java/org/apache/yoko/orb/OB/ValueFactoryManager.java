@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.omg.CORBA.portable.ValueFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.security.PrivilegedActionException;
 import java.util.Hashtable;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.security.AccessController.doPrivileged;
@@ -153,13 +154,13 @@ public final class ValueFactoryManager {
 
         ValueFactory result;
 
-        logger.fine("Looking up value factory for class " + id);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Looking up value factory for class " + id);
         //
         // Check the registered factories
         //
         result = (ValueFactory) factories_.get(id);
         if (result != null) {
-            logger.finer("Returning registered value factory " + result.getClass().getName());
+            if (logger.isLoggable(Level.FINER)) logger.finer("Returning registered value factory " + result.getClass().getName());
             return result;
         }
 
@@ -168,7 +169,7 @@ public final class ValueFactoryManager {
         //
         result = (ValueFactory) classFactories_.get(id);
         if (result != null) {
-            logger.finer("Returning cached value factory " + result.getClass().getName());
+            if (logger.isLoggable(Level.FINER)) logger.finer("Returning cached value factory " + result.getClass().getName());
             return result;
         }
 
@@ -178,7 +179,7 @@ public final class ValueFactoryManager {
         Class<? extends ValueFactory> c = RepIds.query(id).suffix("DefaultFactory").toClass();
         if (c != null) {
             try {
-                logger.finer("Attempting to create value factory from class " + c.getName());
+                if (logger.isLoggable(Level.FINER)) logger.finer("Attempting to create value factory from class " + c.getName());
                 //
                 // Instantiate the factory
                 //
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,6 @@ import static org.apache.yoko.util.Exceptions.as;
 import static org.apache.yoko.util.MinorCodes.MinorNoValueFactory;
 import static org.apache.yoko.util.MinorCodes.MinorReadInvalidIndirection;
 import static org.apache.yoko.util.MinorCodes.describeMarshal;
-import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
 import static org.apache.yoko.util.PrivilegedActions.action;
 import static org.apache.yoko.util.PrivilegedActions.getNoArgConstructor;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
@@ -45,13 +44,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
-import javax.rmi.CORBA.Util;
 import javax.rmi.CORBA.ValueHandler;
 
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.orb.CORBA.InputStream;
 import org.apache.yoko.orb.CORBA.OutputStream;
 import org.apache.yoko.util.Assert;
+import org.apache.yoko.util.cmsf.ClassResolutions;
 import org.apache.yoko.util.cmsf.RepIds;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.CustomMarshal;
@@ -465,11 +464,11 @@ public final class ValueReader {
                         throw new MARSHAL(describeMarshal(MinorReadInvalidIndirection), MinorReadInvalidIndirection,
                                 COMPLETED_NO);
                     }
-                    h.ids[i] = in_.read_string();
+                    h.ids[i] = in_._OB_readInternedString();
                     buf_.setPosition(saveRep);
                 } else {
                     buf_.setPosition(saveRep);
-                    h.ids[i] = in_.read_string();
+                    h.ids[i] = in_._OB_readInternedString();
                 }
                 if (MARSHAL_LOG.isLoggable(Level.FINER))
                     MARSHAL_LOG.finer(String.format("Value header respoitory id added \"%s\"", h.ids[i]));
@@ -502,11 +501,11 @@ public final class ValueReader {
                     throw new MARSHAL(describeMarshal(MinorReadInvalidIndirection), MinorReadInvalidIndirection,
                             COMPLETED_NO);
                 }
-                id = in_.read_string();
+                id = in_._OB_readInternedString();
                 buf_.setPosition(save);
             } else {
                 buf_.setPosition(save);
-                id = in_.read_string();
+                id = in_._OB_readInternedString();
             }
 
             h.ids = new String[1];
@@ -970,12 +969,8 @@ public final class ValueReader {
     private static <T> Class<T> generify(Class<?> c) { return (Class<T>)c; }
 
     private static <T> Class<T> resolveClass(String name) {
-        try {
-            return generify(Util.loadClass(name, null, doPrivileged(GET_CONTEXT_CLASS_LOADER)));
-        } catch (ClassNotFoundException ex) {
-            // this will be sorted out later
-            return null;
-        }
+        // a null result will be sorted out later
+        return generify(ClassResolutions.load(name, null));
     }
 
     public Serializable readValue() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -681,6 +681,11 @@ public final class ValueWriter {
         }
     }
 
+    /** @return true iff a chunked value is being written, whose chunk sizes may still be written back */
+    public boolean isChunking() {
+        return chunked_;
+    }
+
     public void checkBeginChunk() {
         if (needChunk_) {
             needChunk_ = false; // Do this before beginChunk() to
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.omg.CORBA.OBJ_ADAPTER;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.ForkJoinPool.defaultForkJoinWorkerThreadFactory;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.exceptions.Transients.REQUEST_DISCARDED;
+
+/**
+ * A dispatch pool backed by a {@link ForkJoinPool} in FIFO mode. Submitting threads do not
+ * contend on a single monitor, and idle pool threads steal queued requests from busy ones.
+ * <br>
+ * The number of queued requests is bounded. When the bound is reached a request is either
+ * rejected with <code>TRANSIENT</code> or run on the submitting thread, which slows the
+ * submitting connection down until the pool catches up.
+ */
+final class WorkStealingThreadPool implements DispatchPool {
+    enum Overflow { REJECT, CALLER_RUNS }
+
+    private final ForkJoinPool pool;
+    private final int queueLimit;
+    private final Overflow overflow;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile boolean destroyed;
+
+    WorkStealingThreadPool(int id, int nthreads, int queueLimit, Overflow overflow) {
+        this.queueLimit = queueLimit > 0 ? queueLimit : Integer.MAX_VALUE;
+        this.overflow = overflow;
+        this.pool = new ForkJoinPool(nthreads, p -> {
+            ForkJoinWorkerThread t = defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("Yoko:WorkStealingPool-" + id + ":Dispatcher-" + t.getPoolIndex());
+            return t;
+        }, null, true);
+    }
+
+    public void add(DispatchRequest request) {
+        if (destroyed) throw new OBJ_ADAPTER("Thread pool is destroyed");
+
+        if (queued.incrementAndGet() > queueLimit) {
+            queued.decrementAndGet();
+            if (overflow == Overflow.REJECT) {
+                rejected.increment();
+                throw REQUEST_DISCARDED.create();
+            }
+            callerRuns.increment();
+            request.invoke();
+            return;
+        }
+
+        final long enqueued = System.nanoTime();
+        try {
+            pool.execute(() -> {
+                queued.decrementAndGet();
+                waitNanos.add(System.nanoTime() - enqueued);
+                dispatched.increment();
+                request.invoke();
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw new OBJ_ADAPTER("Thread pool is destroyed");
+        }
+    }
+
+    public void destroy() {
+        destroyed = true;
+        pool.shutdown();
+
+        // Wait for all the threads in the pool to end
+        boolean interrupted = false;
+        while (!pool.isTerminated()) {
+            try {
+                pool.awaitTermination(1, SECONDS);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    public ThreadPoolMetrics metrics() {
+        return new ThreadPoolMetrics(queued.get(), pool.getActiveThreadCount(), pool.getPoolSize(),
+                dispatched.sum(), rejected.sum(), callerRuns.sum(), waitNanos.sum());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -934,6 +934,20 @@ public class ORB_impl extends ORBSingleton {
                 // Used by GIOPClientWorker
             } else if (key.startsWith("yoko.orb.service.")) {
                 // Ignore
+            } else if (key.equals("yoko.orb.oa.thread_pool.queue_limit")) {
+                try {
+                    if (Integer.parseInt(value) < 0) throw new NumberFormatException("must not be negative");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.oa.thread_pool.queue_limit: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.oa.thread_pool.queue_limit: " + value);
+                }
+            } else if (key.equals("yoko.orb.oa.object_key_cache_size")) {
+                try {
+                    if (Integer.parseInt(value) < 0) throw new NumberFormatException("must not be negative");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.oa.object_key_cache_size: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.oa.object_key_cache_size: " + value);
+                }
             } else if (key.startsWith("yoko.orb.oa.")) {
                 // Ignore
             } else if (key.startsWith("yoko.orb.poamanager.")) {
@@ -954,8 +968,55 @@ public class ORB_impl extends ORBSingleton {
                     logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.giop.max_message_size: " + value, ex);
                     throw new INITIALIZE("ORB.init: invalid value for yoko.orb.giop.max_message_size: " + value);
                 }
+            } else if (key.equals("yoko.orb.giop.fragment_size")) {
+                try {
+                    Integer.parseInt(value);
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.giop.fragment_size: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.giop.fragment_size: " + value);
+                }
+            } else if (key.equals("yoko.orb.iiop.nonblocking_connect")) {
+                if (!value.equals("true") && !value.equals("false")) {
+                    logger.severe("ORB.init: unknown value for yoko.orb.iiop.nonblocking_connect: " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for yoko.orb.iiop.nonblocking_connect: " + value);
+                }
+            } else if (key.equals("yoko.orb.client_connections")) {
+                try {
+                    if (Integer.parseInt(value) < 1) throw new NumberFormatException("must be positive");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.client_connections: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.client_connections: " + value);
+                }
+            } else if (key.equals("yoko.orb.client_connection_selection")) {
+                if (!value.equals("least_outstanding") && !value.equals("round_robin")) {
+                    logger.severe("ORB.init: unknown value for yoko.orb.client_connection_selection: " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for yoko.orb.client_connection_selection: " + value);
+                }
+            } else if (key.equals("yoko.orb.is_a_cache_size")) {
+                try {
+                    if (Integer.parseInt(value) < 0) throw new NumberFormatException("must not be negative");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.is_a_cache_size: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.is_a_cache_size: " + value);
+                }
+            } else if (key.equals("yoko.orb.type_code_cache_size")) {
+                try {
+                    if (Integer.parseInt(value) < 0) throw new NumberFormatException("must not be negative");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.type_code_cache_size: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.type_code_cache_size: " + value);
+                }
+            } else if (key.equals("yoko.orb.request_trace_size")) {
+                try {
+                    if (Integer.parseInt(value) < 0) throw new NumberFormatException("must not be negative");
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.SEVERE, "ORB.init: invalid value for yoko.orb.request_trace_size: " + value, ex);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.request_trace_size: " + value);
+                }
             } else if (key.equals("yoko.orb.ami_workers")) {
                 // ignore
+            } else if (key.equals("yoko.orb.reactor_threads")) {
+                // Used by ORBInstance
             } else {
                 logger.warning("ORB.init: unknown property `" + key + "'");
             }
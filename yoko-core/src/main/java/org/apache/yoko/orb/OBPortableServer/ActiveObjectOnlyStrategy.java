@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,8 +36,10 @@ import org.omg.PortableServer.Servant;
 import org.omg.PortableServer.ServantLocatorPackage.CookieHolder;
 import org.omg.PortableServer.ServantManagerOperations;
 
-import java.util.Hashtable;
+import java.util.Arrays;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.apache.yoko.orb.OB.Util.printOctets;
 import static org.apache.yoko.orb.OBPortableServer.TableEntry.ACTIVATE_PENDING;
@@ -106,19 +108,20 @@ class DirectSeqEntry {
 //
 class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     //
-    // The AOM
+    // The AOM. Entries are added and removed without any global lock:
+    // the state of each object is guarded by the monitor of its TableEntry.
     //
-    protected Hashtable activeObjectTable_;
+    protected final ConcurrentMap<ObjectIdHasher, TableEntry> activeObjectTable_;
 
     //
     // Reverse map from servant to id
     //
-    protected Hashtable servantIdTable_;
+    protected final ConcurrentMap<Servant, byte[]> servantIdTable_;
 
     //
     // Mapping for ObjectId's to DirectStubImpl
     //
-    private Hashtable directSeqTable_;
+    private final ConcurrentMap<ObjectIdHasher, DirectSeqEntry> directSeqTable_;
 
     //
     // The ORBInstance
@@ -135,22 +138,17 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // If there is a DirectStubImpl that refers to a default servant
         // under this oid then deactivate each
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table;
-            table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                table.deactivate();
-                directSeqTable_.remove(oid);
-            }
-        }
+        DirectSeqEntry table = directSeqTable_.remove(oid);
+        if (table != null)
+            table.deactivate();
 
         //
-        // If using UNIQUE_ID add the servant to the servantIdTable
+        // If using UNIQUE_ID add the servant to the servantIdTable,
+        // unless activate() has already reserved it for this id
         //
         if (servantIdTable_ != null) {
-            Assert.ensure(!servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.put(servant, oid.getObjectId());
+            byte[] previous = servantIdTable_.putIfAbsent(servant, oid.getObjectId());
+            Assert.ensure(previous == null || Arrays.equals(previous, oid.getObjectId()));
         }
 
         //
@@ -171,13 +169,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // Mark each DirectServant associated with this oid as
         // deactivated
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                table.deactivate();
-                directSeqTable_.remove(oid);
-            }
-        }
+        DirectSeqEntry table = directSeqTable_.remove(oid);
+        if (table != null)
+            table.deactivate();
 
         //
         // If we're using UNIQUE_ID then remove the servant from the
@@ -185,9 +179,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         //
         if (servantIdTable_ != null) {
             Servant servant = entry.getServant();
-            Assert.ensure(servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.remove(servant);
+            Assert.ensure(servantIdTable_.remove(servant) != null);
         }
 
         //
@@ -240,16 +232,15 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                         .getObjectId(), servant);
 
         //
-        // Add the DirectServant to the table
+        // Add the DirectServant to the table. This must be atomic with
+        // respect to the removal of the table on (de)activation.
         //
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table == null) {
-                table = new DirectSeqEntry(oid.getObjectId());
-                directSeqTable_.put(oid, table);
-            }
+        directSeqTable_.compute(oid, (k, table) -> {
+            if (table == null)
+                table = new DirectSeqEntry(k.getObjectId());
             table.add(directServant);
-        }
+            return table;
+        });
 
         return directServant;
     }
@@ -257,24 +248,19 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     ActiveObjectOnlyStrategy(
             POAPolicies policies,
             ORBInstance orbInstance) {
-        activeObjectTable_ = new Hashtable(1023);
-        directSeqTable_ = new Hashtable(1023);
+        activeObjectTable_ = new ConcurrentHashMap<>(1023);
+        directSeqTable_ = new ConcurrentHashMap<>(1023);
         orbInstance_ = orbInstance;
 
         if (policies.idUniquenessPolicy() == UNIQUE_ID)
-            servantIdTable_ = new Hashtable(1023);
+            servantIdTable_ = new ConcurrentHashMap<>(1023);
         else
             servantIdTable_ = null;
     }
 
     public void destroy(org.omg.PortableServer.POA poa, boolean etherealize) {
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.clear();
-        }
-
-        synchronized (directSeqTable_) {
-            directSeqTable_.clear();
-        }
+        activeObjectTable_.clear();
+        directSeqTable_.clear();
 
         if (servantIdTable_ != null)
             servantIdTable_.clear();
@@ -291,57 +277,73 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
 
-        while (true) {
-            boolean incarnate = false;
-            TableEntry entry;
+        //
+        // A servant reserved by this call must be released again unless
+        // this call goes on to activate it, e.g. if a concurrent call
+        // activates another servant under the same id first.
+        //
+        boolean reserved = false;
+        boolean activated = false;
+        try {
+            while (true) {
+                boolean incarnate = false;
+                TableEntry entry;
 
-            //
-            // Find out whether a servant is already bound under this id
-            // if not add an entry into the AOM
-            //
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
+                //
+                // Find out whether a servant is already bound under this id
+                // if not add an entry into the AOM
+                //
+                entry = activeObjectTable_.get(oid);
                 if (entry == null) {
                     //
-                    // If using UNIQUE_ID, then verify that the
-                    // servant isn't already activated.
+                    // If using UNIQUE_ID, then verify that the servant
+                    // isn't already activated, and reserve it for this id
+                    // so that no concurrent activation can claim it.
                     //
-                    if (servantIdTable_ != null
-                            && servantIdTable_.containsKey(servant)) {
-                        throw new ServantAlreadyActive();
+                    if (servantIdTable_ != null && !reserved) {
+                        if (servantIdTable_.putIfAbsent(servant, oid.getObjectId()) != null)
+                            throw new ServantAlreadyActive();
+                        reserved = true;
                     }
 
                     //
                     // Insert the servant in the active object table
-                    // with the provided id.
+                    // with the provided id, or deal with the entry of
+                    // another thread that got there first.
                     //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+                    TableEntry newEntry = new TableEntry();
+                    entry = activeObjectTable_.putIfAbsent(oid, newEntry);
+                    if (entry == null)
+                        entry = newEntry;
                 }
-            }
 
-            synchronized (entry) {
-                switch (entry.state()) {
-                case DEACTIVATE_PENDING:
-                    entry.waitForStateChange();
-                    continue;
+                synchronized (entry) {
+                    switch (entry.state()) {
+                    case DEACTIVATE_PENDING:
+                        entry.waitForStateChange();
+                        continue;
 
-                case ACTIVATE_PENDING:
-                    incarnate = true;
-                    break;
+                    case ACTIVATE_PENDING:
+                        incarnate = true;
+                        break;
 
-                case ACTIVE:
-                    throw new ObjectAlreadyActive();
+                    case ACTIVE:
+                        throw new ObjectAlreadyActive();
 
-                case DEACTIVATED:
-                    break;
-                }
+                    case DEACTIVATED:
+                        break;
+                    }
 
-                if (incarnate) {
-                    completeActivation(oid, servant, entry);
-                    return;
+                    if (incarnate) {
+                        completeActivation(oid, servant, entry);
+                        activated = true;
+                        return;
+                    }
                 }
             }
+        } finally {
+            if (reserved && !activated)
+                servantIdTable_.remove(servant, oid.getObjectId());
         }
     }
 
@@ -355,12 +357,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // If no object in the active object table associated with
         // this key then raise an ObjectNotActive exception.
         //
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                throw new ObjectNotActive();
-        }
+        TableEntry entry = activeObjectTable_.get(oid);
+        if (entry == null)
+            throw new ObjectNotActive();
 
         boolean deactivate = false;
         synchronized (entry) {
@@ -384,9 +383,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                 //
                 // Remove the entry from the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(oid, entry);
             }
         }
     }
@@ -395,7 +392,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                               PoaCurrentImpl poaCurrent) {
         byte[] id = null;
         if (servantIdTable_ != null)
-            id = (byte[]) servantIdTable_.get(servant);
+            id = servantIdTable_.get(servant);
         return id;
     }
 
@@ -404,12 +401,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
         while (true) {
-            TableEntry entry;
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null)
-                    return null;
-            }
+            TableEntry entry = activeObjectTable_.get(oid);
+            if (entry == null)
+                return null;
 
             synchronized (entry) {
                 switch (entry.state()) {
@@ -450,12 +444,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
 
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                return;
-        }
+        TableEntry entry = activeObjectTable_.get(oid);
+        if (entry == null)
+            return;
 
         synchronized (entry) {
             entry.incOutstandingRequest();
@@ -468,12 +459,9 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
 
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                return;
-        }
+        TableEntry entry = activeObjectTable_.get(oid);
+        if (entry == null)
+            return;
 
         //
         // If the number of outstanding requests is now 0 and the
@@ -490,9 +478,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                 //
                 // Remove the entry for the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(oid, entry);
             }
         }
     }
@@ -513,13 +499,8 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     public void removeDirectStubImpl(byte[] rawoid, DirectServant directStubImpl) {
         ObjectIdHasher oid = new ObjectIdHasher(
                 rawoid);
-        synchronized (directSeqTable_) {
-            DirectSeqEntry table = (DirectSeqEntry) directSeqTable_.get(oid);
-            if (table != null) {
-                if (table.remove(directStubImpl))
-                    directSeqTable_.remove(oid);
-            }
-        }
+        directSeqTable_.computeIfPresent(oid,
+                (k, table) -> table.remove(directStubImpl) ? null : table);
     }
 
     public ServantManagerStrategy getServantManagerStrategy() {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maps the raw object keys of incoming requests straight to the POA and object id they refer to,
+ * so that a repeated key need not be parsed and the POA hierarchy need not be searched again.
+ * <br>
+ * Keys are held by reference, not copied, so callers must not modify an array once it has been added.
+ * Entries for a POA are dropped when it is removed from its manager.
+ * Entries are spread across independently locked shards by key, and each shard discards
+ * its least recently used entry once it holds more than its share of the configured size.
+ */
+final class ObjectKeyDemux {
+    static final int DEFAULT_SIZE = 4096;
+    private static final int SHARDS = 16;
+
+    static final class Target {
+        final POA_impl poa;
+        final byte[] oid;
+
+        Target(POA_impl poa, byte[] oid) {
+            this.poa = poa;
+            this.oid = oid;
+        }
+    }
+
+    private final Shard[] shards;
+
+    /** @param maxEntries the approximate number of keys to remember, or 0 to disable the table */
+    ObjectKeyDemux(int maxEntries) {
+        if (maxEntries <= 0) {
+            shards = null;
+            return;
+        }
+        shards = new Shard[SHARDS];
+        final int shardSize = Math.max(1, maxEntries / SHARDS);
+        for (int i = 0; i < SHARDS; i++) shards[i] = new Shard(shardSize);
+    }
+
+    Target get(byte[] key) {
+        if (shards == null) return null;
+        final Key k = new Key(key);
+        return shardFor(k).get(k);
+    }
+
+    void put(byte[] key, POA_impl poa, byte[] oid) {
+        if (shards == null) return;
+        final Key k = new Key(key);
+        shardFor(k).put(k, new Target(poa, oid));
+    }
+
+    void remove(byte[] key) {
+        if (shards == null) return;
+        final Key k = new Key(key);
+        shardFor(k).remove(k);
+    }
+
+    void removeAll(org.omg.PortableServer.POA poa) {
+        if (shards == null) return;
+        for (Shard s : shards) s.removeAll(poa);
+    }
+
+    int size() {
+        if (shards == null) return 0;
+        int size = 0;
+        for (Shard s : shards) size += s.size();
+        return size;
+    }
+
+    private Shard shardFor(Key k) {
+        return shards[(k.hash ^ (k.hash >>> 16)) & (SHARDS - 1)];
+    }
+
+    private static final class Shard {
+        private final Map<Key, Target> targets;
+
+        Shard(int maxEntries) {
+            this.targets = new LinkedHashMap<Key, Target>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Target> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Target get(Key k) { return targets.get(k); }
+
+        synchronized void put(Key k, Target t) { targets.put(k, t); }
+
+        synchronized void remove(Key k) { targets.remove(k); }
+
+        synchronized void removeAll(org.omg.PortableServer.POA poa) { targets.values().removeIf(t -> t.poa == poa); }
+
+        synchronized int size() { return targets.size(); }
+    }
+    private static final class Key {
+        final byte[] bytes;
+        final int hash;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key that = (Key) o;
+            return hash == that.hash && Arrays.equals(bytes, that.bytes);
+        }
+    }
+}
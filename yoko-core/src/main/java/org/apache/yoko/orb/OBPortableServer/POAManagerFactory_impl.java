@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,7 @@ import org.apache.yoko.orb.OCI.Acceptor;
 import org.apache.yoko.orb.OCI.InvalidParam;
 import org.apache.yoko.orb.OCI.NoSuchFactory;
 import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.orb.OCI.SelectableAccFactory;
 import org.apache.yoko.orb.PortableInterceptor.IMRIORInterceptor_impl;
 import org.omg.CORBA.BAD_PARAM;
 import org.omg.CORBA.INITIALIZE;
@@ -68,6 +69,7 @@ import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
+import static org.apache.yoko.orb.OB.Server.Reactive;
 import static org.apache.yoko.util.Assert.ensure;
 import static org.omg.PortableServer.POAManagerPackage.State.INACTIVE;
 
@@ -206,11 +208,16 @@ final public class POAManagerFactory_impl extends LocalObject implements POAMana
 
             AccFactoryRegistry registry = orbInstance_.getAccFactoryRegistry();
 
+            // a reactive POA manager needs acceptors whose connections can be selected
+            final boolean reactive = POAManager_impl.concModel(props, id, tmpPolicies) == Reactive;
+
             List<Acceptor> acceptors = new ArrayList<>();
             for (AcceptorConfig acceptorConfig : configs) {
                 try {
                     AccFactory factory = registry.get_factory(acceptorConfig.id);
-                    acceptors.add(factory.create_acceptor(acceptorConfig.params));
+                    acceptors.add(reactive && factory instanceof SelectableAccFactory
+                            ? ((SelectableAccFactory) factory).create_selectable_acceptor(acceptorConfig.params)
+                            : factory.create_acceptor(acceptorConfig.params));
                 } catch (NoSuchFactory ex) {
                     String err = "cannot find factory: " + ex;
                     logger.log(Level.SEVERE, err, ex);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,16 @@
  */
 package org.apache.yoko.orb.OBPortableServer;
 
+import static java.lang.Integer.parseInt;
 import static org.apache.yoko.orb.OB.ObjectKey.ParseObjectKey;
-import static org.apache.yoko.orb.OB.Server.Blocking;
+import static org.apache.yoko.orb.OB.Server.Reactive;
 import static org.apache.yoko.orb.OB.Server.Threaded;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 import java.util.Hashtable;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.yoko.orb.CORBA.Delegate;
@@ -73,6 +75,8 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     private final String id;
     String adapterManagerId;
     private final OAInterface oaInterface;
+    /** Resolves the object keys of incoming requests without parsing them */
+    final ObjectKeyDemux demux;
     private final Version giopVersion = new Version();
     private final BootManager_impl bootManager;
     private final POALocator poaLocator;
@@ -120,7 +124,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     // ------------------------------------------------------------------
 
     public synchronized void activate() throws AdapterInactive {
-        logger.fine("Activating POAManager " + id + " current state is " + state);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Activating POAManager " + id + " current state is " + state);
         // If the POA manager is in inactive state then raise the AdapterInactive exception
         switch (state.value()) {
             case State._INACTIVE: throw new AdapterInactive();
@@ -255,13 +259,15 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         String rootKey = "yoko.orb.poamanager." + this.id + ".";
         Properties properties = orbInstance.getProperties();
 
+        // how many object keys of incoming requests to remember
+        String demuxSize = properties.getProperty("yoko.orb.oa.object_key_cache_size");
+        this.demux = new ObjectKeyDemux(demuxSize == null ? ObjectKeyDemux.DEFAULT_SIZE : parseInt(demuxSize));
+
         // If policies are provided, they will take precedence over the configuration properties.
-        CommunicationsConcurrencyPolicy commsPolicy = null;
         GIOPVersionPolicy giopPolicy = null;
         for (Policy policy : policies) {
             switch (policy.policy_type()) {
                 case COMMUNICATIONS_CONCURRENCY_POLICY_ID.value:
-                    commsPolicy = CommunicationsConcurrencyPolicyHelper.narrow(policy);
                     break;
                 case GIOP_VERSION_POLICY_ID.value:
                     giopPolicy = GIOPVersionPolicyHelper.narrow(policy);
@@ -281,18 +287,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
 
         giopVersion.major = 1;
         giopVersion.minor = 2;
-        final int concModel;
-
-        if (commsPolicy == null) {
-            validateConcModel(properties, rootKey);
-            concModel = Threaded;
-        } else {
-            switch (commsPolicy.value()) {
-                case COMMUNICATIONS_CONCURRENCY_POLICY_REACTIVE.value: concModel = Blocking; break;
-                case COMMUNICATIONS_CONCURRENCY_POLICY_THREADED.value: concModel = Threaded; break;
-                default: throw new PolicyError(BAD_POLICY_VALUE.value);
-            }
-        }
+        final int concModel = concModel(properties, id, policies);
 
         if (giopPolicy == null) {
             extractGiopVersion(properties, rootKey, giopVersion);
@@ -309,7 +304,24 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         bootManager = (BootManager_impl) orbInstance.getBootManager();
     }
 
-    private static void validateConcModel(Properties properties, String rootKey) {
+    /**
+     * Determine the communications concurrency model of a POA manager.
+     * A communications concurrency policy takes precedence over the configuration properties.
+     * @return either <code>Reactive</code> or <code>Threaded</code>
+     */
+    static int concModel(Properties properties, String id, Policy... policies) throws PolicyError {
+        for (Policy policy : policies) {
+            if (policy.policy_type() != COMMUNICATIONS_CONCURRENCY_POLICY_ID.value) continue;
+            switch (CommunicationsConcurrencyPolicyHelper.narrow(policy).value()) {
+                case COMMUNICATIONS_CONCURRENCY_POLICY_REACTIVE.value: return Reactive;
+                case COMMUNICATIONS_CONCURRENCY_POLICY_THREADED.value: return Threaded;
+                default: throw new PolicyError(BAD_POLICY_VALUE.value);
+            }
+        }
+        return extractConcModel(properties, "yoko.orb.poamanager." + id + ".");
+    }
+
+    private static int extractConcModel(Properties properties, String rootKey) {
         // First check the specific POAManager key
         String fullKey = rootKey + "conc_model";
         String value = properties.getProperty(fullKey);
@@ -317,7 +329,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         if (value == null) {
             fullKey = "yoko.orb.oa.conc_model";
             value = properties.getProperty(fullKey);
-            if (value == null) return;
+            if (value == null) return Threaded;
         }
 
         // Technically the only valid values for
@@ -328,13 +340,16 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         // represents the default value for both the comm conc
         // model *and* the method dispatch model).
         switch (value) {
+            case "reactive":
+                return Reactive;
             case "threaded":
             case "thread_per_client":
             case "thread_per_request":
             case "thread_pool":
-                return;
+                return Threaded;
         }
         logger.warning(fullKey + ": unknown value");
+        return Threaded;
     }
 
     private static void extractGiopVersion(Properties properties, String rootKey, Version giopVersion) {
@@ -359,7 +374,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     }
 
     private static void validateProp(String rootKey, String key) {
-        if (key.equals("yoko.orb.oa.thread_pool")) return;
+        if (key.startsWith("yoko.orb.oa.thread_pool")) return;
         // Remove the property prefix
         final String prop;
         if (key.startsWith(rootKey)) prop = key.substring(rootKey.length());
@@ -380,7 +395,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     synchronized void _OB_addPOA(org.omg.PortableServer.POA poa, String[] id) {
         POANameHasher idKey = new POANameHasher(id);
         
-        logger.fine("Adding new poa with id " + idKey);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Adding new poa with id " + idKey);
         Assert.ensure(!poas.containsKey(idKey));
         poas.put(idKey, poa);
 
@@ -390,9 +405,9 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     // Un-register a POA with this POAManager
     synchronized void _OB_removePOA(String[] id) {
         POANameHasher idKey = new POANameHasher(id);
-        logger.fine("Removing poa with id " + idKey);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Removing poa with id " + idKey);
         Assert.ensure(poas.containsKey(idKey));
-        poas.remove(idKey);
+        demux.removeAll(poas.remove(idKey));
         poaLocator.remove(id);
     }
 
@@ -417,11 +432,11 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     org.omg.PortableServer.POA _OB_locatePOA(ObjectKeyData data) throws LocationForward {
         // If the GIOP engine sends a request while the POAManager is in INACTIVE state, then something is wrong.
         Assert.ensure(get_state() != State.INACTIVE);
-        logger.fine("Searching for direct servant with key " + data);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Searching for direct servant with key " + data);
 
         if (!data.serverId.equals(serverId)) return null;
         POANameHasher key = new POANameHasher(data.poaId);
-        logger.fine("Searching for direct servant with poa key " + key);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Searching for direct servant with poa key " + key);
         org.omg.PortableServer.POA poa = poas.get(key);
         if (poa == null) {
             // The POA isn't contained in our local POA table. Ask the POALocator to locate the POA.
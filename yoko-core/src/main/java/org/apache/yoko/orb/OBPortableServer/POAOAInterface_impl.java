@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -99,7 +99,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
             String op, InputStream in,
             ServiceContexts requestContexts) {
         Upcall upcall = null;
-        logger.fine("Creating upcall for operation " + op); 
+        if (logger.isLoggable(Level.FINE)) logger.fine("Creating upcall for operation " + op);
         try {
             //
             // If discarding then throw a TRANSIENT exception
@@ -110,8 +110,19 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
                         CompletionStatus.COMPLETED_NO);
             }
 
-            ObjectKeyData data = new ObjectKeyData();
-            if (ObjectKey.ParseObjectKey(profileInfo.key, data)) {
+            //
+            // Try the POA and object id last resolved from the same key.
+            // A nil Upcall means the POA is being destroyed, so forget it
+            // and fall back to a full search.
+            //
+            final ObjectKeyDemux.Target target = poaManager_.demux.get(profileInfo.key);
+            if (target != null) {
+                upcall = target.poa._OB_createUpcall(target.oid, upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
+                if (upcall == null) poaManager_.demux.remove(profileInfo.key);
+            }
+
+            final ObjectKeyData data = upcall == null ? new ObjectKeyData() : null;
+            if (upcall == null && ObjectKey.ParseObjectKey(profileInfo.key, data)) {
                 while (true) {
                     //
                     // Locate the POA. This may also throw a TRANSIENT
@@ -131,10 +142,11 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
                         if (upcall == null) {
                             continue;
                         }
+                        poaManager_.demux.put(profileInfo.key, poaImpl, data.oid);
                     }
                     break;
                 }
-            } else if (upcallReturn != null) {
+            } else if (upcall == null && upcallReturn != null) {
                 logger.fine("Error parsing object key data"); 
                 //
                 // Check to see if the BootManager knows of a reference
@@ -185,7 +197,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
         ObjectKeyData data = new ObjectKeyData();
         if (ObjectKey.ParseObjectKey(key, data)) {
             try {
-                logger.fine("Locate request for object key " + data);  
+                if (logger.isLoggable(Level.FINE)) logger.fine("Locate request for object key " + data);
                 
                 org.omg.PortableServer.POA poa = poaManager_._OB_locatePOA(data);
                 if (poa != null) {
@@ -204,7 +216,7 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
             // Check to see if the BootManager knows of a reference
             // for the ObjectKey.
             //
-            logger.fine("Checking boot manager for object with key " + data);  
+            if (logger.isLoggable(Level.FINE)) logger.fine("Checking boot manager for object with key " + data);
             ior.value = bootManagerImpl_._OB_locate(key);
             if (ior.value != null) {
                 return OAInterface.OBJECT_FORWARD;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,17 +52,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     // active object map, then we still have remaining
                     // activations.
                     //
-                    java.util.Enumeration keys = activeObjectTable_.keys();
-                    while (keys.hasMoreElements()) {
-                        TableEntry entry;
-                        synchronized (activeObjectTable_) {
-                            entry = (TableEntry) activeObjectTable_.get(keys
-                                    .nextElement());
-                        }
-
-                        if (entry == null)
-                            continue;
-
+                    for (TableEntry entry : activeObjectTable_.values()) {
                         synchronized (entry) {
                             if (entry.state() != TableEntry.DEACTIVATED
                                     && entry.state() != TableEntry.ACTIVATE_PENDING) {
@@ -87,9 +77,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
         // Cleanup the active object map and mark the
         // entry as deactivated.
         //
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.remove(oid);
-        }
+        activeObjectTable_.remove(oid, entry);
 
         synchronized (entry) {
             entry.setDeactivated();
@@ -116,17 +104,12 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
 
     public void destroy(org.omg.PortableServer.POA poa, boolean e) {
         if (servantManager_ != null && e) {
-            java.util.Enumeration keys = activeObjectTable_.keys();
-            while (keys.hasMoreElements()) {
+            for (org.apache.yoko.orb.OB.ObjectIdHasher key : activeObjectTable_.keySet()) {
                 org.omg.PortableServer.Servant servant = null;
                 TableEntry entry = null;
-                org.apache.yoko.orb.OB.ObjectIdHasher key = (org.apache.yoko.orb.OB.ObjectIdHasher) keys
-                        .nextElement();
 
                 while (true) {
-                    synchronized (activeObjectTable_) {
-                        entry = (TableEntry) activeObjectTable_.get(key);
-                    }
+                    entry = activeObjectTable_.get(key);
 
                     if (entry == null)
                         break;
@@ -148,9 +131,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                                 //
                                 // Remove the entry from the active object map
                                 //
-                                synchronized (activeObjectTable_) {
-                                    activeObjectTable_.remove(key);
-                                }
+                                activeObjectTable_.remove(key, entry);
                             }
                             break;
 
@@ -209,29 +190,31 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
             boolean incarnate = false;
             TableEntry entry;
 
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null) {
-                    if (defaultServant_ != null) {
-                        org.omg.PortableServer.Servant servant = defaultServant_
-                                .getDefaultServant();
-
-                        if (servant == null) {
-                            throw new org.omg.CORBA.OBJ_ADAPTER(
-                                    MinorCodes
-                                            .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
-                                    MinorCodes.MinorNoDefaultServant,
-                                    org.omg.CORBA.CompletionStatus.COMPLETED_NO);
-                        }
-                        return servant;
+            entry = activeObjectTable_.get(oid);
+            if (entry == null) {
+                if (defaultServant_ != null) {
+                    org.omg.PortableServer.Servant servant = defaultServant_
+                            .getDefaultServant();
+
+                    if (servant == null) {
+                        throw new org.omg.CORBA.OBJ_ADAPTER(
+                                MinorCodes
+                                        .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
+                                MinorCodes.MinorNoDefaultServant,
+                                org.omg.CORBA.CompletionStatus.COMPLETED_NO);
                     }
+                    return servant;
+                }
 
-                    //
-                    // Insert the servant entry in the active object table
-                    // with the provided id.
-                    //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+                //
+                // Insert the servant entry in the active object table
+                // with the provided id, unless another thread beats us
+                // to it, in which case wait on its entry instead.
+                //
+                TableEntry newEntry = new TableEntry();
+                entry = activeObjectTable_.putIfAbsent(oid, newEntry);
+                if (entry == null) {
+                    entry = newEntry;
                     incarnate = true;
                 }
             }
@@ -256,9 +239,9 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     // explicitly activate the servant for the given
                     // ObjectId.
                     //
-                    if (servantIdTable_ != null && // TODO: initialize anyway?
-                            servantIdTable_.containsKey(servant)) {
-                        byte[] oid2 = (byte[]) servantIdTable_.get(servant);
+                    byte[] oid2 = servantIdTable_ == null ? null // TODO: initialize anyway?
+                            : servantIdTable_.get(servant);
+                    if (oid2 != null) {
                         if (!org.apache.yoko.orb.OB.ObjectIdHasher.comp(rawoid,
                                 oid2))
                             throw new org.omg.CORBA.OBJ_ADAPTER(
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,10 +20,10 @@ package org.apache.yoko.orb.OCI.IIOP;
 import org.apache.yoko.orb.CORBA.InputStream;
 import org.apache.yoko.orb.CORBA.OutputStream;
 import org.apache.yoko.orb.OB.Net;
-import org.apache.yoko.orb.OCI.AccFactory;
 import org.apache.yoko.orb.OCI.Acceptor;
 import org.apache.yoko.orb.OCI.IIOP.Acceptor_impl.ProfileCardinality;
 import org.apache.yoko.orb.OCI.InvalidParam;
+import org.apache.yoko.orb.OCI.SelectableAccFactory;
 import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.ORBPackage.InvalidName;
@@ -49,7 +49,7 @@ import static org.apache.yoko.orb.OCI.IIOP.Acceptor_impl.ProfileCardinality.MANY
 import static org.apache.yoko.orb.OCI.IIOP.Acceptor_impl.ProfileCardinality.ONE;
 import static org.apache.yoko.orb.OCI.IIOP.Acceptor_impl.ProfileCardinality.ZERO;
 
-final class AccFactory_impl extends LocalObject implements AccFactory {
+final class AccFactory_impl extends LocalObject implements SelectableAccFactory {
     static final Logger logger = Logger.getLogger(AccFactory_impl.class.getName());
     private static final Encoding CDR_1_2_ENCODING = new Encoding(ENCODING_CDR_ENCAPS.value, (byte) 1, (byte) 2);
     private final AccFactoryInfo_impl info_;
@@ -74,6 +74,14 @@ final class AccFactory_impl extends LocalObject implements AccFactory {
     }
 
     public Acceptor create_acceptor(String[] params) throws InvalidParam {
+        return createAcceptor(params, false);
+    }
+
+    public Acceptor create_selectable_acceptor(String[] params) throws InvalidParam {
+        return createAcceptor(params, true);
+    }
+
+    private Acceptor createAcceptor(String[] params, boolean selectable) throws InvalidParam {
         String bind = null;
         String[] hosts = null;
         boolean keepAlive = true;
@@ -184,7 +192,7 @@ final class AccFactory_impl extends LocalObject implements AccFactory {
         }
 
         // this constructor modifies the provided ListenerMap
-        return new Acceptor_impl(bind, hosts, numProfiles, port, backlog, keepAlive, connectionHelper, listenMap_, params, codec);
+        return new Acceptor_impl(bind, hosts, numProfiles, port, backlog, keepAlive, selectable, connectionHelper, listenMap_, params, codec);
     }
 
     public void change_key(IORHolder ior, byte[] key) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -275,7 +275,7 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
     // ------------------------------------------------------------------
 
     public Acceptor_impl(String address, String[] hosts, ProfileCardinality profileCardinality,
-            int port, int backlog, boolean keepAlive, UnifiedConnectionHelper helper, ListenerMap lm, String[] params, Codec codec) {
+            int port, int backlog, boolean keepAlive, boolean selectable, UnifiedConnectionHelper helper, ListenerMap lm, String[] params, Codec codec) {
         this.hosts_ = hosts;
         this.profileCardinality = profileCardinality;
         this.keepAlive_ = keepAlive;
@@ -290,10 +290,14 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
             // Create socket and bind to requested network interface
             if (address == null) {
                 this.localAddress = InetAddress.getLoopbackAddress(); // use loopback address for connection to self
-                this.socket_ = connectionHelper.createServerSocket(port, backlog, params);
+                this.socket_ = selectable
+                        ? connectionHelper.createSelectableServerSocket(port, backlog, null, params)
+                        : connectionHelper.createServerSocket(port, backlog, params);
             } else {
                 this.localAddress = Util.getInetAddress(address);    // use the explicit bind address for connection to self
-                this.socket_ = connectionHelper.createServerSocket(port, backlog, localAddress, params);
+                this.socket_ = selectable
+                        ? connectionHelper.createSelectableServerSocket(port, backlog, localAddress, params)
+                        : connectionHelper.createServerSocket(port, backlog, localAddress, params);
             }
 
             // Read back the port. This is needed if the port was selected by the operating system.
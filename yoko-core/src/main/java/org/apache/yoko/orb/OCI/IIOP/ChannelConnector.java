@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import static java.nio.channels.SelectionKey.OP_CONNECT;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Connects socket channels without blocking a thread per connection attempt:
+ * every pending attempt in the process is driven by one shared selector thread.
+ * <br>
+ * When a host has several addresses, they are raced in the manner of "happy eyeballs" (RFC 8305).
+ * Each address is tried in turn, either when the previous attempt fails or after a short stagger,
+ * whichever is sooner, and the first connection to be established wins. The losers are closed.
+ */
+final class ChannelConnector {
+    private static final Logger logger = Logger.getLogger(ChannelConnector.class.getName());
+    /** How long to wait for an attempt to connect before starting another one in parallel */
+    static final long STAGGER_MILLIS = 250;
+
+    private static ChannelConnector instance;
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    /** every race whose result is not yet complete, so they can be failed if the selector thread dies */
+    private final Set<Race> races = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+    /** deferred attempts, ordered by start time - accessed only on the selector thread */
+    private final PriorityQueue<Race> timers = new PriorityQueue<>((a, b) -> Long.compare(a.nextStart, b.nextStart));
+
+    private ChannelConnector() throws IOException {
+        selector = Selector.open();
+        final Thread thread = new Thread(this::run, "Yoko IIOP connector");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static synchronized ChannelConnector instance() throws IOException {
+        if (instance == null) instance = new ChannelConnector();
+        return instance;
+    }
+
+    /**
+     * Start connecting to the first of the given addresses to accept a connection.
+     * Cancelling the returned future abandons any attempts still in progress.
+     * If all the attempts fail, the future completes exceptionally with the last failure, which is always an {@link IOException}.
+     */
+    static CompletableFuture<Socket> connect(InetAddress[] addresses, int port) throws IOException {
+        final ChannelConnector connector = instance();
+        final Race race = connector.new Race(addresses, port);
+        connector.races.add(race);
+        race.result.whenComplete((s, e) -> {
+            connector.races.remove(race);
+            if (race.result.isCancelled()) connector.execute(race::abandon);
+        });
+        // the selector thread sets the flag before failing the outstanding races, so this race is failed by one or the other
+        if (connector.stopped) race.result.completeExceptionally(new ConnectException("IIOP connector thread has stopped"));
+        else connector.execute(race::next);
+        return race.result;
+    }
+
+    private void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private void run() {
+        Throwable cause = null;
+        try {
+            for (;;) {
+                for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) task.run();
+                final long now = System.currentTimeMillis();
+                while (!timers.isEmpty() && timers.peek().nextStart <= now) timers.remove().next();
+                final long timeout = timers.isEmpty() ? 0 : Math.max(1, timers.peek().nextStart - now);
+                selector.select(timeout);
+                for (SelectionKey key : selector.selectedKeys()) ((Race) key.attachment()).finish(key);
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            cause = e;
+            logger.log(WARNING, "IIOP connector thread failed", e);
+        } finally {
+            stop(cause);
+        }
+    }
+
+    /** Called on the selector thread as it exits: the next connection request will start a new connector */
+    private void stop(Throwable cause) {
+        synchronized (ChannelConnector.class) {
+            if (instance == this) instance = null;
+        }
+        stopped = true;
+        for (Race race : races) {
+            race.attempts.clear();
+            final ConnectException e = new ConnectException("IIOP connector thread has stopped");
+            if (cause != null) e.initCause(cause);
+            race.result.completeExceptionally(e);
+        }
+        // close every attempt still registered, including those of races that were cancelled but never abandoned
+        try {
+            for (SelectionKey key : selector.keys()) ((Race) key.attachment()).close((SocketChannel) key.channel());
+        } catch (RuntimeException ignored) {
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /** One connection request, racing one attempt per address. Accessed only on the selector thread. */
+    private final class Race {
+        final CompletableFuture<Socket> result = new CompletableFuture<>();
+        final InetAddress[] addresses;
+        final int port;
+        final List<SocketChannel> attempts = new ArrayList<>();
+        int nextAddress;
+        long nextStart;
+        IOException lastFailure;
+
+        Race(InetAddress[] addresses, int port) {
+            this.addresses = addresses;
+            this.port = port;
+        }
+
+        /** start the next attempt, if there are any addresses left to try */
+        void next() {
+            timers.remove(this);
+            if (result.isDone() || nextAddress >= addresses.length) return;
+            final InetSocketAddress endpoint = new InetSocketAddress(addresses[nextAddress++], port);
+            if (logger.isLoggable(FINE)) logger.fine("Starting connection attempt to " + endpoint);
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                if (channel.connect(endpoint)) {
+                    win(channel);
+                    return;
+                }
+                channel.register(selector, OP_CONNECT, this);
+                attempts.add(channel);
+            } catch (IOException | RuntimeException e) {
+                close(channel);
+                fail(e);
+                return;
+            }
+            if (nextAddress < addresses.length) {
+                nextStart = System.currentTimeMillis() + STAGGER_MILLIS;
+                timers.add(this);
+            }
+        }
+
+        void finish(SelectionKey key) {
+            final SocketChannel channel = (SocketChannel) key.channel();
+            try {
+                if (!channel.finishConnect()) return;
+                key.cancel();
+                attempts.remove(channel);
+                win(channel);
+            } catch (IOException | RuntimeException e) {
+                key.cancel();
+                attempts.remove(channel);
+                close(channel);
+                fail(e);
+            }
+        }
+
+        void fail(Exception e) {
+            if (logger.isLoggable(FINE)) logger.log(FINE, "Connection attempt failed", e);
+            lastFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+            // don't wait for the stagger to expire before trying the next address
+            if (nextAddress < addresses.length) next();
+            else if (attempts.isEmpty()) result.completeExceptionally(lastFailure);
+        }
+
+        void win(SocketChannel channel) {
+            timers.remove(this);
+            if (!result.complete(channel.socket())) close(channel);
+            abandon();
+        }
+
+        void abandon() {
+            timers.remove(this);
+            for (SocketChannel channel : attempts) close(channel);
+            attempts.clear();
+            if (!result.isDone()) result.completeExceptionally(lastFailure == null ? new ConnectException("connection abandoned") : lastFailure);
+        }
+
+        void close(SocketChannel channel) {
+            if (channel == null) return;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Blocks threads until non-blocking channels are ready to be read or written,
+ * so that a transport in non-blocking mode does not need selectors of its own:
+ * every wait in the process is driven by one shared selector thread.
+ * <br>
+ * Each channel is registered with the shared selector the first time it is waited on, and stays registered until
+ * it is closed. Its interest set is the union of the operations currently being waited for.
+ * A transport must call {@link #forget} when it closes its channel, to release any threads still waiting on it.
+ */
+final class ChannelWaiter {
+    private static final Logger logger = Logger.getLogger(ChannelWaiter.class.getName());
+
+    private static ChannelWaiter instance;
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean stopped;
+    /** the threads waiting on each channel - accessed only on the selector thread */
+    private final Map<SelectableChannel, List<Wait>> waits = new HashMap<>();
+
+    private ChannelWaiter() throws IOException {
+        selector = Selector.open();
+        final Thread thread = new Thread(this::run, "Yoko IIOP channel waiter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static synchronized ChannelWaiter instance() throws IOException {
+        if (instance == null) instance = new ChannelWaiter();
+        return instance;
+    }
+
+    /**
+     * Wait for a channel to become ready for an operation.
+     * A thread that is interrupted while waiting stops waiting, and keeps its interrupt status.
+     * @param op {@link SelectionKey#OP_READ} or {@link SelectionKey#OP_WRITE}
+     * @param timeout the longest time to wait in milliseconds, or zero to wait indefinitely
+     * @return false if the timeout expired or the thread was interrupted first
+     */
+    static boolean await(SelectableChannel channel, int op, long timeout) throws IOException {
+        final ChannelWaiter waiter = instance();
+        final Wait wait = new Wait(channel, op);
+        waiter.execute(() -> waiter.add(wait));
+        // the selector thread sets the flag before failing the outstanding waits, so this wait is failed by one or the other
+        if (waiter.stopped) wait.ready.completeExceptionally(new IOException("IIOP channel waiter thread has stopped"));
+        try {
+            if (timeout > 0) wait.ready.get(timeout, MILLISECONDS);
+            else wait.ready.get();
+            return true;
+        } catch (TimeoutException e) {
+            return !waiter.abandon(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return !waiter.abandon(wait);
+        } catch (ExecutionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    /** Release any threads waiting on a channel that is being closed */
+    static void forget(SelectableChannel channel) {
+        final ChannelWaiter waiter;
+        synchronized (ChannelWaiter.class) {
+            waiter = instance;
+        }
+        if (waiter != null) waiter.execute(() -> waiter.release(channel));
+    }
+
+    /** @return true iff the wait was abandoned before the channel became ready */
+    private boolean abandon(Wait wait) {
+        if (!wait.ready.cancel(false)) return false;
+        execute(() -> remove(wait));
+        return true;
+    }
+
+    private void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private void run() {
+        Throwable cause = null;
+        try {
+            for (;;) {
+                for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) task.run();
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) ready(key);
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            cause = e;
+            logger.log(WARNING, "IIOP channel waiter thread failed", e);
+        } finally {
+            stop(cause);
+        }
+    }
+
+    /** Called on the selector thread as it exits: the next wait will start a new waiter */
+    private void stop(Throwable cause) {
+        synchronized (ChannelWaiter.class) {
+            if (instance == this) instance = null;
+        }
+        stopped = true;
+        for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) task.run();
+        final IOException e = new IOException("IIOP channel waiter thread has stopped");
+        if (cause != null) e.initCause(cause);
+        for (List<Wait> list : waits.values()) {
+            for (Wait wait : list) wait.ready.completeExceptionally(e);
+        }
+        waits.clear();
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /** Called on the selector thread to start waiting */
+    private void add(Wait wait) {
+        if (wait.ready.isDone()) return;
+        if (stopped) {
+            wait.ready.completeExceptionally(new IOException("IIOP channel waiter thread has stopped"));
+            return;
+        }
+        final List<Wait> list = waits.computeIfAbsent(wait.channel, c -> new ArrayList<>());
+        list.add(wait);
+        try {
+            final SelectionKey key = wait.channel.keyFor(selector);
+            if (key == null) wait.channel.register(selector, wait.op);
+            else key.interestOps(key.interestOps() | wait.op);
+        } catch (ClosedChannelException | CancelledKeyException e) {
+            // a closed channel is ready for its caller to discover that it is closed
+            release(wait.channel);
+        } catch (RuntimeException e) {
+            remove(wait);
+            wait.ready.completeExceptionally(new IOException(e));
+        }
+    }
+
+    /** Called on the selector thread when a waiting thread gives up */
+    private void remove(Wait wait) {
+        final List<Wait> list = waits.get(wait.channel);
+        if (list == null) return;
+        list.remove(wait);
+        updateInterest(wait.channel, list);
+    }
+
+    /** Called on the selector thread when a channel is selected */
+    private void ready(SelectionKey key) {
+        final SelectableChannel channel = key.channel();
+        final List<Wait> list = waits.get(channel);
+        if (list == null) return;
+        try {
+            final int readyOps = key.readyOps();
+            list.removeIf(wait -> (wait.op & readyOps) != 0 && wait.ready.complete(null) || wait.ready.isDone());
+            updateInterest(channel, list);
+        } catch (CancelledKeyException e) {
+            release(channel);
+        }
+    }
+
+    /** Called on the selector thread to release every thread waiting on a channel */
+    private void release(SelectableChannel channel) {
+        final List<Wait> list = waits.remove(channel);
+        if (list == null) return;
+        for (Wait wait : list) wait.ready.complete(null);
+    }
+
+    private void updateInterest(SelectableChannel channel, List<Wait> list) {
+        int ops = 0;
+        for (Wait wait : list) ops |= wait.op;
+        if (ops == 0) waits.remove(channel);
+        final SelectionKey key = channel.keyFor(selector);
+        try {
+            if (key != null) key.interestOps(ops);
+        } catch (CancelledKeyException e) {
+            release(channel);
+        }
+    }
+
+    private static final class Wait {
+        final CompletableFuture<Void> ready = new CompletableFuture<>();
+        final SelectableChannel channel;
+        final int op;
+
+        Wait(SelectableChannel channel, int op) {
+            this.channel = channel;
+            this.op = op;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
 
 //
 // IDL:orb.yoko.apache.org/OCI/IIOP/AcceptorInfo:1.0
@@ -44,6 +45,12 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException;
+    /** @see UnifiedConnectionHelper#createSelectableServerSocket */
+    default ServerSocket createSelectableServerSocket(int port, int backlog, InetAddress address) throws IOException {
+        return address == null ? createServerSocket(port, backlog) : createServerSocket(port, backlog, address);
+    }
+    /** @see UnifiedConnectionHelper#createSocketAsync */
+    default CompletableFuture<Socket> createSocketAsync(IOR ior, Policy[] policies, String host, int port) throws IOException { return null; }
     default UnifiedConnectionHelper getUnifiedConnectionHelper() {
         return new UnifiedConnectionHelper() {
             @Override
@@ -56,6 +63,11 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
                 return ConnectionHelper.this.createSocket(ior, policies, Util.getInetAddress(host), port);
             }
 
+            @Override
+            public CompletableFuture<Socket> createSocketAsync(String host, int port, IOR ior, Policy... policies) throws IOException {
+                return ConnectionHelper.this.createSocketAsync(ior, policies, host, port);
+            }
+
             @Override
             public Socket createSelfConnection(InetAddress address, int port) throws IOException {
                 return ConnectionHelper.this.createSelfConnection(address, port);
@@ -70,6 +82,11 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
             public ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... ignored) throws IOException {
                 return ConnectionHelper.this.createServerSocket(port, backlog, address);
             }
+
+            @Override
+            public ServerSocket createSelectableServerSocket(int port, int backlog, InetAddress address, String... ignored) throws IOException {
+                return ConnectionHelper.this.createSelectableServerSocket(port, backlog, address);
+            }
         };
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,10 +39,12 @@ import java.net.Socket;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.logging.Level.FINE;
 import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
@@ -114,7 +116,8 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         final String targetDesc = ("host=" + info_.getHost() + ", port=" + info_.getPort());
         try {
             if (logger.isLoggable(FINE)) logger.fine("Connecting to " + targetDesc);
-            socket_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
+            final CompletableFuture<Socket> pending = connectionHelper.createSocketAsync(info_.getHost(), info_.getPort(), ior_, policies_);
+            socket_ = pending == null ? connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_) : awaitSocket(pending, 0);
             if (logger.isLoggable(FINE)) logger.fine("Connection created with socket " + socket_);
         } catch (ConnectException ex) {
             throw wrapped(CONN_LOG, ex, "Error connecting to " + targetDesc, CONNECT_FAILED);
@@ -174,15 +177,20 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
     }
 
     //
-    // Helper class for connect_timeout()
+    // Threads for connect_timeout() to make blocking connections on, used when the connection helper cannot
+    // connect asynchronously. They are pooled so that a burst of connections does not mean a burst of new threads.
     //
-    private class ConnectTimeout extends Thread {
-        private final CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
-
-        public void run() {
-            final Socket so_;
+    private static final ExecutorService BLOCKING_CONNECTS = newCachedThreadPool(r -> {
+        final Thread t = new Thread(r, "Yoko IIOP blocking connect");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private CompletableFuture<Socket> connectInBackground() {
+        final CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
+        BLOCKING_CONNECTS.execute(() -> {
             try {
-                so_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
+                final Socket so_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
                 if (socketFuture.complete(so_)) return;
                 try {
                     so_.close();
@@ -190,18 +198,24 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
             } catch (IOException e) {
                 socketFuture.completeExceptionally(e);
             }
-        }
+        });
+        return socketFuture;
+    }
 
-        synchronized Socket waitForConnect(int t) throws IOException {
-            for (;;) {
-                try {
-                    return socketFuture.get(t, MILLISECONDS);
-                } catch (InterruptedException ignored) {
-                } catch (TimeoutException e) {
-                    if (socketFuture.cancel(false)) return null;
-                } catch (ExecutionException e) {
-                    throw (IOException) e.getCause();
-                }
+    /**
+     * Wait for a pending connection.
+     * @param t the timeout in milliseconds, or zero to wait until the connection succeeds or fails
+     * @return the connected socket, or <code>null</code> if the timeout expired first
+     */
+    private static Socket awaitSocket(CompletableFuture<Socket> socketFuture, int t) throws IOException {
+        for (;;) {
+            try {
+                return t > 0 ? socketFuture.get(t, MILLISECONDS) : socketFuture.get();
+            } catch (InterruptedException ignored) {
+            } catch (TimeoutException e) {
+                if (socketFuture.cancel(false)) return null;
+            } catch (ExecutionException e) {
+                throw (IOException) e.getCause();
             }
         }
     }
@@ -211,10 +225,10 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
 
         // Create socket and connect
         try {
-            final ConnectTimeout connectTimeout = new ConnectTimeout();
-            connectTimeout.start();
+            CompletableFuture<Socket> pending = connectionHelper.createSocketAsync(info_.getHost(), info_.getPort(), ior_, policies_);
+            if (pending == null) pending = connectInBackground();
 
-            socket_ = connectTimeout.waitForConnect(t);
+            socket_ = awaitSocket(pending, t);
 
             if (null == socket_) return null;
         } catch (ConnectException ex) {
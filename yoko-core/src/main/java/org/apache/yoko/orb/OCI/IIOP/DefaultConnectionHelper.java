@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.OCI.IIOP;
 
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.Policy;
 import org.omg.IOP.IOR;
@@ -27,16 +28,35 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Creates plain TCP sockets. Server sockets for reactive POA managers are
+ * backed by NIO channels so that accepted connections can be multiplexed
+ * on a selector.
+ * If <code>yoko.orb.iiop.nonblocking_connect</code> is set to <code>true</code>,
+ * client sockets are connected asynchronously by a {@link ChannelConnector}.
+ */
 public class DefaultConnectionHelper implements ConnectionHelper {
+    private boolean nonBlockingConnect;
+
     public void init(ORB orb, String parms) {
         // no initializer parameters required by this version.
+        if (!(orb instanceof ORB_impl)) return;
+        final Properties props = ((ORB_impl) orb).properties();
+        nonBlockingConnect = Boolean.parseBoolean(props.getProperty("yoko.orb.iiop.nonblocking_connect"));
     }
 
     public Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port) throws IOException {
         return createSocket(address, port);
     }
 
+    public CompletableFuture<Socket> createSocketAsync(IOR ior, Policy[] policies, String host, int port) throws IOException {
+        return nonBlockingConnect ? ChannelConnector.connect(Util.getAllInetAddresses(host), port) : null;
+    }
+
     public Socket createSelfConnection(InetAddress address, int port) throws IOException {
         return createSocket(address, port);
     }
@@ -54,9 +74,19 @@ public class DefaultConnectionHelper implements ConnectionHelper {
     }
 
     public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+        return createServerSocket(port, backlog, address, false);
+    }
+
+    public ServerSocket createSelectableServerSocket(int port, int backlog, InetAddress address) throws IOException {
+        return createServerSocket(port, backlog, address, true);
+    }
+
+    private static ServerSocket createServerSocket(int port, int backlog, InetAddress address, boolean selectable) throws IOException {
         try {
             final SocketAddress endpoint = new InetSocketAddress(address, port);
-            final ServerSocket serverSocket = new ServerSocket();
+            // only use channels when asked, since older JDKs serialize
+            // concurrent reads and writes on a channel's socket streams
+            final ServerSocket serverSocket = selectable ? ServerSocketChannel.open().socket() : new ServerSocket();
             serverSocket.setReuseAddress(true);
             serverSocket.setPerformancePreferences(0, 2, 1);
             serverSocket.bind(endpoint, backlog);
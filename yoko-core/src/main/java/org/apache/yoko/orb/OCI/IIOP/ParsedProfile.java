@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.CORBA.InputStream;
+import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.omg.CORBA.Any;
+import org.omg.CSIIOP.CompoundSecMech;
+import org.omg.CSIIOP.CompoundSecMechListHelper;
+import org.omg.CSIIOP.TAG_CSI_SEC_MECH_LIST;
+import org.omg.CSIIOP.TAG_TLS_SEC_TRANS;
+import org.omg.CSIIOP.TLS_SEC_TRANSHelper;
+import org.omg.CSIIOP.TransportAddress;
+import org.omg.IIOP.ProfileBody_1_0;
+import org.omg.IIOP.ProfileBody_1_0Helper;
+import org.omg.IOP.Codec;
+import org.omg.IOP.CodecPackage.FormatMismatch;
+import org.omg.IOP.CodecPackage.TypeMismatch;
+import org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS;
+import org.omg.IOP.TaggedComponent;
+import org.omg.IOP.TaggedComponentHelper;
+import org.omg.IOP.TaggedProfile;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The decoded form of an IIOP profile, so that a profile is only ever unmarshalled once
+ * however many times its reference is bound or compared.
+ * <br>
+ * Parsed profiles are cached against the identity of the profile data,
+ * so they live exactly as long as the IOR they came from.
+ * Instances are immutable once built, apart from the lazily decoded endpoint list,
+ * so callers are only ever given copies of the key and components.
+ */
+final class ParsedProfile {
+    private static final TaggedComponent[] NO_COMPONENTS = {};
+    private static final ConcurrentMap<DataKey, ParsedProfile> CACHE = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<byte[]> STALE_KEYS = new ReferenceQueue<>();
+
+    final byte major, minor;
+    final String host;
+    final short port;
+    final byte[] key;
+    final TaggedComponent[] components;
+    /** every address this profile can be reached on, including alternate and TLS addresses */
+    private volatile Endpoint[] endpoints;
+
+    private ParsedProfile(byte[] profileData) {
+        InputStream in = new InputStream(profileData);
+        in._OB_readEndian();
+        ProfileBody_1_0 body = ProfileBody_1_0Helper.read(in);
+        major = body.iiop_version.major;
+        minor = body.iiop_version.minor;
+        host = body.host;
+        port = body.port;
+        key = body.object_key;
+
+        // Read components if the IIOP version is > 1.0
+        if (major > 1 || minor > 0) {
+            int len = in.read_ulong();
+            components = new TaggedComponent[len];
+            for (int j = 0; j < len; j++) components[j] = TaggedComponentHelper.read(in);
+        } else {
+            components = NO_COMPONENTS;
+        }
+    }
+
+    /** Get the parsed form of an IIOP profile, parsing it only if this is the first request for it */
+    static ParsedProfile of(TaggedProfile profile) {
+        cleanStaleKeys();
+        ParsedProfile parsed = CACHE.get(new DataKey(profile.profile_data, null));
+        if (parsed == null) {
+            // in a race, both threads produce equivalent results and the first one is kept
+            parsed = new ParsedProfile(profile.profile_data);
+            ParsedProfile previous = CACHE.putIfAbsent(new DataKey(profile.profile_data, STALE_KEYS), parsed);
+            if (previous != null) parsed = previous;
+        }
+        return parsed;
+    }
+
+    /** @return the number of profiles cached for data that is still reachable */
+    static int cacheSize() {
+        cleanStaleKeys();
+        return CACHE.size();
+    }
+
+    private static void cleanStaleKeys() {
+        for (Reference<? extends byte[]> staleKey = STALE_KEYS.poll(); staleKey != null; staleKey = STALE_KEYS.poll()) {
+            CACHE.remove(staleKey);
+        }
+    }
+
+    /** @return a new profile info, which the caller is free to modify */
+    ProfileInfo toProfileInfo(int tag, int index) {
+        ProfileInfo profileInfo = new ProfileInfo();
+        profileInfo.key = key.clone();
+        profileInfo.minor = minor;
+        profileInfo.major = major;
+        profileInfo.id = tag;
+        profileInfo.index = index;
+        profileInfo.components = new TaggedComponent[components.length];
+        for (int i = 0; i < components.length; i++)
+            profileInfo.components[i] = new TaggedComponent(components[i].tag, components[i].component_data.clone());
+        return profileInfo;
+    }
+
+    /** @return true if any address in this profile matches the given host and port */
+    boolean matches(String host, short port, Codec codec, boolean matchLoopback) {
+        for (Endpoint e : endpoints(codec)) {
+            if (e.port == port && Util.hostMatch(host, e.host, matchLoopback)) return true;
+        }
+        return false;
+    }
+
+    private Endpoint[] endpoints(Codec codec) {
+        Endpoint[] result = endpoints;
+        if (result != null) return result;
+        List<Endpoint> list = new ArrayList<>();
+        list.add(new Endpoint(host, port));
+        boolean complete = true;
+        for (final TaggedComponent component : components) {
+            if (component.tag == TAG_ALTERNATE_IIOP_ADDRESS.value) {
+                InputStream s = new InputStream(component.component_data);
+                s._OB_readEndian();
+                String altHost = s.read_string();
+                short altPort = s.read_ushort();
+                list.add(new Endpoint(altHost, altPort));
+            } else if (component.tag == TAG_CSI_SEC_MECH_LIST.value) {
+                // without a codec the security mechanisms cannot be decoded, so don't remember this partial result
+                if (codec == null) {
+                    complete = false;
+                    continue;
+                }
+                try {
+                    Any any = codec.decode_value(component.component_data, CompoundSecMechListHelper.type());
+                    for (CompoundSecMech csm : CompoundSecMechListHelper.extract(any).mechanism_list) {
+                        TaggedComponent tc = csm.transport_mech;
+                        if (tc.tag != TAG_TLS_SEC_TRANS.value) continue;
+                        Any tstAny = codec.decode_value(tc.component_data, TLS_SEC_TRANSHelper.type());
+                        for (TransportAddress addr : TLS_SEC_TRANSHelper.extract(tstAny).addresses) list.add(new Endpoint(addr.host_name, addr.port));
+                    }
+                } catch (FormatMismatch | TypeMismatch ignored) {
+                }
+            }
+        }
+        result = list.toArray(new Endpoint[0]);
+        if (complete) endpoints = result;
+        return result;
+    }
+
+    /** Weakly refers to the profile data, which is compared by identity, so it lives exactly as long as the IOR */
+    private static final class DataKey extends WeakReference<byte[]> {
+        private final int hash;
+
+        DataKey(byte[] data, ReferenceQueue<byte[]> queue) {
+            super(data, queue);
+            hash = System.identityHashCode(data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DataKey)) return false;
+            final byte[] data = get();
+            return data != null && data == ((DataKey) o).get();
+        }
+    }
+
+    private static final class Endpoint {
+        final String host;
+        final short port;
+
+        Endpoint(String host, short port) {
+            this.host = host;
+            this.port = port;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,18 +21,23 @@ import org.apache.yoko.giop.MessageType;
 import org.apache.yoko.orb.OCI.Acceptor;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.orb.OCI.SelectableTransport;
 import org.apache.yoko.orb.OCI.SendReceiveMode;
 import org.apache.yoko.orb.OCI.Transport;
 import org.omg.CORBA.COMM_FAILURE;
 import org.omg.CORBA.CompletionStatus;
 import org.omg.CORBA.LocalObject;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,14 +48,23 @@ import static org.apache.yoko.util.MinorCodes.MinorSetSoTimeout;
 import static org.apache.yoko.util.MinorCodes.MinorSocket;
 import static org.apache.yoko.util.MinorCodes.describeCommFailure;
 import static org.apache.yoko.orb.OCI.IIOP.Exceptions.asCommFailure;
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
 import static org.apache.yoko.orb.OCI.SendReceiveMode.SendReceive;
 
-final public class Transport_impl extends LocalObject implements Transport {
+final public class Transport_impl extends LocalObject implements SelectableTransport {
     // This data member must not be private because the info object
     // must be able to access it
     public final Socket socket_; // The socket
 
-    private final InputStream in_; // The socket's input stream
+    /**
+     * The size of the read-ahead buffer. A single read of this size usually pulls in a GIOP header together with its
+     * body, and often several small pipelined messages too. Bodies larger than this are read straight into the
+     * message buffer.
+     */
+    static final int READ_AHEAD_SIZE = 8 * 1024;
+
+    private final ReadAheadStream in_; // The socket's input stream
 
     private final OutputStream out_; // The socket's output stream
 
@@ -60,6 +74,8 @@ final public class Transport_impl extends LocalObject implements Transport {
 
     private final TransportInfo_impl info_; // Transport information
 
+    private volatile SocketChannel channel_; // The socket's channel, once switched to non-blocking mode
+
     // the real logger backing instance.  We use the interface class as the locator
     private static final Logger logger = Logger.getLogger(Transport.class.getName());
 
@@ -95,6 +111,9 @@ final public class Transport_impl extends LocalObject implements Transport {
     }
 
     private void setBlock(boolean block) {
+        // a non-blocking channel never blocks in the socket, so there is no timeout to set
+        if (channel_ != null)
+            return;
         if (block)
             setSoTimeout(0);
         else
@@ -132,6 +151,62 @@ final public class Transport_impl extends LocalObject implements Transport {
         }
     }
 
+    //
+    // Wait for a non-blocking channel to become ready for the specified
+    // operation. A timeout of zero means wait indefinitely.
+    // Returns false if the timeout expired first.
+    //
+    private boolean awaitReady(int op, long timeout) throws IOException {
+        return ChannelWaiter.await(channel_, op, timeout);
+    }
+
+    // Release any threads still waiting for the channel
+    private void forgetChannel() {
+        final SocketChannel channel = channel_;
+        if (channel != null)
+            ChannelWaiter.forget(channel);
+    }
+
+    private void receiveFromChannel(WriteBuffer writeBuffer, boolean block) {
+        while (!writeBuffer.isComplete()) {
+            try {
+                final int count = writeBuffer.readFrom(channel_);
+                if (count < 0)
+                    throw new COMM_FAILURE(describeCommFailure(MinorRecvZero), MinorRecvZero, CompletionStatus.COMPLETED_NO);
+                if (count == 0) {
+                    if (!block)
+                        return;
+                    awaitReady(OP_READ, 0);
+                }
+            } catch (IOException ex) {
+                logger.log(Level.FINE, "Channel read error", ex);
+                throw asCommFailure(ex, MinorRecv, "I/O error during read");
+            }
+        }
+    }
+
+    //
+    // Write to a non-blocking channel. A timeout of zero means wait
+    // indefinitely and a negative timeout means do not wait at all.
+    //
+    private void sendToChannel(ReadBuffer readBuffer, long timeout) throws IOException {
+        final long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        while (!readBuffer.isComplete()) {
+            MessageType.logOutgoingGiopMessage(readBuffer);
+            if (readBuffer.writeTo(channel_) > 0)
+                continue;
+            if (timeout < 0)
+                return;
+            if (timeout == 0) {
+                awaitReady(OP_WRITE, 0);
+                continue;
+            }
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0 || !awaitReady(OP_WRITE, remaining))
+                return;
+        }
+    }
+
     // ------------------------------------------------------------------
     // Standard IDL to Java Mapping
     // ------------------------------------------------------------------
@@ -155,6 +230,7 @@ final public class Transport_impl extends LocalObject implements Transport {
             socket_.close();
         } catch (IOException ignored) {
         }
+        forgetChannel();
     }
 
     public void shutdown() {
@@ -166,12 +242,34 @@ final public class Transport_impl extends LocalObject implements Transport {
             socket_.close();
         } catch (IOException ignored) {
         }
+        forgetChannel();
+    }
+
+    public SelectableChannel enableSelection() {
+        final SocketChannel channel = socket_.getChannel();
+        if (channel == null)
+            return null;
+        // bytes already read ahead from the socket would never be seen by a reader of the channel
+        if (in_.buffered() > 0)
+            return null;
+        try {
+            channel.configureBlocking(false);
+        } catch (IOException ex) {
+            logger.log(Level.FINE, "Channel setup error", ex);
+            throw asCommFailure(ex, MinorSocket, "unable to configure non-blocking channel");
+        }
+        channel_ = channel;
+        return channel;
     }
 
     public void receive(WriteBuffer writeBuffer, boolean block) {
         setBlock(block);
 
-        logger.fine("receiving a buffer of " + writeBuffer.available() + " from " + socket_ + " using transport " + this);
+        if (logger.isLoggable(Level.FINE)) logger.fine("receiving a buffer of " + writeBuffer.available() + " from " + socket_ + " using transport " + this);
+        if (channel_ != null) {
+            receiveFromChannel(writeBuffer, block);
+            return;
+        }
         while (!writeBuffer.isComplete()) {
             try {
                 if (!writeBuffer.readFrom(in_))
@@ -196,7 +294,17 @@ final public class Transport_impl extends LocalObject implements Transport {
     public void send(ReadBuffer readBuffer, boolean block) {
         setBlock(block);
 
-        logger.fine("Sending buffer of size " + readBuffer.available() + " to " + socket_);
+        if (logger.isLoggable(Level.FINE)) logger.fine("Sending buffer of size " + readBuffer.available() + " to " + socket_);
+
+        if (channel_ != null) {
+            try {
+                sendToChannel(readBuffer, block ? 0 : -1);
+            } catch (IOException ex) {
+                logger.log(Level.FINE, "Channel write error", ex);
+                throw asCommFailure(ex, MinorSend, "I/O error during write");
+            }
+            return;
+        }
 
         while (!readBuffer.isComplete()) {
             try {
@@ -218,6 +326,15 @@ final public class Transport_impl extends LocalObject implements Transport {
     public boolean send_detect(ReadBuffer readBuffer, boolean block) {
         setBlock(block);
 
+        if (channel_ != null) {
+            try {
+                sendToChannel(readBuffer, block ? 0 : -1);
+                return true;
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+
         while (!readBuffer.isComplete()) {
             try {
                 MessageType.logOutgoingGiopMessage(readBuffer);
@@ -242,6 +359,16 @@ final public class Transport_impl extends LocalObject implements Transport {
             return;
         }
 
+        if (channel_ != null) {
+            try {
+                sendToChannel(readBuffer, t);
+            } catch (IOException ex) {
+                logger.log(Level.FINE, "Channel write error", ex);
+                throw asCommFailure(ex, MinorSend, "I/O error during write");
+            }
+            return;
+        }
+
         setSoTimeout(t);
 
         while (!readBuffer.isComplete()) {
@@ -278,13 +405,17 @@ final public class Transport_impl extends LocalObject implements Transport {
         // performance reasons
         //
         try {
-            in_ = socket_.getInputStream();
+            in_ = new ReadAheadStream(socket_.getInputStream());
             out_ = socket_.getOutputStream();
         } catch (IOException ex) {
             logger.log(Level.FINE, "Socket setup error", ex);
             throw asCommFailure(ex, MinorSocket, "unable to obtain socket InputStream");
         }
 
+        // a socket connected without blocking already has a non-blocking channel, so it must be used through the channel
+        final SocketChannel channel = socket_.getChannel();
+        if (channel != null && !channel.isBlocking()) channel_ = channel;
+
         //
         // Since the Constructor of TransportInfo uses this object create
         // it after all members are initialized
@@ -303,7 +434,7 @@ final public class Transport_impl extends LocalObject implements Transport {
         // performance reasons
         //
         try {
-            in_ = socket_.getInputStream();
+            in_ = new ReadAheadStream(socket_.getInputStream());
             out_ = socket_.getOutputStream();
         } catch (IOException ex) {
             logger.log(Level.FINE, "Socket setup error", ex);
@@ -327,4 +458,12 @@ final public class Transport_impl extends LocalObject implements Transport {
     public String toString() {
         return String.format("Transport to %s with socket %s", info_, socket_);
     }
+
+    /** Reads ahead from the socket, so that each read syscall can supply more than one header or message */
+    static final class ReadAheadStream extends BufferedInputStream {
+        ReadAheadStream(InputStream in) { super(in, READ_AHEAD_SIZE); }
+
+        /** @return the number of bytes read from the socket but not yet consumed */
+        synchronized int buffered() { return count - pos; }
+    }
 }
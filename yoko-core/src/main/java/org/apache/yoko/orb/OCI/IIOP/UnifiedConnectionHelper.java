@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,13 +29,27 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface UnifiedConnectionHelper {
     void init(ORB orb, String params);
     Socket createSocket(String host, int port, IOR ior, Policy... policies) throws IOException;
+    /**
+     * Start connecting without blocking the calling thread, racing the host's addresses if it has several.
+     * @return a future for the connected socket, or <code>null</code> if this helper can only connect using {@link #createSocket}
+     */
+    default CompletableFuture<Socket> createSocketAsync(String host, int port, IOR ior, Policy... policies) throws IOException { return null; }
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog, String... params)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... params) throws IOException;
+    /**
+     * Create a server socket for a reactive POA manager. The sockets it accepts should have selectable channels.
+     * @param address the address to bind to, or <code>null</code> to bind to all local addresses
+     * @return a server socket, which is only backed by a channel if this helper supports it
+     */
+    default ServerSocket createSelectableServerSocket(int port, int backlog, InetAddress address, String... params) throws IOException {
+        return address == null ? createServerSocket(port, backlog, params) : createServerSocket(port, backlog, address, params);
+    }
     default Set<Integer> tags() { return Collections.emptySet(); }
     default TransportAddress[] getEndpoints(TaggedComponent taggedComponent, Policy... policies) { return new TransportAddress[0]; }
     default boolean isExtended() { return false; }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,28 +24,15 @@ import org.apache.yoko.orb.OB.Net;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.orb.OCI.ProfileInfoHolder;
 import org.apache.yoko.orb.OCI.ProfileInfoSeqHolder;
-import org.omg.CORBA.Any;
-import org.omg.CSIIOP.CompoundSecMech;
-import org.omg.CSIIOP.CompoundSecMechList;
-import org.omg.CSIIOP.CompoundSecMechListHelper;
-import org.omg.CSIIOP.TAG_CSI_SEC_MECH_LIST;
-import org.omg.CSIIOP.TAG_TLS_SEC_TRANS;
-import org.omg.CSIIOP.TLS_SEC_TRANS;
-import org.omg.CSIIOP.TLS_SEC_TRANSHelper;
-import org.omg.CSIIOP.TransportAddress;
 import org.omg.IIOP.ProfileBody_1_0;
 import org.omg.IIOP.ProfileBody_1_0Helper;
 import org.omg.IIOP.ProfileBody_1_1;
 import org.omg.IIOP.ProfileBody_1_1Helper;
 import org.omg.IIOP.Version;
 import org.omg.IOP.Codec;
-import org.omg.IOP.CodecPackage.FormatMismatch;
-import org.omg.IOP.CodecPackage.TypeMismatch;
 import org.omg.IOP.IOR;
-import org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS;
 import org.omg.IOP.TAG_INTERNET_IOP;
 import org.omg.IOP.TaggedComponent;
-import org.omg.IOP.TaggedComponentHelper;
 import org.omg.IOP.TaggedProfile;
 
 import java.net.InetAddress;
@@ -149,42 +136,13 @@ final public class Util {
 
         for (int i = 0; i < ior.profiles.length; i++) {
             if (ior.profiles[i].tag != TAG_INTERNET_IOP.value) continue;
-            //
-            // Get the IIOP profile body
-            //
-            InputStream in = new InputStream(ior.profiles[i].profile_data);
-            in._OB_readEndian();
-            ProfileBody_1_0 body = ProfileBody_1_0Helper.read(in);
-
-            //
-            // Read components if the IIOP version is > 1.0
-            //
-            TaggedComponent[] components;
-            if (body.iiop_version.major > 1 || body.iiop_version.minor > 0) {
-                int len = in.read_ulong();
-                components = new TaggedComponent[len];
-                for (int j = 0; j < len; j++) {
-                    components[j] = TaggedComponentHelper.read(in);
-                }
-            } else {
-                components = new TaggedComponent[0];
-            }
+            final ParsedProfile parsed = ParsedProfile.of(ior.profiles[i]);
 
             // add this profile to the list unless
             // A) the caller requested matching
             // B) the profile doesn't match the supplied host and port
-            if (!!!performMatch
-                    || hostAndPortMatch(host, portNo, body.host, body.port, matchLoopback)
-                    || taggedComponentsMatch(components, host, portNo, codec, matchLoopback)) {
-                ProfileInfo profileInfo = new ProfileInfo();
-                profileInfo.key = body.object_key;
-                profileInfo.minor = body.iiop_version.minor;
-                profileInfo.major = body.iiop_version.major;
-                profileInfo.id = ior.profiles[i].tag;
-                profileInfo.index = i;
-                profileInfo.components = components;
-
-                list.add(profileInfo);
+            if (!!!performMatch || parsed.matches(host, portNo, codec, matchLoopback)) {
+                list.add(parsed.toProfileInfo(ior.profiles[i].tag, i));
             }
         }
 
@@ -195,58 +153,11 @@ final public class Util {
         }
     }
 
-    private static boolean hostAndPortMatch(String host, short portNo, String bodyHost, short bodyPort, boolean matchLoopback) {
-        return portNo == bodyPort && hostMatch(host, bodyHost, matchLoopback);
-    }
-
-    private static boolean taggedComponentsMatch(TaggedComponent[] components, String host, short port, Codec codec, boolean matchLoopback) {
-        for (final TaggedComponent component : components) {
-            if (component.tag == TAG_ALTERNATE_IIOP_ADDRESS.value) {
-                InputStream s = new InputStream(component.component_data);
-                s._OB_readEndian();
-                String altHost = s.read_string();
-                short altPort = s.read_ushort();
-                if (hostAndPortMatch(host, port, altHost, altPort, matchLoopback)) {
-                    return true;
-                }
-            } else if (component.tag == TAG_CSI_SEC_MECH_LIST.value) {
-                Any any;
-                try {
-                    any = codec.decode_value(component.component_data, CompoundSecMechListHelper.type());
-                    CompoundSecMechList csml = CompoundSecMechListHelper.extract(any);
-
-                    for (CompoundSecMech csm : csml.mechanism_list) {
-                        TaggedComponent tc = csm.transport_mech;
-                        if (tc.tag == TAG_TLS_SEC_TRANS.value) {
-                            Any tstAny = codec.decode_value(tc.component_data, TLS_SEC_TRANSHelper.type());
-                            TLS_SEC_TRANS tst = TLS_SEC_TRANSHelper.extract(tstAny);
-                            TransportAddress[] transportAddresses = tst.addresses;
-                            if (transportAddressesMatch(transportAddresses, host, port, matchLoopback))
-                                return true;
-                        }
-                    }
-                } catch (FormatMismatch | TypeMismatch ignored) {
-                }
-            }
-        }
-        return false;
-    }
-
-    private static boolean transportAddressesMatch(TransportAddress[] addrs, String host, short port, boolean loopbackMatches) {
-        for (TransportAddress addr: addrs) {
-            final short addrPort = addr.port;
-            if (hostAndPortMatch(host, port, addr.host_name, addrPort, loopbackMatches)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     static public boolean equivalent(IOR ior1, IOR ior2) {
         int p1, p2, b1, b2;
         int cnt1 = 0, cnt2 = 0;
-        ProfileBody_1_0[] bodies1;
-        ProfileBody_1_0[] bodies2;
+        ParsedProfile[] bodies1;
+        ParsedProfile[] bodies2;
 
         //
         // Calculate number of IIOP profiles in ior1
@@ -272,13 +183,10 @@ final public class Util {
         //
         // Create an array with all IIOP profile bodies of ior1
         //
-        bodies1 = new ProfileBody_1_0[cnt1];
+        bodies1 = new ParsedProfile[cnt1];
         for (p1 = 0, b1 = 0; p1 < ior1.profiles.length; p1++)
-            if (ior1.profiles[p1].tag == TAG_INTERNET_IOP.value) {
-                InputStream in = new InputStream(ior1.profiles[p1].profile_data);
-                in._OB_readEndian();
-                bodies1[b1++] = ProfileBody_1_0Helper.read(in);
-            }
+            if (ior1.profiles[p1].tag == TAG_INTERNET_IOP.value)
+                bodies1[b1++] = ParsedProfile.of(ior1.profiles[p1]);
 
         if (b1 != cnt1)
             throw new InternalError();
@@ -286,13 +194,10 @@ final public class Util {
         //
         // Create an array with all IIOP profile bodies of ior2
         //
-        bodies2 = new ProfileBody_1_0[cnt2];
+        bodies2 = new ParsedProfile[cnt2];
         for (p2 = 0, b2 = 0; p2 < ior2.profiles.length; p2++)
-            if (ior2.profiles[p2].tag == TAG_INTERNET_IOP.value) {
-                InputStream in = new InputStream(ior2.profiles[p2].profile_data);
-                in._OB_readEndian();
-                bodies2[b2++] = ProfileBody_1_0Helper.read(in);
-            }
+            if (ior2.profiles[p2].tag == TAG_INTERNET_IOP.value)
+                bodies2[b2++] = ParsedProfile.of(ior2.profiles[p2]);
 
         if (b2 != cnt2)
             throw new InternalError();
@@ -333,13 +238,13 @@ final public class Util {
         return true;
     }
 
-    static boolean compareBodies(ProfileBody_1_0 body1,
-            ProfileBody_1_0 body2) {
+    static boolean compareBodies(ParsedProfile body1,
+            ParsedProfile body2) {
         //
         // Compare versions
         //
-        if (body1.iiop_version.major != body2.iiop_version.major
-                || body1.iiop_version.minor != body2.iiop_version.minor)
+        if (body1.major != body2.major
+                || body1.minor != body2.minor)
             return false;
 
         //
@@ -351,14 +256,9 @@ final public class Util {
         //
         // Compare object keys
         //
-        if (body1.object_key.length != body2.object_key.length)
+        if (!Arrays.equals(body1.key, body2.key))
             return false;
 
-        int k;
-        for (k = 0; k < body1.object_key.length; k++)
-            if (body1.object_key[k] != body2.object_key[k])
-                return false;
-
         //
         // Direct host comparison
         //
@@ -439,4 +339,18 @@ final public class Util {
             }
         }
     }
+
+    static InetAddress[] getAllInetAddresses(final String host) throws UnknownHostException {
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<InetAddress[]>) () -> InetAddress.getAllByName(host));
+        } catch (PrivilegedActionException e) {
+            try {
+                throw e.getException();
+            } catch (RuntimeException | UnknownHostException e2) {
+                throw e2;
+            } catch (Exception e2) {
+                throw new RuntimeException("Unexpected exception", e2);
+            }
+        }
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI;
+
+/**
+ * An {@link AccFactory} that can create acceptors for a reactive POA manager,
+ * whose accepted transports can be driven by a {@link java.nio.channels.Selector}.
+ */
+public interface SelectableAccFactory extends AccFactory {
+    /**
+     * Create an acceptor whose accepted transports are {@link SelectableTransport}s backed by a selectable channel,
+     * where the connection helper in use supports it. Otherwise, this is the same as {@link #create_acceptor}.
+     */
+    Acceptor create_selectable_acceptor(String[] params) throws InvalidParam;
+}
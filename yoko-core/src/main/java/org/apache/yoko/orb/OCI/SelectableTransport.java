@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI;
+
+import java.nio.channels.SelectableChannel;
+
+/**
+ * A {@link Transport} that can be driven by a {@link java.nio.channels.Selector}
+ * instead of by a thread blocked in {@link Transport#receive}.
+ */
+public interface SelectableTransport extends Transport {
+    /**
+     * Switch this transport into non-blocking mode so that its channel can be registered with a selector.
+     * Once switched, non-blocking calls to {@link #receive} return as soon as no more data is available,
+     * and blocking calls to {@link #send} wait for the channel to become writable.
+     *
+     * @return the channel to register for read readiness,
+     *         or <code>null</code> if this transport is not backed by a selectable channel
+     */
+    SelectableChannel enableSelection();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -86,6 +86,15 @@ public final class MethodDescriptor extends ModelElement {
 
     boolean copyWithinState;
 
+    /** The direct invoker for incoming calls, created on first use */
+    private volatile MethodInvoker invoker;
+
+    MethodInvoker getInvoker() {
+        MethodInvoker result = invoker;
+        if (result == null) invoker = result = MethodInvoker.create(this);
+        return result;
+    }
+
     /**
      * Copy a set of arguments. If sameState=true, then we're invoking on the
      * same RMIState, i.e. an environment with the same context class loader.
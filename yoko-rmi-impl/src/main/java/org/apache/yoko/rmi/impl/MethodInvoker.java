@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.ResponseHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.rmi.Remote;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.invoke.MethodHandles.collectArguments;
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.foldArguments;
+import static java.lang.invoke.MethodHandles.permuteArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
+
+/**
+ * Calls a remote method on its target through a method handle composed of the method itself,
+ * a reader for each argument, and a writer for the result. The arguments go straight from the
+ * request stream to the call, and the result straight to the reply, so nothing is boxed and no
+ * argument array is built. Methods that cannot be called this way (e.g. on non-public interfaces)
+ * are left to the reflective path in {@link RMIServant}.
+ */
+final class MethodInvoker {
+    private static final Logger LOGGER = Logger.getLogger(MethodInvoker.class.getName());
+    /** Set this property to force every call through the reflective path, e.g. to compare the two */
+    private static final boolean DISABLED = Boolean.parseBoolean(doPrivileged(getSysProp("org.apache.yoko.rmi.reflectiveDispatch")));
+    /** The invoker for methods that must be called reflectively */
+    static final MethodInvoker REFLECTIVE = new MethodInvoker(null);
+
+    private static final MethodType INVOKER_TYPE = methodType(OutputStream.class, InputStream.class, Remote.class, ResponseHandler.class);
+
+    private final MethodHandle handle;
+
+    private MethodInvoker(MethodHandle handle) {
+        this.handle = handle;
+    }
+
+    boolean isDirect() {
+        return handle != null;
+    }
+
+    /** Read the arguments, call the method, and write its result to a newly created reply */
+    OutputStream invoke(InputStream in, Remote target, ResponseHandler response) throws Throwable {
+        return (OutputStream) handle.invokeExact(in, target, response);
+    }
+
+    static MethodInvoker create(MethodDescriptor desc) {
+        if (DISABLED) return REFLECTIVE;
+        final Method m = desc.getReflectedMethod();
+        try {
+            final MethodHandle handle = compose(m, desc.parameter_types, desc.return_type);
+            if (LOGGER.isLoggable(Level.FINER)) LOGGER.finer("Created direct invoker for " + m);
+            return new MethodInvoker(handle);
+        } catch (IllegalAccessException | RuntimeException e) {
+            if (LOGGER.isLoggable(Level.FINE)) LOGGER.log(Level.FINE, "Cannot create direct invoker for " + m + ", using reflection", e);
+            return REFLECTIVE;
+        }
+    }
+
+    private static MethodHandle compose(Method m, TypeDescriptor[] paramDescs, TypeDescriptor returnDesc) throws IllegalAccessException {
+        final Class<?>[] params = m.getParameterTypes();
+        final Class<?> returnType = m.getReturnType();
+        final int n = params.length;
+
+        // the method itself, taking its receiver as a Remote: (Remote, P0..Pn-1)R
+        MethodHandle call = MethodHandles.publicLookup().unreflect(m);
+        call = call.asType(call.type().changeParameterType(0, Remote.class));
+
+        // Reorder to take the arguments last first, then the stream and the target: (Pn-1..P0, InputStream, Remote)R
+        // Each reader below is folded in front of the arguments already read, which makes the readers run in order.
+        final Class<?>[] reversed = new Class<?>[n + 2];
+        final int[] reorder = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            reversed[n - 1 - i] = params[i];
+            reorder[i + 1] = n - 1 - i;
+        }
+        reversed[n] = InputStream.class;
+        reversed[n + 1] = Remote.class;
+        reorder[0] = n + 1;
+        MethodHandle h = permuteArguments(call, methodType(returnType, reversed), reorder);
+
+        // fold in the readers from the last argument to the first: (Pi-1..P0, InputStream, Remote)R
+        for (int i = n - 1; i >= 0; i--) {
+            final Class<?>[] alreadyRead = new Class<?>[i];
+            for (int j = 0; j < i; j++) alreadyRead[j] = params[i - 1 - j];
+            h = foldArguments(h, dropArguments(reader(params[i], paramDescs[i]), 0, alreadyRead));
+        }
+
+        // write the result to a new reply: (InputStream, Remote, ResponseHandler)OutputStream
+        return collectArguments(writer(returnType, returnDesc), 0, h).asType(INVOKER_TYPE);
+    }
+
+    /** @return a handle of type (InputStream)T */
+    private static MethodHandle reader(Class<?> type, TypeDescriptor desc) {
+        if (type == boolean.class) return Handles.READ_BOOLEAN;
+        if (type == byte.class) return Handles.READ_OCTET;
+        if (type == char.class) return Handles.READ_WCHAR;
+        if (type == short.class) return Handles.READ_SHORT;
+        if (type == int.class) return Handles.READ_LONG;
+        if (type == long.class) return Handles.READ_LONGLONG;
+        if (type == float.class) return Handles.READ_FLOAT;
+        if (type == double.class) return Handles.READ_DOUBLE;
+        return Handles.READ_OBJECT.bindTo(desc).asType(methodType(type, InputStream.class));
+    }
+
+    /** @return a handle of type (T, ResponseHandler)OutputStream, or (ResponseHandler)OutputStream for void */
+    private static MethodHandle writer(Class<?> type, TypeDescriptor desc) {
+        if (type == void.class) return Handles.REPLY;
+        if (type == boolean.class) return Handles.REPLY_BOOLEAN;
+        if (type == byte.class) return Handles.REPLY_OCTET;
+        if (type == char.class) return Handles.REPLY_WCHAR;
+        if (type == short.class) return Handles.REPLY_SHORT;
+        if (type == int.class) return Handles.REPLY_LONG;
+        if (type == long.class) return Handles.REPLY_LONGLONG;
+        if (type == float.class) return Handles.REPLY_FLOAT;
+        if (type == double.class) return Handles.REPLY_DOUBLE;
+        return Handles.REPLY_OBJECT.bindTo(desc).asType(methodType(OutputStream.class, type, ResponseHandler.class));
+    }
+
+    static OutputStream reply(ResponseHandler rh) { return rh.createReply(); }
+    static OutputStream reply(boolean v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_boolean(v); return out; }
+    static OutputStream reply(byte v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_octet(v); return out; }
+    static OutputStream reply(char v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_wchar(v); return out; }
+    static OutputStream reply(short v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_short(v); return out; }
+    static OutputStream reply(int v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_long(v); return out; }
+    static OutputStream reply(long v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_longlong(v); return out; }
+    static OutputStream reply(float v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_float(v); return out; }
+    static OutputStream reply(double v, ResponseHandler rh) { final OutputStream out = rh.createReply(); out.write_double(v); return out; }
+    static OutputStream reply(TypeDescriptor desc, Object v, ResponseHandler rh) { final OutputStream out = rh.createReply(); desc.write(out, v); return out; }
+
+    /** The building blocks, looked up only once a direct invoker is needed */
+    private enum Handles {
+        ;
+        static final MethodHandle READ_BOOLEAN, READ_OCTET, READ_WCHAR, READ_SHORT, READ_LONG, READ_LONGLONG, READ_FLOAT, READ_DOUBLE, READ_OBJECT;
+        static final MethodHandle REPLY, REPLY_BOOLEAN, REPLY_OCTET, REPLY_WCHAR, REPLY_SHORT, REPLY_LONG, REPLY_LONGLONG, REPLY_FLOAT, REPLY_DOUBLE, REPLY_OBJECT;
+        static {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                READ_BOOLEAN = lookup.findVirtual(InputStream.class, "read_boolean", methodType(boolean.class));
+                READ_OCTET = lookup.findVirtual(InputStream.class, "read_octet", methodType(byte.class));
+                READ_WCHAR = lookup.findVirtual(InputStream.class, "read_wchar", methodType(char.class));
+                READ_SHORT = lookup.findVirtual(InputStream.class, "read_short", methodType(short.class));
+                READ_LONG = lookup.findVirtual(InputStream.class, "read_long", methodType(int.class));
+                READ_LONGLONG = lookup.findVirtual(InputStream.class, "read_longlong", methodType(long.class));
+                READ_FLOAT = lookup.findVirtual(InputStream.class, "read_float", methodType(float.class));
+                READ_DOUBLE = lookup.findVirtual(InputStream.class, "read_double", methodType(double.class));
+                READ_OBJECT = lookup.findVirtual(TypeDescriptor.class, "read", methodType(Object.class, InputStream.class));
+                REPLY = replyHandle(lookup);
+                REPLY_BOOLEAN = replyHandle(lookup, boolean.class);
+                REPLY_OCTET = replyHandle(lookup, byte.class);
+                REPLY_WCHAR = replyHandle(lookup, char.class);
+                REPLY_SHORT = replyHandle(lookup, short.class);
+                REPLY_LONG = replyHandle(lookup, int.class);
+                REPLY_LONGLONG = replyHandle(lookup, long.class);
+                REPLY_FLOAT = replyHandle(lookup, float.class);
+                REPLY_DOUBLE = replyHandle(lookup, double.class);
+                REPLY_OBJECT = replyHandle(lookup, TypeDescriptor.class, Object.class);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private static MethodHandle replyHandle(MethodHandles.Lookup lookup, Class<?>... valueTypes) throws NoSuchMethodException, IllegalAccessException {
+            return lookup.findStatic(MethodInvoker.class, "reply", methodType(OutputStream.class, valueTypes).appendParameterTypes(ResponseHandler.class));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,10 +23,14 @@ import org.omg.CORBA.ORB;
 
 import java.security.AccessController;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.security.AccessController.doPrivileged;
 import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
 import static org.apache.yoko.util.PrivilegedActions.GET_SYSPROPS;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
 
 public final class PortableRemoteObjectExtImpl implements PortableRemoteObjectExtDelegate {
     private enum Holder {
@@ -34,23 +38,53 @@ public final class PortableRemoteObjectExtImpl implements PortableRemoteObjectEx
         private static final ORB DEFAULT_ORB = ORB.init(new String[0], doPrivileged(GET_SYSPROPS));
     }
 
-    private static int nextId = 0;
-    private static final WeakHashMap<ClassLoader, RMIState> statePerLoader = new WeakHashMap<>();
-    private static final RMIState nullLoaderRMIState = createRmiState();
+    /** If set, each state builds the stubs listed in the build-time stub indexes as soon as it is created */
+    private static final boolean PRELOAD_STUBS = Boolean.parseBoolean(doPrivileged(getSysProp("org.apache.yoko.rmi.preloadStubs")));
 
-    private static RMIState createRmiState() {
-        return new RMIState(Holder.DEFAULT_ORB, "rmi" + nextId++);
+    private static final AtomicInteger nextId = new AtomicInteger();
+    /** the state for each loader, completed once its stubs have been preloaded */
+    private static final WeakHashMap<ClassLoader, CompletableFuture<RMIState>> statePerLoader = new WeakHashMap<>();
+    private static final RMIState nullLoaderRMIState = createRmiState(null);
+
+    private static RMIState createRmiState(ClassLoader loader) {
+        final RMIState state = new RMIState(Holder.DEFAULT_ORB, "rmi" + nextId.getAndIncrement());
+        if (PRELOAD_STUBS) state.preloadStubs(loader);
+        return state;
     }
 
     public RMIState getCurrentState() {
         ClassLoader loader = doPrivileged(GET_CONTEXT_CLASS_LOADER);
         if (null == loader) return nullLoaderRMIState;
+        final CompletableFuture<RMIState> existing, created;
         synchronized (statePerLoader) {
-            RMIState result = statePerLoader.get(loader);
-            if (null != result) return result;
-            result = createRmiState();
-            statePerLoader.put(loader, result);
-            return result;
+            existing = statePerLoader.get(loader);
+            created = existing == null ? new CompletableFuture<>() : null;
+            if (created != null) statePerLoader.put(loader, created);
+        }
+        if (existing != null) return await(existing);
+        // create the state outside the lock, since preloading its stubs can take a while
+        // other threads using the same loader wait for it, but those using other loaders do not
+        try {
+            final RMIState state = createRmiState(loader);
+            created.complete(state);
+            return state;
+        } catch (RuntimeException | Error e) {
+            synchronized (statePerLoader) {
+                statePerLoader.remove(loader, created);
+            }
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static RMIState await(CompletableFuture<RMIState> state) {
+        try {
+            return state.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,13 +93,20 @@ public class RMIServant extends org.omg.PortableServer.Servant implements javax.
         if (REQ_IN_LOG.isLoggable(FINEST)) REQ_IN_LOG.finest(debug_name(m) + ": invoking on " + _id);
 
         try {
-            Object[] args = method.readArguments(_input);
+            final MethodInvoker invoker = method.getInvoker();
+            final OutputStream _out;
+            if (invoker.isDirect()) {
+                if (_target == null) throw new OBJECT_NOT_EXIST();
+                _out = invoker.invoke(_input, _target, response);
+            } else {
+                Object[] args = method.readArguments(_input);
 
-            Object result = invoke_method(m, args);
+                Object result = invoke_method(m, args);
 
-            OutputStream _out = response.createReply();
+                _out = response.createReply();
 
-            method.writeResult(_out, result);
+                method.writeResult(_out, result);
+            }
             if (REQ_IN_LOG.isLoggable(FINEST)) REQ_IN_LOG.finest(debug_name(m) + ": returning normally");
 
             return _out;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,23 +36,31 @@ import javax.rmi.CORBA.Stub;
 import javax.rmi.CORBA.Tie;
 import javax.rmi.CORBA.Util;
 import javax.rmi.PortableRemoteObject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.security.PrivilegedActionException;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.security.AccessController.doPrivileged;
 import static java.util.Collections.synchronizedMap;
 import static org.apache.yoko.util.Exceptions.as;
 import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
+import static org.apache.yoko.rmi.impl.StubBuilder.INDEX_RESOURCE;
 import static org.apache.yoko.util.PrivilegedActions.getNoArgConstructor;
 
 public class RMIState implements PortableRemoteObjectState {
@@ -196,6 +204,59 @@ public class RMIState implements PortableRemoteObjectState {
         return null;
     }
 
+    /**
+     * Build the descriptors and stubs for every remote interface listed in the
+     * {@linkplain StubBuilder#INDEX_RESOURCE stub indexes} visible to the loader,
+     * so that the first call on each interface does not pay for them.
+     * Stub classes generated at build time are used in preference to generating them at runtime.
+     */
+    void preloadStubs(ClassLoader loader) {
+        final Enumeration<URL> indexes;
+        try {
+            indexes = loader == null ? ClassLoader.getSystemResources(INDEX_RESOURCE) : loader.getResources(INDEX_RESOURCE);
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "cannot find stub indexes", ex);
+            return;
+        }
+        while (indexes.hasMoreElements()) {
+            final URL index = indexes.nextElement();
+            logger.fine("Preloading stubs listed in " + index);
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(index.openStream(), UTF_8))) {
+                for (String name = in.readLine(); name != null; name = in.readLine()) {
+                    name = name.trim();
+                    if (!name.isEmpty()) preloadStub(name, loader);
+                }
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, "cannot read stub index " + index, ex);
+            }
+        }
+    }
+
+    private void preloadStub(String name, ClassLoader loader) {
+        final Class<?> type;
+        try {
+            type = Class.forName(name, false, loader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            logger.log(Level.FINE, "cannot load remote interface " + name + " listed in stub index", ex);
+            return;
+        }
+        if (!type.isInterface() || !Remote.class.isAssignableFrom(type)) return;
+
+        // build the descriptors for the interface and every type its methods use
+        final RemoteDescriptor desc = repo.getRemoteInterface(type);
+        final Set<Class<?>> dependencies = new HashSet<>();
+        desc.addDependencies(dependencies);
+        for (Class<?> c : dependencies) repo.getDescriptor(c);
+
+        final Constructor<? extends Stub> cons = findConstructor(null, getStubClassName(type));
+        if (cons != null && Stub.class.isAssignableFrom(cons.getDeclaringClass())) {
+            logger.finer("Using generated stub class " + cons.getDeclaringClass().getName());
+            stub_map.put(type, cons);
+        } else {
+            PortableRemoteObjectImpl.getRMIStubClassConstructor(this, type);
+        }
+    }
+
     private String getStubClassName(Class<?> c) {
         String cname = c.getName();
         int idx = cname.lastIndexOf('.');
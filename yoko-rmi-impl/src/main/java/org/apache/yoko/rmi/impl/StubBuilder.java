@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,17 +17,30 @@
  */
 package org.apache.yoko.rmi.impl;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.rmi.Remote;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public class StubBuilder {
+    /**
+     * The resource listing the remote interfaces whose stubs were generated at build time,
+     * one class name per line. {@link RMIState} reads it to pre-warm stubs and descriptors.
+     */
+    static final String INDEX_RESOURCE = "META-INF/yoko/rmi-stubs.index";
+
     public StubBuilder() {
     }
 
@@ -35,35 +48,34 @@ public class StubBuilder {
      * Generate stubs for the list of Classes (java.lang.Class objects)
      * specified in INTERFACES; into the directory specified by DIR. The
      * resulting set of generated classes may well include more classes than
-     * specified in INTERFACES.
+     * specified in INTERFACES. The names of the remote interfaces are also
+     * written to {@link #INDEX_RESOURCE} under DIR.
      * 
-     * @return list of File objects for generated files.
+     * @return the paths of the generated files, relative to DIR
      */
-    static public Collection generateStubs(File dir, Collection interfaces)
+    static public Collection<String> generateStubs(File dir, Collection<? extends Class<?>> interfaces)
             throws IOException {
-        Set pending = new HashSet();
-        ArrayList result = new ArrayList();
+        Set<Class<?>> pending = new HashSet<>();
+        List<String> result = new ArrayList<>();
 
         TypeRepository rep = TypeRepository.get();
-        Iterator it = interfaces.iterator();
-        while (it.hasNext()) {
-            Class cl = (Class) it.next();
+        for (Class<?> cl : interfaces) {
             RemoteDescriptor desc = (RemoteDescriptor) rep.getDescriptor(cl);
 
             desc.addDependencies(pending);
         }
 
-        Class[] classes = new Class[pending.size()];
-        pending.toArray(classes);
+        List<String> indexed = new ArrayList<>();
 
-        for (int i = 0; i < classes.length; i++) {
+        for (Class<?> cl : pending) {
 
-            if (!java.rmi.Remote.class.isAssignableFrom(classes[i])) {
+            if (!Remote.class.isAssignableFrom(cl)) {
                 continue;
             }
 
-            RemoteDescriptor desc = (RemoteDescriptor) rep
-                    .getDescriptor(classes[i]);
+            indexed.add(cl.getName());
+
+            RemoteDescriptor desc = (RemoteDescriptor) rep.getDescriptor(cl);
 
             String name = desc.getStubClassName();
             String file = name.replace('.', File.separatorChar) + ".java";
@@ -73,24 +85,45 @@ public class StubBuilder {
 
             gendir.mkdirs();
 
-            PrintWriter pw = new PrintWriter(new FileWriter(stubfile));
-
-            desc.writeStubClass(pw);
-
-            pw.close();
+            try (PrintWriter pw = new PrintWriter(new FileWriter(stubfile))) {
+                desc.writeStubClass(pw);
+            }
 
             result.add(file);
         }
 
+        Collections.sort(indexed);
+        Path indexfile = dir.toPath().resolve(INDEX_RESOURCE);
+        Files.createDirectories(indexfile.getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(indexfile, UTF_8)) {
+            for (String name : indexed) {
+                out.write(name);
+                out.newLine();
+            }
+        }
+
+        result.add(INDEX_RESOURCE);
+
         return result;
     }
 
+    /**
+     * Usage: <code>StubBuilder [-d dir] interface...</code>
+     * <br>
+     * Run this from a build (e.g. as a Gradle <code>JavaExec</code> task) and compile the generated sources
+     * with the application, packaging the index with its resources.
+     */
     public static void main(String[] args) throws Exception {
-        ArrayList al = new ArrayList();
+        File dir = new File(".");
+        List<Class<?>> al = new ArrayList<>();
         for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-d") && i + 1 < args.length) {
+                dir = new File(args[++i]);
+                continue;
+            }
             al.add(Class.forName(args[i]));
         }
 
-        StubBuilder.generateStubs(new File("."), al);
+        StubBuilder.generateStubs(dir, al);
     }
 }
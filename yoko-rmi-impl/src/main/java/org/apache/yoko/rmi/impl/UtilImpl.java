@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,9 @@
 package org.apache.yoko.rmi.impl;
 
 import org.apache.yoko.osgi.ProviderLocator;
-import org.apache.yoko.rmispec.util.DelegateType;
 import org.apache.yoko.util.Exceptions;
 import org.apache.yoko.util.PrivilegedActions;
+import org.apache.yoko.util.StackLoader;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.BAD_PARAM;
 import org.omg.CORBA.COMM_FAILURE;
@@ -38,7 +38,6 @@ import org.omg.CORBA.TypeCode;
 import org.omg.CORBA.portable.IDLEntity;
 import org.omg.CORBA.portable.OutputStream;
 import org.omg.CORBA.portable.UnknownException;
-import org.omg.stub.java.rmi._Remote_Stub;
 
 import javax.rmi.CORBA.Stub;
 import javax.rmi.CORBA.Tie;
@@ -61,24 +60,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import static java.security.AccessController.doPrivileged;
 import static java.util.logging.Level.FINER;
 import static java.util.logging.Level.FINEST;
 import static org.apache.yoko.logging.VerboseLogging.CLASS_LOG;
-import static org.apache.yoko.util.Predicates.not;
 import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
-import static org.apache.yoko.util.PrivilegedActions.action;
-import static org.apache.yoko.util.PrivilegedActions.getClassLoader;
 
 public class UtilImpl implements UtilDelegate {
     private static final Logger logger = Logger.getLogger(UtilImpl.class.getName());
 
-    private static final Supplier<Stream<Class<?>>> STACK_CONTEXT_SUPPLIER = doPrivileged(action(StackContextSupplier::new));
-
     /**
      * Translate a CORBA SystemException to the corresponding RemoteException
      */
@@ -467,13 +459,6 @@ public class UtilImpl implements UtilDelegate {
         return null;
     }
 
-    @SuppressWarnings("deprecation")
-    private static class StackContextSupplier extends java.rmi.RMISecurityManager implements Supplier<Stream<Class<?>>> {
-        @SuppressWarnings("RedundantCast")
-        @Override
-        public Stream<Class<?>> get() { return Arrays.stream((Class<?>[])getClassContext()).sequential().skip(1); }
-    }
-
     @SuppressWarnings("rawtypes")
     public Class loadClass(String name, String codebase, ClassLoader loader) throws ClassNotFoundException {
         if (CLASS_LOG.isLoggable(FINEST)) CLASS_LOG.finer(String.format("loadClass(\"%s\", \"%s\", %s)", name, codebase, loader));
@@ -506,7 +491,7 @@ public class UtilImpl implements UtilDelegate {
         /** Give providers a change to supply classes */
         PROVIDER_LOADER(l -> Optional.of(n -> ProviderLocator.loadClass(n, null, l))),
         /** Ignoring Yoko, API, delegate, and provider classes, try the first non-null loader on the stack */
-        STACK_LOADER(l -> Optional.ofNullable(getStackLoader()).map(sl -> sl::loadClass)),
+        STACK_LOADER(l -> Optional.ofNullable(StackLoader.find()).map(sl -> sl::loadClass)),
         THIS_LOADER(l -> Optional.ofNullable(l).map(gl -> gl::loadClass)),
         /*
           Deliberately removed two risky steps from the original algorithm that loaded code remotely:
@@ -524,39 +509,6 @@ public class UtilImpl implements UtilDelegate {
         }
     }
 
-    private static boolean isYokoImplClass(Class<?> c) { return c.getName().startsWith("org.apache.yoko."); }
-    private static boolean isJavaxRmiClass(Class<?> c) { return c.getName().startsWith("javax.rmi."); }
-
-    private static boolean isOmgClass(Class<?> c) {
-        if (_Remote_Stub.class == c) return true;
-        final String name = c.getName();
-        return (name.startsWith("org.omg.") && !name.startsWith("org.omg.stub."));
-    }
-
-    private static ClassLoader getStackLoader() {
-        // walk down the stack looking for the first class loader that is NOT
-        //  - the system class loader (null)
-        //  - the loader(s) for Yoko implementation classes
-        //  - the loader(s) for OMG classes
-        //  - the loader(s) for javax.rmi.* classes
-        //  - the loader(s) that loaded any ProviderRegistry-provided classes or services
-        //  - the loader(s) that loaded any delegate class
-        CLASS_LOG.finest(() -> "Looking for stack loader other than those used by Yoko");
-        return STACK_CONTEXT_SUPPLIER.get()
-                .peek((c) -> CLASS_LOG.finest(() -> "Considering class: " + c.getName()))
-                .filter(not(UtilImpl::isYokoImplClass))
-                .filter(not(UtilImpl::isOmgClass))
-                .filter(not(UtilImpl::isJavaxRmiClass))
-                .peek((c) -> CLASS_LOG.finest(() -> "Considering classloader for class: " + c.getName()))
-                .map((c) -> doPrivileged(getClassLoader(c)))
-                .filter(Objects::nonNull)
-                .filter(not(ProviderLocator::isServiceClassLoader))
-                .filter(not(DelegateType::isDelegateClassLoader))
-                .peek((l) -> CLASS_LOG.finer(() -> "Using loader " + l))
-                .findFirst()
-                .orElse(null);
-    }
-
     public boolean isLocal(Stub stub) throws RemoteException {
         try {
             return (stub instanceof RMIStub) || stub._is_local();
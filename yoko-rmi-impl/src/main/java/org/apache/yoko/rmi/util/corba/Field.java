@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,135 +17,279 @@
  */
 package org.apache.yoko.rmi.util.corba;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Modifier;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import sun.misc.Unsafe;
+import static java.lang.invoke.MethodType.methodType;
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.util.PrivilegedActions.action;
 
+/**
+ * Reads and writes one field of a serializable class, whatever its accessibility or finality.
+ * <br>
+ * Fields are accessed through method handles unreflected from the field, which need only reflective access
+ * to the class. Only where a handle cannot be created (e.g. for a field of a JDK class in a package that is not
+ * opened to Yoko) does this fall back to {@link UnsafeField}, if <code>sun.misc.Unsafe</code> is available.
+ */
 public class Field {
-    final long fieldID;
-
-    // static final Category log = Category.getInstance(Field.class);
-    static final Unsafe unsafe = getUnsafe();
-    
     static final Logger logger = Logger.getLogger(Field.class
             .getName());
 
-    private static Unsafe getUnsafe() {
-        Unsafe unsafe = null;
-        try {
-            Class uc = Unsafe.class;
-            java.lang.reflect.Field[] fields = uc.getDeclaredFields();
-            for (int i = 0; i < fields.length; i++) {
-                if (fields[i].getName().equals("theUnsafe")) {
-                    fields[i].setAccessible(true);
-                    unsafe = (Unsafe) fields[i].get(uc);
-                    break;
-                }
-            }
-        } catch (Exception ignore) {
-            logger.log(Level.FINE, "exception getting unsafe", ignore); 
+    /** (Object)T, with reference types erased to Object, or null if it could not be created */
+    private final MethodHandle getter;
+    /** (Object,T)void, with reference types erased to Object, or null if it could not be created */
+    private final MethodHandle setter;
+    /** used only for the accesses that have no handle, or null if there is no need or no Unsafe */
+    private final UnsafeField fallback;
+
+    public Field(java.lang.reflect.Field f) {
+        this(f, true);
+    }
+
+    /** @param useHandles <code>false</code> to behave as if the handle lookup had been refused */
+    Field(java.lang.reflect.Field f, boolean useHandles) {
+        final boolean isStatic = Modifier.isStatic(f.getModifiers());
+        // erase reference types so that every access can be exact
+        final Class<?> type = f.getType().isPrimitive() ? f.getType() : Object.class;
+        MethodHandle getter = null, setter = null;
+        if (useHandles) try {
+            doPrivileged(action(() -> { f.setAccessible(true); return null; }));
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle g = lookup.unreflectGetter(f);
+            getter = (isStatic ? MethodHandles.dropArguments(g, 0, Object.class) : g).asType(methodType(type, Object.class));
+            // final fields of records and hidden classes can be read but not written
+            final MethodHandle s = lookup.unreflectSetter(f);
+            setter = (isStatic ? MethodHandles.dropArguments(s, 0, Object.class) : s).asType(methodType(void.class, Object.class, type));
+        } catch (IllegalAccessException | RuntimeException e) {
+            if (logger.isLoggable(Level.FINE)) logger.log(Level.FINE, "cannot create handles for field " + f, e);
         }
-        return unsafe;
+        this.getter = getter;
+        this.setter = setter;
+        this.fallback = getter == null || setter == null ? UnsafeField.of(f) : null;
     }
 
-    public Field(java.lang.reflect.Field f) {
-        if (Modifier.isStatic(f.getModifiers()))
-            fieldID = unsafe.staticFieldOffset(f);
-        else
-            fieldID = unsafe.objectFieldOffset(f);
+    private UnsafeField fallback() throws IllegalAccessException {
+        if (fallback == null) throw new IllegalAccessException("field cannot be accessed");
+        return fallback;
+    }
+
+    /** Field accesses through handles throw only what the field access itself could throw */
+    private static IllegalArgumentException rethrow(Throwable t) {
+        if (t instanceof WrongMethodTypeException || t instanceof ClassCastException) return new IllegalArgumentException(t.getMessage(), t);
+        if (t instanceof RuntimeException) throw (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        return new IllegalArgumentException(t);
     }
 
     public void set(Object obj, Object val) throws IllegalArgumentException,
             IllegalAccessException {
-        unsafe.putObject(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putObject(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setByte(Object obj, byte val) throws IllegalArgumentException,
             IllegalAccessException {
-        unsafe.putByte(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putByte(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setBoolean(Object obj, boolean val)
             throws IllegalArgumentException, IllegalAccessException {
-        unsafe.putBoolean(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putBoolean(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setShort(Object obj, short val)
             throws IllegalArgumentException, IllegalAccessException {
-        unsafe.putShort(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putShort(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setChar(Object obj, char val) throws IllegalArgumentException,
             IllegalAccessException {
-        unsafe.putChar(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putChar(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setInt(Object obj, int val) throws IllegalArgumentException,
             IllegalAccessException {
-        unsafe.putInt(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putInt(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setLong(Object obj, long val) throws IllegalArgumentException,
             IllegalAccessException {
-        unsafe.putLong(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putLong(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setFloat(Object obj, float val)
             throws IllegalArgumentException, IllegalAccessException {
-        unsafe.putFloat(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putFloat(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public void setDouble(Object obj, double val)
             throws IllegalArgumentException, IllegalAccessException {
-        unsafe.putDouble(obj, fieldID, val);
+        if (setter == null) {
+            fallback().putDouble(obj, val);
+            return;
+        }
+        try {
+            setter.invokeExact(obj, val);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public Object get(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getObject(obj, fieldID);
+        if (getter == null) return fallback().getObject(obj);
+        try {
+            return (Object) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public byte getByte(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getByte(obj, fieldID);
+        if (getter == null) return fallback().getByte(obj);
+        try {
+            return (byte) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public boolean getBoolean(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getBoolean(obj, fieldID);
+        if (getter == null) return fallback().getBoolean(obj);
+        try {
+            return (boolean) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public short getShort(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getShort(obj, fieldID);
+        if (getter == null) return fallback().getShort(obj);
+        try {
+            return (short) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public char getChar(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getChar(obj, fieldID);
+        if (getter == null) return fallback().getChar(obj);
+        try {
+            return (char) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public int getInt(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getInt(obj, fieldID);
+        if (getter == null) return fallback().getInt(obj);
+        try {
+            return (int) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public long getLong(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getLong(obj, fieldID);
+        if (getter == null) return fallback().getLong(obj);
+        try {
+            return (long) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public float getFloat(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getFloat(obj, fieldID);
+        if (getter == null) return fallback().getFloat(obj);
+        try {
+            return (float) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
 
     public double getDouble(Object obj) throws IllegalArgumentException,
             IllegalAccessException {
-        return unsafe.getDouble(obj, fieldID);
+        if (getter == null) return fallback().getDouble(obj);
+        try {
+            return (double) getter.invokeExact(obj);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
     }
-
 }
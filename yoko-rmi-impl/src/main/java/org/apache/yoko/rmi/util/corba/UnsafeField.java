@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.util.corba;
+
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+
+import sun.misc.Unsafe;
+
+import static org.apache.yoko.rmi.util.corba.Field.logger;
+
+/**
+ * Accesses a field through <code>sun.misc.Unsafe</code>, for the few fields that {@link Field} cannot reach
+ * through method handles. This is the only class that uses Unsafe, and it is not loaded unless it is needed.
+ * <br>
+ * Only reference values are type-checked: a primitive access of the wrong width is the caller's mistake.
+ */
+final class UnsafeField {
+    private static final Unsafe UNSAFE = getUnsafe();
+
+    /** the object holding a static field, or null for an instance field */
+    private final Object base;
+    private final long offset;
+    private final Class<?> type;
+
+    private UnsafeField(Object base, long offset, Class<?> type) {
+        this.base = base;
+        this.offset = offset;
+        this.type = type;
+    }
+
+    /** @return the accessor, or <code>null</code> if Unsafe is unavailable or cannot reach the field */
+    static UnsafeField of(java.lang.reflect.Field f) {
+        if (UNSAFE == null) return null;
+        try {
+            if (!Modifier.isStatic(f.getModifiers())) return new UnsafeField(null, UNSAFE.objectFieldOffset(f), f.getType());
+            // a static field is only initialised once its class is
+            final Class<?> c = f.getDeclaringClass();
+            Class.forName(c.getName(), true, c.getClassLoader());
+            return new UnsafeField(UNSAFE.staticFieldBase(f), UNSAFE.staticFieldOffset(f), f.getType());
+        } catch (ClassNotFoundException | RuntimeException e) {
+            // e.g. fields of records and hidden classes
+            logger.log(Level.FINE, "cannot get offset of field " + f, e);
+            return null;
+        }
+    }
+
+    private Object target(Object obj) { return base == null ? obj : base; }
+
+    void putObject(Object obj, Object val) {
+        if (val != null && !type.isInstance(val)) throw new IllegalArgumentException("cannot assign " + val.getClass().getName() + " to " + type.getName());
+        UNSAFE.putObject(target(obj), offset, val);
+    }
+    void putByte(Object obj, byte val) { UNSAFE.putByte(target(obj), offset, val); }
+    void putBoolean(Object obj, boolean val) { UNSAFE.putBoolean(target(obj), offset, val); }
+    void putShort(Object obj, short val) { UNSAFE.putShort(target(obj), offset, val); }
+    void putChar(Object obj, char val) { UNSAFE.putChar(target(obj), offset, val); }
+    void putInt(Object obj, int val) { UNSAFE.putInt(target(obj), offset, val); }
+    void putLong(Object obj, long val) { UNSAFE.putLong(target(obj), offset, val); }
+    void putFloat(Object obj, float val) { UNSAFE.putFloat(target(obj), offset, val); }
+    void putDouble(Object obj, double val) { UNSAFE.putDouble(target(obj), offset, val); }
+
+    Object getObject(Object obj) { return UNSAFE.getObject(target(obj), offset); }
+    byte getByte(Object obj) { return UNSAFE.getByte(target(obj), offset); }
+    boolean getBoolean(Object obj) { return UNSAFE.getBoolean(target(obj), offset); }
+    short getShort(Object obj) { return UNSAFE.getShort(target(obj), offset); }
+    char getChar(Object obj) { return UNSAFE.getChar(target(obj), offset); }
+    int getInt(Object obj) { return UNSAFE.getInt(target(obj), offset); }
+    long getLong(Object obj) { return UNSAFE.getLong(target(obj), offset); }
+    float getFloat(Object obj) { return UNSAFE.getFloat(target(obj), offset); }
+    double getDouble(Object obj) { return UNSAFE.getDouble(target(obj), offset); }
+
+    private static Unsafe getUnsafe() {
+        try {
+            final java.lang.reflect.Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return (Unsafe) theUnsafe.get(null);
+        } catch (Exception e) {
+            logger.log(Level.FINE, "exception getting unsafe", e);
+            return null;
+        }
+    }
+}
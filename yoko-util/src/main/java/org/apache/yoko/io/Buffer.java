@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,15 +48,18 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
      * constructors are private. Instance objects should always be held in private fields to preserve encapsulation.
      */
     static final class Core {
+        private static final byte[] RELEASED = {};
         byte[] data; // The octet core
         int length; // The requested size of the core
+        /** true iff the data array was borrowed from the {@link BufferPool} and must go back there */
+        private boolean pooled;
 
         /**
          * Create a Core with initial length zero.
          */
         private Core() {
             // since we expect a write operation to follow, allocate a small core up front
-            this(newBytes(16), 0);
+            allocate(16);
         }
 
         private Core(byte[] data) {
@@ -67,7 +70,8 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
          * Create a Core with <code>len</code> bytes available for writing.
          */
         private Core(int len) {
-            this(newBytes(len), len);
+            allocate(len);
+            this.length = len;
         }
 
         private Core(byte[] data, int len) {
@@ -75,6 +79,15 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
             this.length = len;
         }
 
+        private void allocate(int len) {
+            pooled = BufferPool.pools(len);
+            try {
+                data = pooled ? BufferPool.take(len) : newBytes(len);
+            } catch (OutOfMemoryError oom) {
+                throw as(NO_MEMORY::new, oom, describeNoMemory(MinorAllocationFailure), MinorAllocationFailure, COMPLETED_MAYBE);
+            }
+        }
+
         /**
          * Extend the current core.
          * @param extra the number of additional bytes required beyond the end of the core.
@@ -89,10 +102,25 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
                 return false;
             }
             // ok, we need a bigger core
-            data = copyOf(data, computeNewBufferSize(length));
+            final byte[] oldData = data;
+            final boolean oldPooled = pooled;
+            allocate(computeNewBufferSize(length));
+            System.arraycopy(oldData, 0, data, 0, oldData.length);
+            // every buffer sharing this core reads the data field afresh, so nothing refers to the old array now
+            if (oldPooled) BufferPool.give(oldData);
             return true;
         }
 
+        /** Give the data back to the pool. The core is left empty, so any further use fails fast. */
+        void release() {
+            final byte[] oldData = data;
+            final boolean oldPooled = pooled;
+            data = RELEASED;
+            length = 0;
+            pooled = false;
+            if (oldPooled) BufferPool.give(oldData);
+        }
+
         private int computeNewBufferSize(int len) {
             // use an allocation threshold of 4 megabytes
             final int MAX_OVERALLOC = 4 * 1024 * 1024;
@@ -122,11 +150,13 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
 
     final Core core;
     int position = 0;
+    /** The logical position of the start of the core, which is non-zero only after a write buffer has flushed data */
+    int base = 0;
 
     Buffer(Core core) { this.core = core; }
 
     public final boolean isComplete() { return position >= length(); }
-    public final int getPosition() { return position; }
+    public final int getPosition() { return base + position; }
     public final int available() { return length() - position; }
     public final int length() { return core.length; }
 
@@ -146,7 +176,17 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
     public final String dumpAllData() { return dumpAllData(new StringBuilder()).toString(); }
     public final StringBuilder dumpAllData(StringBuilder dump) { return core.dumpTo(dump); }
 
-    public final T setPosition(int p) { position = p; return (T)this; }
+    /**
+     * Return the underlying data to the shared buffer pool, if it came from there.
+     * This must only be called once the data is finished with,
+     * since it affects every buffer that shares the same data, and not just this one.
+     */
+    public final void release() {
+        core.release();
+        position = 0;
+    }
+
+    public final T setPosition(int p) { position = p - base; return (T)this; }
     public final T rewind(int n) { position -= n; return (T)this;}
     public abstract ReadBuffer newReadBuffer();
 
@@ -159,11 +199,7 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
     }
 
     private static byte[] newBytes(int len) {
-        try {
-            // allocate only multiples of 16 so we can pad without checking
-            return new byte[(len + 0xFF) & ~0xFF];
-        } catch (OutOfMemoryError oom) {
-            throw as(NO_MEMORY::new, oom, describeNoMemory(MinorAllocationFailure), MinorAllocationFailure, COMPLETED_MAYBE);
-        }
+        // allocate only multiples of 16 so we can pad without checking
+        return new byte[(len + 0xFF) & ~0xFF];
     }
 }
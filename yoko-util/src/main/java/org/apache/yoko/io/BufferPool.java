@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
+
+/**
+ * A process-wide pool of byte arrays, held in power-of-two size classes.
+ * Each size class retains at most a configured number of bytes, so the pool can never pin more than a bounded
+ * amount of memory. Arrays that are too large or of the wrong size are simply left to the garbage collector.
+ * <br>
+ * The pool is shared by every ORB, so its capacity is set for the whole process, in bytes per size class,
+ * by the system property <code>org.apache.yoko.io.bufferPoolSize</code> (default 262144, or 0 to disable pooling).
+ */
+final class BufferPool {
+    /** The smallest size class, which matches the granularity of unpooled allocations */
+    static final int MIN_SHIFT = 8;
+    /** The largest size class: bigger arrays are rare and are not worth pinning */
+    static final int MAX_SHIFT = 20;
+    static final int DEFAULT_CAPACITY = 256 * 1024;
+
+    private static final SizeClass[] CLASSES = new SizeClass[MAX_SHIFT - MIN_SHIFT + 1];
+    static { for (int i = 0; i < CLASSES.length; i++) CLASSES[i] = new SizeClass(1 << (MIN_SHIFT + i)); }
+
+    static final int CAPACITY = capacity(doPrivileged(getSysProp("org.apache.yoko.io.bufferPoolSize")));
+
+    private BufferPool() {}
+
+    /** @return the number of bytes each size class may retain, or 0 to disable pooling */
+    static int capacity(String bytes) {
+        if (bytes == null) return DEFAULT_CAPACITY;
+        try {
+            return Math.max(0, Integer.parseInt(bytes.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /** @return true iff an array of the given length would come from (and could go back to) the pool */
+    static boolean pools(int len) { return CAPACITY > 0 && len <= 1 << MAX_SHIFT; }
+
+    /**
+     * Get a zero-filled array of at least the requested length, the length of which is a power of two.
+     * The caller must check {@link #pools(int)} first.
+     */
+    static byte[] take(int len) {
+        final SizeClass sc = CLASSES[classOf(len)];
+        final byte[] bytes = sc.poll();
+        if (bytes == null) return new byte[sc.size];
+        Arrays.fill(bytes, (byte) 0);
+        return bytes;
+    }
+
+    /**
+     * Offer an array back to the pool. Only arrays previously obtained from {@link #take(int)} may be offered,
+     * and nothing may refer to the array afterwards.
+     */
+    static void give(byte[] bytes) {
+        final int len = bytes.length;
+        if (len < 1 << MIN_SHIFT || len > 1 << MAX_SHIFT || Integer.bitCount(len) != 1) return;
+        if (CAPACITY <= 0) return;
+        CLASSES[classOf(len)].offer(bytes, Math.max(1, CAPACITY / len));
+    }
+
+    private static int classOf(int len) {
+        if (len <= 1 << MIN_SHIFT) return 0;
+        // the number of bits needed to represent len - 1 is the shift of the smallest power of two >= len
+        return (32 - numberOfLeadingZeros(len - 1)) - MIN_SHIFT;
+    }
+
+    private static final class SizeClass {
+        final int size;
+        final Queue<byte[]> free = new ConcurrentLinkedQueue<>();
+        final AtomicInteger count = new AtomicInteger();
+
+        SizeClass(int size) { this.size = size; }
+
+        byte[] poll() {
+            final byte[] bytes = free.poll();
+            if (bytes != null) count.decrementAndGet();
+            return bytes;
+        }
+
+        void offer(byte[] bytes, int maxCount) {
+            if (count.incrementAndGet() > maxCount) {
+                count.decrementAndGet();
+                return;
+            }
+            free.add(bytes);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import static java.lang.Integer.highestOneBit;
+
+/**
+ * A bounded table of canonical ASCII strings, such as repository ids and operation names, that can be looked up
+ * straight from the bytes in a {@link ReadBuffer}. A hit allocates nothing, and every hit for the same bytes
+ * returns the same instance, so its hash code is computed only once.
+ * The table is direct-mapped: a new string simply replaces whichever string previously occupied its slot.
+ */
+public final class InternTable {
+    /** Strings are immutable, so slots can be read and written without synchronization */
+    private final String[] slots;
+    private final int mask;
+
+    /** @param capacity the maximum number of strings held, rounded up to a power of two */
+    public InternTable(int capacity) {
+        final int size = capacity <= 1 ? 1 : highestOneBit(capacity - 1) << 1;
+        this.slots = new String[size];
+        this.mask = size - 1;
+    }
+
+    /** The same hash as {@link String#hashCode()} gives for the ASCII string with these bytes */
+    static int hash(byte[] data, int offset, int length) {
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) h = 31 * h + data[i];
+        return h;
+    }
+
+    String get(int hash, byte[] data, int offset, int length) {
+        final String s = slots[spread(hash) & mask];
+        if (s == null || s.hashCode() != hash || s.length() != length) return null;
+        for (int i = 0; i < length; i++) if (s.charAt(i) != data[offset + i]) return null;
+        return s;
+    }
+
+    void put(int hash, String s) { slots[spread(hash) & mask] = s; }
+
+    public void clear() { for (int i = 0; i < slots.length; i++) slots[i] = null; }
+
+    private static int spread(int h) { return h ^ (h >>> 16); }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,12 @@ import org.apache.yoko.util.HexConverter;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static org.apache.yoko.util.Hex.formatHexPara;
 
 public final class ReadBuffer extends Buffer<ReadBuffer> {
@@ -43,6 +48,57 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
         return buffer;
     }
 
+    /**
+     * Read the next <code>length</code> bytes as ISO-8859-1 characters.
+     * If any of the bytes is zero, nothing is read and <code>null</code> is returned.
+     */
+    public String readLatin1(int length) { return readSingleByteChars(length, false); }
+
+    /**
+     * Read the next <code>length</code> bytes as US-ASCII characters.
+     * If any of the bytes is zero or outside the ASCII range, nothing is read and <code>null</code> is returned.
+     */
+    public String readAscii(int length) { return readSingleByteChars(length, true); }
+
+    /**
+     * Read the next <code>length</code> bytes as US-ASCII characters, returning the canonical instance from the table.
+     * If any of the bytes is zero or outside the ASCII range, nothing is read and <code>null</code> is returned.
+     */
+    public String readAscii(int length, InternTable table) {
+        if (available() < length) throw new IndexOutOfBoundsException();
+        final int hash = InternTable.hash(core.data, position, length);
+        final String interned = table.get(hash, core.data, position, length);
+        if (interned != null) {
+            position += length;
+            return interned;
+        }
+        final String result = readAscii(length);
+        if (result != null) table.put(hash, result);
+        return result;
+    }
+
+    private String readSingleByteChars(int length, boolean asciiOnly) {
+        if (available() < length) throw new IndexOutOfBoundsException();
+        final byte[] data = core.data;
+        final int end = position + length;
+        // Scan without branching so the JIT can vectorise the loop.
+        // A zero byte sets the sign bit of (b & 0xff) - 1, and a non-ASCII byte is negative.
+        int flags = 0;
+        if (asciiOnly) for (int i = position; i < end; i++) flags |= data[i] | ((data[i] & 0xff) - 1);
+        else for (int i = position; i < end; i++) flags |= (data[i] & 0xff) - 1;
+        if (flags < 0) return null;
+        final String result = new String(data, position, length, ISO_8859_1);
+        position = end;
+        return result;
+    }
+
+    /** @return true iff the next bytes are the same as those in the array. Nothing is read. */
+    public boolean nextBytesEqual(byte[] bytes) {
+        if (available() < bytes.length) return false;
+        for (int i = 0; i < bytes.length; i++) if (core.data[position + i] != bytes[i]) return false;
+        return true;
+    }
+
     public WriteBuffer readBytes(WriteBuffer buffer) {
         return buffer.writeBytes(core.data, position, available());
     }
@@ -91,6 +147,34 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
 
     public int readInt(boolean littleEndian) { return littleEndian ? readInt_LE() : readInt(); }
 
+    public void readShorts(short[] values, int offset, int length, boolean littleEndian) {
+        view(2 * length, littleEndian).asShortBuffer().get(values, offset, length);
+    }
+
+    public void readInts(int[] values, int offset, int length, boolean littleEndian) {
+        view(4 * length, littleEndian).asIntBuffer().get(values, offset, length);
+    }
+
+    public void readLongs(long[] values, int offset, int length, boolean littleEndian) {
+        view(8 * length, littleEndian).asLongBuffer().get(values, offset, length);
+    }
+
+    public void readFloats(float[] values, int offset, int length, boolean littleEndian) {
+        view(4 * length, littleEndian).asFloatBuffer().get(values, offset, length);
+    }
+
+    public void readDoubles(double[] values, int offset, int length, boolean littleEndian) {
+        view(8 * length, littleEndian).asDoubleBuffer().get(values, offset, length);
+    }
+
+    /** @return a view of the next <code>n</code> bytes in the specified byte order, which are treated as read */
+    private ByteBuffer view(int n, boolean littleEndian) {
+        if (available() < n) throw new IndexOutOfBoundsException();
+        final ByteBuffer view = ByteBuffer.wrap(core.data, position, n).slice().order(littleEndian ? LITTLE_ENDIAN : BIG_ENDIAN);
+        position += n;
+        return view;
+    }
+
     public String remainingBytesToAscii() {
         return HexConverter.octetsToAscii(core.data, available());
     }
@@ -128,6 +212,16 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
         }
     }
 
+    /**
+     * Write as many of the remaining bytes as the channel will accept.
+     * @return the number of bytes written, which may be zero for a non-blocking channel
+     */
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        final int result = channel.write(ByteBuffer.wrap(core.data, position, available()));
+        position += result;
+        return result;
+    }
+
     public ReadBuffer rewindToStart() {
         position = 0;
         return this;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ package org.apache.yoko.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
@@ -35,6 +37,9 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
     private static final byte[] PADDING = new byte[1<<PADDING_POWER];
     static { Arrays.fill(PADDING, PAD_BYTE); }
 
+    /** The number of lengths recorded but not yet written */
+    private int openLengths;
+
     WriteBuffer(Core core) { super(core); }
 
     public boolean readFrom(InputStream in) throws IOException {
@@ -50,6 +55,17 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         }
     }
 
+    /**
+     * Read as many bytes as the channel will supply without blocking, up to the end of this buffer.
+     * @return the number of bytes read, or -1 if the channel has reached end-of-stream
+     */
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        final int result = channel.read(ByteBuffer.wrap(core.data, position, available()));
+        if (result > 0) position += result;
+        assert position <= core.length;
+        return result;
+    }
+
     public WriteBuffer readFrom(org.omg.CORBA.portable.InputStream source) {
         final int length = available();
         source.read_octet_array(core.data, position, length);
@@ -69,6 +85,15 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         return this;
     }
 
+    /** Write the low-order byte of each char in the string. Callers must check that no char exceeds <code>0xff</code>. */
+    @SuppressWarnings("deprecation")
+    public WriteBuffer writeLatin1(String s) {
+        s.getBytes(0, s.length(), core.data, position);
+        position += s.length();
+        assert position <= core.length;
+        return this;
+    }
+
     public WriteBuffer writeByte(int i) {
         core.data[position++] = (byte)i;
         assert position <= core.length;
@@ -117,6 +142,47 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         return this;
     }
 
+    public WriteBuffer writeShorts(short[] values, int offset, int length) {
+        view(2 * length).asShortBuffer().put(values, offset, length);
+        return this;
+    }
+
+    public WriteBuffer writeInts(int[] values, int offset, int length) {
+        view(4 * length).asIntBuffer().put(values, offset, length);
+        return this;
+    }
+
+    public WriteBuffer writeLongs(long[] values, int offset, int length) {
+        view(8 * length).asLongBuffer().put(values, offset, length);
+        return this;
+    }
+
+    /** Writes the floats in bulk, canonicalising any NaN as {@link Float#floatToIntBits(float)} does for single writes */
+    public WriteBuffer writeFloats(float[] values, int offset, int length) {
+        final ByteBuffer view = view(4 * length);
+        view.asFloatBuffer().put(values, offset, length);
+        for (int i = 0; i < length; i++)
+            if (Float.isNaN(values[offset + i])) view.putInt(4 * i, Float.floatToIntBits(values[offset + i]));
+        return this;
+    }
+
+    /** Writes the doubles in bulk, canonicalising any NaN as {@link Double#doubleToLongBits(double)} does for single writes */
+    public WriteBuffer writeDoubles(double[] values, int offset, int length) {
+        final ByteBuffer view = view(8 * length);
+        view.asDoubleBuffer().put(values, offset, length);
+        for (int i = 0; i < length; i++)
+            if (Double.isNaN(values[offset + i])) view.putLong(8 * i, Double.doubleToLongBits(values[offset + i]));
+        return this;
+    }
+
+    /** @return a big-endian view of the next <code>n</code> bytes, which are treated as written */
+    private ByteBuffer view(int n) {
+        if (available() < n) throw new IndexOutOfBoundsException();
+        final ByteBuffer view = ByteBuffer.wrap(core.data, position, n).slice();
+        position += n;
+        return view;
+    }
+
     /**
      * Leaves a 4 byte space to write a length. When {@link SimplyCloseable#close()} is called,
      * the number of intervening bytes is written as a length to the remembered location.
@@ -126,8 +192,10 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         final int lengthPosition = position;
         logger.finest("Writing a gap value for a length at offset " + lengthPosition);
         pad(4);
+        openLengths++;
         return new SimplyCloseable() {
             public void close() {
+                openLengths--;
                 final int length = position - (lengthPosition + 4);
                 core.data[lengthPosition + 0] = (byte) (length >> 030);
                 core.data[lengthPosition + 1] = (byte) (length >> 020);
@@ -192,6 +260,28 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         return this;
     }
 
+    /** @return true iff no recorded length is waiting to be written back into the data */
+    public boolean canFlush() { return openLengths == 0; }
+
+    /**
+     * Remove the data written before a given position and return it, so that it can be sent on ahead.
+     * Positions are not affected, but data before the new start can no longer be accessed.
+     * The caller must make sure that nothing will be written back before the given position.
+     * To preserve alignment, the number of bytes removed should be a multiple of eight unless nothing more will be written.
+     * @param newStart the position that will become the start of the data
+     * @return the bytes removed
+     */
+    public byte[] flushTo(int newStart) {
+        final int n = newStart - base;
+        assert n >= 0 && n <= position;
+        final byte[] head = copyOf(core.data, n);
+        System.arraycopy(core.data, n, core.data, 0, core.length - n);
+        core.length -= n;
+        position -= n;
+        base = newStart;
+        return head;
+    }
+
     public ReadBuffer readFromStart() { return new ReadBuffer(core); }
 
     public ReadBuffer newReadBuffer() { return readFromStart(); }
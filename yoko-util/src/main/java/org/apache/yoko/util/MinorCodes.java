@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -589,6 +589,8 @@ public final class MinorCodes {
 
     public final static int MinorUnknownReplyMessage = 29 | ApacheVMCID.value;
 
+    public final static int MinorDuplicateReqId = 30 | ApacheVMCID.value;
+
     //
     // Yoko deprecated minor codes
     //
@@ -702,6 +704,10 @@ public final class MinorCodes {
             result = "unknown GIOP message in reply";
             break;
 
+        case MinorDuplicateReqId:
+            result = "request id already awaiting a reply";
+            break;
+
         case MinorDeprecatedCloseConnection:
             result = "got a `CloseConnection' message";
             break;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util;
+
+import org.apache.yoko.osgi.ProviderLocator;
+import org.apache.yoko.rmispec.util.DelegateType;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.logging.VerboseLogging.CLASS_LOG;
+import static org.apache.yoko.util.Predicates.not;
+import static org.apache.yoko.util.PrivilegedActions.action;
+import static org.apache.yoko.util.PrivilegedActions.getClassLoader;
+
+/**
+ * Finds the class loader of the code that called into Yoko, by walking down the stack.
+ */
+public enum StackLoader {
+    ;
+    private static final Supplier<Stream<Class<?>>> STACK_CONTEXT_SUPPLIER = doPrivileged(action(StackContextSupplier::new));
+
+    private static class StackContextSupplier extends SecurityManager implements Supplier<Stream<Class<?>>> {
+        @SuppressWarnings("RedundantCast")
+        @Override
+        public Stream<Class<?>> get() { return Arrays.stream((Class<?>[])getClassContext()).sequential().skip(1); }
+    }
+
+    private static boolean isYokoImplClass(Class<?> c) { return c.getName().startsWith("org.apache.yoko."); }
+    private static boolean isJavaxRmiClass(Class<?> c) { return c.getName().startsWith("javax.rmi."); }
+
+    private static boolean isOmgClass(Class<?> c) {
+        final String name = c.getName();
+        if ("org.omg.stub.java.rmi._Remote_Stub".equals(name)) return true;
+        return (name.startsWith("org.omg.") && !name.startsWith("org.omg.stub."));
+    }
+
+    /** @return the first class loader on the stack that belongs to neither Yoko nor the platform, or <code>null</code> */
+    public static ClassLoader find() {
+        // walk down the stack looking for the first class loader that is NOT
+        //  - the system class loader (null)
+        //  - the loader(s) for Yoko implementation classes
+        //  - the loader(s) for OMG classes
+        //  - the loader(s) for javax.rmi.* classes
+        //  - the loader(s) that loaded any ProviderRegistry-provided classes or services
+        //  - the loader(s) that loaded any delegate class
+        CLASS_LOG.finest(() -> "Looking for stack loader other than those used by Yoko");
+        return STACK_CONTEXT_SUPPLIER.get()
+                .peek((c) -> CLASS_LOG.finest(() -> "Considering class: " + c.getName()))
+                .filter(not(StackLoader::isYokoImplClass))
+                .filter(not(StackLoader::isOmgClass))
+                .filter(not(StackLoader::isJavaxRmiClass))
+                .peek((c) -> CLASS_LOG.finest(() -> "Considering classloader for class: " + c.getName()))
+                .map((c) -> doPrivileged(getClassLoader(c)))
+                .filter(Objects::nonNull)
+                .filter(not(ProviderLocator::isServiceClassLoader))
+                .filter(not(DelegateType::isDelegateClassLoader))
+                .peek((l) -> CLASS_LOG.finer(() -> "Using loader " + l))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util.cmsf;
+
+import org.apache.yoko.util.StackLoader;
+
+import javax.rmi.CORBA.Util;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.security.AccessController.doPrivileged;
+import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
+
+/**
+ * Remembers the outcome of loading classes by name through {@link Util#loadClass(String, String, ClassLoader)}
+ * with the thread context class loader, so that repeated lookups, and in particular repeated failures,
+ * do not walk the whole class loading chain every time.
+ * <br>
+ * That chain consults the calling code's class loader (see {@link StackLoader}) before the context class loader,
+ * so outcomes are kept separately for each pair of context class loader and stack loader.
+ * A class that was found is remembered for as long as it remains loaded. A class that was not found is remembered
+ * for a limited time, set in milliseconds by the system property <code>org.apache.yoko.classNotFoundTtl</code>
+ * (default 10000, or 0 to stop remembering failures), so that classes installed later are eventually found.
+ */
+public enum ClassResolutions {
+    ;
+    static final long DEFAULT_NOT_FOUND_TTL = 10_000;
+    static final int MAX_ENTRIES_PER_LOADER = 4096;
+
+    private static final Cache CACHE = new Cache(Util::loadClass, TimeUnit.MILLISECONDS.toNanos(notFoundTtl()), System::nanoTime);
+
+    private static long notFoundTtl() {
+        try {
+            final String ttl = doPrivileged(getSysProp("org.apache.yoko.classNotFoundTtl"));
+            return ttl == null ? DEFAULT_NOT_FOUND_TTL : Math.max(0, Long.parseLong(ttl));
+        } catch (NumberFormatException e) {
+            return DEFAULT_NOT_FOUND_TTL;
+        }
+    }
+
+    /**
+     * Load a class as {@link Util#loadClass(String, String, ClassLoader)} would, using the thread context class loader.
+     * @return the class, or <code>null</code> if it could not be loaded
+     */
+    public static Class<?> load(String className, String codebase) {
+        return CACHE.load(className, codebase, doPrivileged(GET_CONTEXT_CLASS_LOADER), StackLoader.find());
+    }
+
+    /** Forget every outcome, for instance after new classes have been made available */
+    public static void clear() { CACHE.clear(); }
+
+    @FunctionalInterface
+    interface Resolver {
+        Class<?> resolve(String className, String codebase, ClassLoader loader) throws ClassNotFoundException;
+    }
+
+    static final class Cache {
+        private final Resolver resolver;
+        private final long notFoundTtlNanos;
+        private final LongSupplier clock;
+        /** context loader to stack loader to outcomes, where either loader may be null */
+        private final Map<ClassLoader, Map<ClassLoader, ConcurrentMap<Key, Outcome>>> byLoaders = Collections.synchronizedMap(new WeakHashMap<>());
+
+        Cache(Resolver resolver, long notFoundTtlNanos, LongSupplier clock) {
+            this.resolver = resolver;
+            this.notFoundTtlNanos = notFoundTtlNanos;
+            this.clock = clock;
+        }
+
+        /**
+         * @param contextLoader the loader passed on to the resolver
+         * @param stackLoader the caller's loader, which the resolver is expected to find for itself
+         */
+        Class<?> load(String className, String codebase, ClassLoader contextLoader, ClassLoader stackLoader) {
+            final ConcurrentMap<Key, Outcome> outcomes = outcomesFor(contextLoader, stackLoader);
+            final Key key = new Key(className, codebase);
+            final Outcome known = outcomes.get(key);
+            if (known != null) {
+                if (known.isCurrent(clock.getAsLong())) return known.type();
+                outcomes.remove(key, known);
+            }
+            Class<?> result;
+            try {
+                result = resolver.resolve(className, codebase, contextLoader);
+            } catch (ClassNotFoundException e) {
+                result = null;
+            }
+            if (result == null && notFoundTtlNanos == 0) return null;
+            if (outcomes.size() >= MAX_ENTRIES_PER_LOADER) outcomes.clear();
+            outcomes.put(key, result == null ? new Outcome(null, clock.getAsLong() + notFoundTtlNanos) : new Outcome(result, 0));
+            return result;
+        }
+
+        void clear() { byLoaders.clear(); }
+
+        private ConcurrentMap<Key, Outcome> outcomesFor(ClassLoader contextLoader, ClassLoader stackLoader) {
+            // WeakHashMap accepts null keys, so the bootstrap loader needs no special handling
+            synchronized (byLoaders) {
+                return byLoaders.computeIfAbsent(contextLoader, l -> new WeakHashMap<>())
+                        .computeIfAbsent(stackLoader, l -> new ConcurrentHashMap<>());
+            }
+        }
+    }
+
+    private static final class Key {
+        final String className;
+        final String codebase;
+        final int hash;
+
+        Key(String className, String codebase) {
+            this.className = className;
+            this.codebase = codebase;
+            this.hash = 31 * className.hashCode() + Objects.hashCode(codebase);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key that = (Key) o;
+            return hash == that.hash && className.equals(that.className) && Objects.equals(codebase, that.codebase);
+        }
+    }
+
+    /** A found class, held weakly so that the cache never keeps a class loader alive, or a failure with its expiry */
+    private static final class Outcome {
+        private final WeakReference<Class<?>> type;
+        private final long expiry;
+
+        Outcome(Class<?> type, long expiry) {
+            this.type = type == null ? null : new WeakReference<>(type);
+            this.expiry = expiry;
+        }
+
+        boolean isCurrent(long now) { return type == null ? now - expiry < 0 : type.get() != null; }
+
+        Class<?> type() { return type == null ? null : type.get(); }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
  */
 package org.apache.yoko.util.cmsf;
 
-import javax.rmi.CORBA.Util;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -28,9 +27,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
-import static java.security.AccessController.doPrivileged;
-import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
-
 public enum RepIds {
     ;
 
@@ -100,14 +96,10 @@ public enum RepIds {
             LOGGER.fine(String.format("Class name from repid \"%s\" using suffix \"%s\" is \"%s\"", repid, suffix, className));
 
         if (className != null) {
-            try {
-                // get the appropriate class for the loading.
-                result = Util.loadClass(className, codebase, doPrivileged(GET_CONTEXT_CLASS_LOADER));
-            } catch (ClassNotFoundException ex) {
-                if (LOGGER.isLoggable(Level.FINE))
-                    LOGGER.fine(String.format("Class \"%s\" not found", className));
-                // ignore
-            }
+            // get the appropriate class for the loading.
+            result = ClassResolutions.load(className, codebase);
+            if (result == null && LOGGER.isLoggable(Level.FINE))
+                LOGGER.fine(String.format("Class \"%s\" not found", className));
         }
 
         return result;
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * A hashed timing wheel: many timeouts share a single thread, scheduling and cancellation are both constant time,
+ * and the price is that timeouts fire up to one tick late.
+ * <br>
+ * Expired tasks run on the wheel's own thread, so they must be short and must not block.
+ * Anything more substantial should be handed off to an executor.
+ * The thread is started on first use, and only wakes once per tick while there are timeouts outstanding.
+ */
+public final class TimerWheel {
+    private static final Logger LOGGER = Logger.getLogger(TimerWheel.class.getName());
+
+    /** The handle for a scheduled task */
+    public interface Scheduled {
+        /** @return true iff this call prevented the task from running */
+        boolean cancel();
+    }
+
+    private static final int PENDING = 0, CANCELLED = 1, EXPIRED = 2;
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Entry> added = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+    private volatile Thread worker;
+    private volatile boolean stopped;
+
+    // accessed only on the worker thread
+    private long tick;
+    private int outstanding;
+
+    /** Create a wheel with 100ms ticks and 512 buckets, i.e. one that turns once every 51.2 seconds */
+    public TimerWheel(String name) {
+        this(name, 100, MILLISECONDS, 512);
+    }
+
+    public TimerWheel(String name, long tickDuration, TimeUnit unit, int buckets) {
+        if (tickDuration <= 0) throw new IllegalArgumentException("tick duration must be positive: " + tickDuration);
+        if (buckets <= 0 || buckets > 1 << 30) throw new IllegalArgumentException("bucket count out of range: " + buckets);
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        // round up to a power of two so that the bucket can be found with a mask
+        this.wheel = new Bucket[buckets == 1 ? 1 : Integer.highestOneBit(buckets - 1) << 1];
+        for (int i = 0; i < wheel.length; i++) wheel[i] = new Bucket();
+        this.mask = wheel.length - 1;
+    }
+
+    /** Run a task once the given delay has elapsed. Tasks scheduled after the wheel has been stopped never run. */
+    public Scheduled schedule(Runnable task, long delay, TimeUnit unit) {
+        final Entry entry = new Entry(requireNonNull(task), System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+        if (stopped) {
+            entry.cancel();
+            return entry;
+        }
+        added.add(entry);
+        wake();
+        return entry;
+    }
+
+    /** Stop the wheel. Tasks that have not yet run never will. */
+    public void stop() {
+        stopped = true;
+        final Thread t = worker;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    private void wake() {
+        Thread t = worker;
+        if (t == null) {
+            synchronized (this) {
+                t = worker;
+                if (t == null) {
+                    t = new Thread(this::run, name);
+                    t.setDaemon(true);
+                    worker = t;
+                    t.start();
+                    return;
+                }
+            }
+        }
+        LockSupport.unpark(t);
+    }
+
+    private void run() {
+        while (!stopped) {
+            transferAdded();
+            final long target = (System.nanoTime() - startNanos) / tickNanos;
+            if (outstanding == 0) tick = Math.max(tick, target); // nothing to expire in the skipped ticks
+            while (tick < target && !stopped) {
+                tick++;
+                wheel[(int) (tick & mask)].expire();
+            }
+            if (!added.isEmpty()) continue;
+            if (outstanding == 0) LockSupport.park(this);
+            else LockSupport.parkNanos(this, startNanos + (tick + 1) * tickNanos - System.nanoTime());
+        }
+        // discard everything, so that nothing is retained by a stopped wheel
+        added.clear();
+        for (Bucket b : wheel) b.clear();
+    }
+
+    private void transferAdded() {
+        for (Entry e = added.poll(); e != null; e = added.poll()) {
+            if (e.state.get() != PENDING) continue;
+            // round up, so a task never runs early, and never schedule into a tick that has already been processed
+            final long deadlineTick = Math.max(tick + 1, (e.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+            e.rounds = (deadlineTick - tick - 1) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(e);
+        }
+    }
+
+    /** The entries that fall due on the same tick of each rotation. Accessed only on the worker thread. */
+    private final class Bucket {
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+        void add(Entry e) {
+            entries.add(e);
+            outstanding++;
+        }
+
+        void expire() {
+            for (int n = entries.size(); n > 0; n--) {
+                final Entry e = entries.poll();
+                if (e.state.get() == PENDING && e.rounds-- > 0) {
+                    entries.add(e); // not due in this rotation
+                    continue;
+                }
+                outstanding--;
+                if (e.state.compareAndSet(PENDING, EXPIRED)) e.run();
+            }
+        }
+
+        void clear() {
+            outstanding -= entries.size();
+            entries.clear();
+        }
+    }
+
+    private static final class Entry implements Scheduled {
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        final long deadlineNanos;
+        Runnable task;
+        long rounds; // accessed only on the worker thread
+
+        Entry(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) return false;
+            // let the task be collected now, even though the entry stays in its bucket until its tick comes round
+            task = null;
+            return true;
+        }
+
+        void run() {
+            final Runnable r = task;
+            task = null;
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(WARNING, "Unexpected exception from timer task " + r, e);
+            }
+        }
+    }
+}
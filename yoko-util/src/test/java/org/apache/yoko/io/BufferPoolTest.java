@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.yoko.io.BufferPool.CAPACITY;
+import static org.apache.yoko.io.BufferPool.DEFAULT_CAPACITY;
+import static org.apache.yoko.io.BufferPool.MAX_SHIFT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class BufferPoolTest {
+    @BeforeAll
+    static void checkPoolingIsEnabled() {
+        assertThat("these tests need the pool to be enabled", BufferPool.pools(1), is(true));
+    }
+
+    /** the most arrays of this size that the pool retains */
+    private static int maxCount(int size) { return Math.max(1, CAPACITY / size); }
+
+    /** empty the size class, which other users of the pool may have filled */
+    private static void drain(int size) {
+        for (int i = 0; i < maxCount(size); i++) BufferPool.take(size);
+    }
+
+    @Test
+    void testTakeRoundsUpToAPowerOfTwo() {
+        assertThat(BufferPool.take(1).length, equalTo(256));
+        assertThat(BufferPool.take(256).length, equalTo(256));
+        assertThat(BufferPool.take(257).length, equalTo(512));
+        assertThat(BufferPool.take(3000).length, equalTo(4096));
+        assertThat(BufferPool.take(1 << MAX_SHIFT).length, equalTo(1 << MAX_SHIFT));
+    }
+
+    @Test
+    void testGivenArrayIsReusedZeroFilled() {
+        drain(4096);
+        final byte[] given = BufferPool.take(4096);
+        given[0] = given[4095] = 42;
+        BufferPool.give(given);
+        final byte[] taken = BufferPool.take(3000);
+        assertThat(taken, sameInstance(given));
+        for (byte b : taken) assertThat(b, equalTo((byte) 0));
+    }
+
+    @Test
+    void testSizeClassRetainsNoMoreThanItsShareOfTheCapacity() {
+        final int size = 16 * 1024;
+        final int max = maxCount(size);
+        drain(size);
+        final Set<byte[]> given = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= max; i++) given.add(new byte[size]);
+        given.forEach(BufferPool::give);
+        final List<byte[]> taken = new ArrayList<>();
+        for (int i = 0; i <= max; i++) taken.add(BufferPool.take(size));
+        // the first arrays come back from the pool, but one too many was offered, so the last is new
+        for (byte[] bytes : taken.subList(0, max)) assertThat(given.contains(bytes), is(true));
+        assertThat(given.contains(taken.get(max)), is(false));
+    }
+
+    @Test
+    void testArraysOfOtherSizesAreNotPooled() {
+        drain(512);
+        final byte[] odd = new byte[500];
+        BufferPool.give(odd);
+        assertThat(BufferPool.take(500), not(sameInstance(odd)));
+        assertThat(BufferPool.pools(1 << MAX_SHIFT), is(true));
+        assertThat(BufferPool.pools((1 << MAX_SHIFT) + 1), is(false));
+    }
+
+    @Test
+    void testCapacityProperty() {
+        assertThat(BufferPool.capacity(null), equalTo(DEFAULT_CAPACITY));
+        assertThat(BufferPool.capacity(" 4096 "), equalTo(4096));
+        assertThat(BufferPool.capacity("0"), equalTo(0));
+        assertThat(BufferPool.capacity("-1"), equalTo(0));
+        assertThat(BufferPool.capacity("lots"), equalTo(DEFAULT_CAPACITY));
+    }
+}
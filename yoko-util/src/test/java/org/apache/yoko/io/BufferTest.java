@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
 
 class BufferTest {
     WriteBuffer writeBuffer;
@@ -107,6 +108,120 @@ class BufferTest {
         rb2.skipBytes(100);
     }
 
+    @Test
+    public void testFlushToKeepsPositions() {
+        writeBuffer.ensureAvailable(100);
+        writeBuffer.writeBytes(bytes, 0, 100);
+        byte[] head = writeBuffer.flushTo(96);
+        assertThat(new String(head, UTF_8), equalTo(TEXT.substring(0, 96)));
+        assertThat(writeBuffer.getPosition(), equalTo(100));
+        assertBufferContains(TEXT.substring(96, 100));
+        writeBuffer.ensureAvailable(bytes.length - 100);
+        writeBuffer.writeBytes(bytes, 100, bytes.length - 100);
+        assertThat(writeBuffer.getPosition(), equalTo(bytes.length));
+        assertBufferContains(TEXT.substring(96));
+        writeBuffer.setPosition(98);
+        writeBuffer.writeByte('X');
+        assertBufferContains(TEXT.substring(96, 98) + "X" + TEXT.substring(99));
+    }
+
+    @Test
+    public void testGrowthAfterReleaseStartsClean() {
+        writeBuffer.ensureAvailable(bytes.length);
+        writeBuffer.writeBytes(bytes);
+        writeBuffer.release();
+        assertThat(writeBuffer.length(), equalTo(0));
+        // a recycled array must not leak the old contents
+        writeBuffer = Buffer.createWriteBuffer(bytes.length);
+        assertThat(writeBuffer.readFromStart().copyRemainingBytes(), equalTo(new byte[bytes.length]));
+        writeBuffer.writeBytes(bytes);
+        assertBufferContains(TEXT);
+    }
+
+    @Test
+    public void testReleaseLeavesCallerArrayAlone() {
+        byte[] data = TEXT.getBytes(UTF_8);
+        Buffer.createReadBuffer(data).release();
+        assertThat(new String(data, UTF_8), equalTo(TEXT));
+    }
+
+    @Test
+    public void testBulkPrimitivesMatchSingleWrites() {
+        int[] ints = {0, 1, -1, 0x01020304, Integer.MIN_VALUE};
+        double[] doubles = {0.0, -1.5, Math.PI, Double.MAX_VALUE};
+        writeBuffer.ensureAvailable(4 * ints.length + 8 * doubles.length);
+        writeBuffer.writeInts(ints, 0, ints.length).writeDoubles(doubles, 0, doubles.length);
+        WriteBuffer expected = Buffer.createWriteBuffer(4 * ints.length + 8 * doubles.length);
+        for (int i : ints) expected.writeInt(i);
+        for (double d : doubles) expected.writeLong(Double.doubleToLongBits(d));
+        assertThat(writeBuffer.readFromStart().copyRemainingBytes(), equalTo(expected.readFromStart().copyRemainingBytes()));
+
+        ReadBuffer readBuffer = writeBuffer.readFromStart();
+        int[] intsRead = new int[ints.length + 1];
+        double[] doublesRead = new double[doubles.length];
+        readBuffer.readInts(intsRead, 1, ints.length, false);
+        readBuffer.readDoubles(doublesRead, 0, doubles.length, false);
+        assertThat(intsRead, equalTo(new int[]{0, 0, 1, -1, 0x01020304, Integer.MIN_VALUE}));
+        assertThat(doublesRead, equalTo(doubles));
+        assertThat(readBuffer.available(), equalTo(0));
+    }
+
+    @Test
+    public void testBulkFloatsCanonicaliseNaN() {
+        float[] floats = {1.0f, Float.intBitsToFloat(0x7fc00001), Float.intBitsToFloat(0xffbadbad), -0.0f};
+        double[] doubles = {Double.longBitsToDouble(0x7ff0000000000badL), Double.NaN, 2.5};
+        writeBuffer.ensureAvailable(4 * floats.length + 8 * doubles.length);
+        writeBuffer.writeFloats(floats, 0, floats.length).writeDoubles(doubles, 0, doubles.length);
+        WriteBuffer expected = Buffer.createWriteBuffer(4 * floats.length + 8 * doubles.length);
+        for (float f : floats) expected.writeInt(Float.floatToIntBits(f));
+        for (double d : doubles) expected.writeLong(Double.doubleToLongBits(d));
+        assertThat(writeBuffer.readFromStart().copyRemainingBytes(), equalTo(expected.readFromStart().copyRemainingBytes()));
+    }
+
+    @Test
+    public void testBulkReadLittleEndian() {
+        ReadBuffer readBuffer = Buffer.createReadBuffer(new byte[]{1, 0, 2, 0, 4, 3, 2, 1});
+        short[] shorts = new short[2];
+        readBuffer.readShorts(shorts, 0, 2, true);
+        assertThat(shorts, equalTo(new short[]{1, 2}));
+        int[] ints = new int[1];
+        readBuffer.readInts(ints, 0, 1, true);
+        assertThat(ints[0], equalTo(0x01020304));
+    }
+
+    @Test
+    public void testSingleByteStringsRoundTrip() {
+        String latin1 = "caf\u00e9 \u00ff";
+        writeBuffer.ensureAvailable(TEXT.length() + latin1.length());
+        writeBuffer.writeLatin1(TEXT).writeLatin1(latin1);
+        ReadBuffer readBuffer = writeBuffer.readFromStart();
+        assertThat(readBuffer.readAscii(TEXT.length()), equalTo(TEXT));
+        assertThat(readBuffer.readAscii(latin1.length()), nullValue());
+        assertThat(readBuffer.readLatin1(latin1.length()), equalTo(latin1));
+        assertThat(readBuffer.available(), equalTo(0));
+    }
+
+    @Test
+    public void testSingleByteStringsRejectNulls() {
+        ReadBuffer readBuffer = Buffer.createReadBuffer(new byte[]{'a', 0, 'b'});
+        assertThat(readBuffer.readLatin1(3), nullValue());
+        assertThat(readBuffer.readAscii(3), nullValue());
+        assertThat(readBuffer.available(), equalTo(3));
+        assertThat(readBuffer.readLatin1(1), equalTo("a"));
+    }
+
+    @Test
+    public void testInternedStringsAreShared() {
+        InternTable table = new InternTable(16);
+        byte[] data = "IDL:Foo:1.0IDL:Foo:1.0IDL:Bar:1.0".getBytes(UTF_8);
+        ReadBuffer readBuffer = Buffer.createReadBuffer(data);
+        String first = readBuffer.readAscii(11, table);
+        assertThat(first, equalTo("IDL:Foo:1.0"));
+        assertThat(readBuffer.readAscii(11, table) == first, equalTo(true));
+        assertThat(readBuffer.readAscii(11, table), equalTo("IDL:Bar:1.0"));
+        assertThat(Buffer.createReadBuffer(new byte[]{'a', (byte) 0xe9}).readAscii(2, table), nullValue());
+    }
+
     public void assertBufferContains(String expected) {
         final ReadBuffer readBuffer = writeBuffer.readFromStart();
         final String actual = new String(readBuffer.copyRemainingBytes(), UTF_8);
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util.cmsf;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ClassResolutionsTest {
+    private static final long TTL = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<ClassLoader> resolutions = new ArrayList<>();
+    private final ClassLoader loaderA = new URLClassLoader(new URL[0]);
+    private final ClassLoader loaderB = new URLClassLoader(new URL[0]);
+    /** the class the resolver finds for each loader, or null if it finds nothing */
+    private Class<?> foundByA, foundByB;
+
+    private final ClassResolutions.Cache cache = new ClassResolutions.Cache(this::resolve, TTL, clock::get);
+
+    private Class<?> resolve(String className, String codebase, ClassLoader loader) throws ClassNotFoundException {
+        resolutions.add(loader);
+        final Class<?> found = loader == loaderA ? foundByA : loader == loaderB ? foundByB : null;
+        if (found == null) throw new ClassNotFoundException(className);
+        return found;
+    }
+
+    @Test
+    void testFoundClassIsRemembered() {
+        foundByA = String.class;
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        foundByA = Integer.class;
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        assertThat(resolutions, contains(loaderA));
+    }
+
+    @Test
+    void testFailureIsRememberedUntilItExpires() {
+        assertThat(cache.load("x.Y", null, loaderA, null), is(nullValue()));
+        foundByA = String.class;
+        clock.addAndGet(TTL - 1);
+        assertThat(cache.load("x.Y", null, loaderA, null), is(nullValue()));
+        assertThat(resolutions, contains(loaderA));
+        clock.addAndGet(1);
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        assertThat(resolutions, contains(loaderA, loaderA));
+    }
+
+    @Test
+    void testFailureIsNotRememberedWithZeroTtl() {
+        final ClassResolutions.Cache cache = new ClassResolutions.Cache(this::resolve, 0, clock::get);
+        assertThat(cache.load("x.Y", null, loaderA, null), is(nullValue()));
+        foundByA = String.class;
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+    }
+
+    @Test
+    void testOutcomesAreKeptPerContextLoader() {
+        foundByA = String.class;
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        assertThat(cache.load("x.Y", null, loaderB, null), is(nullValue()));
+        foundByB = Integer.class;
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        assertThat(cache.load("x.Y", null, loaderB, null), is(nullValue()));
+        assertThat(resolutions, contains(loaderA, loaderB));
+    }
+
+    @Test
+    void testOutcomesAreKeptPerStackLoader() {
+        // a failure seen from one caller must not hide a class from another caller
+        assertThat(cache.load("x.Y", null, loaderA, loaderA), is(nullValue()));
+        foundByA = String.class;
+        assertThat(cache.load("x.Y", null, loaderA, loaderB), sameInstance(String.class));
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+        assertThat(cache.load("x.Y", null, loaderA, loaderA), is(nullValue()));
+        assertThat(resolutions, contains(loaderA, loaderA, loaderA));
+    }
+
+    @Test
+    void testOutcomesAreKeptPerCodebase() {
+        assertThat(cache.load("x.Y", "http://a/", loaderA, null), is(nullValue()));
+        foundByA = String.class;
+        assertThat(cache.load("x.Y", "http://b/", loaderA, null), sameInstance(String.class));
+        assertThat(cache.load("x.Y", "http://a/", loaderA, null), is(nullValue()));
+    }
+
+    @Test
+    void testClearForgetsEveryOutcome() {
+        assertThat(cache.load("x.Y", null, loaderA, null), is(nullValue()));
+        foundByA = String.class;
+        cache.clear();
+        assertThat(cache.load("x.Y", null, loaderA, null), sameInstance(String.class));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+    // a small, fast wheel, so that tests exercise several rotations
+    private final TimerWheel wheel = new TimerWheel("test timer", 5, MILLISECONDS, 8);
+
+    @AfterEach
+    void stopWheel() { wheel.stop(); }
+
+    @Test
+    void testTaskRunsNoEarlierThanItsDelay() throws Exception {
+        final CountDownLatch ran = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final long[] elapsed = new long[1];
+        wheel.schedule(() -> { elapsed[0] = System.nanoTime() - start; ran.countDown(); }, 100, MILLISECONDS);
+        assertTrue(ran.await(5, SECONDS));
+        assertTrue(elapsed[0] >= MILLISECONDS.toNanos(100), "task ran early: " + elapsed[0] + "ns");
+    }
+
+    @Test
+    void testTasksRunInDeadlineOrderAcrossRotations() throws Exception {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch ran = new CountDownLatch(3);
+        // 8 buckets of 5ms turn every 40ms, so these land in overlapping buckets on different rotations
+        wheel.schedule(() -> { order.add(3); ran.countDown(); }, 130, MILLISECONDS);
+        wheel.schedule(() -> { order.add(1); ran.countDown(); }, 10, MILLISECONDS);
+        wheel.schedule(() -> { order.add(2); ran.countDown(); }, 50, MILLISECONDS);
+        assertTrue(ran.await(5, SECONDS));
+        assertEquals(Arrays.asList(1, 2, 3), order);
+    }
+
+    @Test
+    void testCancelledTaskNeverRuns() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final TimerWheel.Scheduled cancelled = wheel.schedule(runs::incrementAndGet, 20, MILLISECONDS);
+        final CountDownLatch later = new CountDownLatch(1);
+        wheel.schedule(later::countDown, 60, MILLISECONDS);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(later.await(5, SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testCancelAfterRunFails() throws Exception {
+        final CountDownLatch ran = new CountDownLatch(1);
+        final TimerWheel.Scheduled scheduled = wheel.schedule(ran::countDown, 0, MILLISECONDS);
+        assertTrue(ran.await(5, SECONDS));
+        assertFalse(scheduled.cancel());
+    }
+
+    @Test
+    void testFailingTaskDoesNotStopTheWheel() throws Exception {
+        final CountDownLatch ran = new CountDownLatch(1);
+        wheel.schedule(() -> { throw new IllegalStateException("expected"); }, 0, MILLISECONDS);
+        wheel.schedule(ran::countDown, 20, MILLISECONDS);
+        assertTrue(ran.await(5, SECONDS));
+    }
+
+    @Test
+    void testNothingRunsAfterStop() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(runs::incrementAndGet, 20, MILLISECONDS);
+        wheel.stop();
+        assertFalse(wheel.schedule(runs::incrementAndGet, 0, MILLISECONDS).cancel());
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.PortableServer.POA;
+import test.poa.TestHelper;
+import test.poa.TestInfo;
+import test.poa.TestServerHelper;
+import test.poa.TestServer_impl;
+import test.poa.Test_impl;
+import testify.bus.Bus;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.BeforeServer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID;
+
+/**
+ * Check that remembered <code>_is_a</code> answers are never applied to the wrong object,
+ * even when several references carry the same type id in their IORs.
+ */
+@ConfigureServer
+public class IsACacheTest {
+    private static final String OBJECT_ID = "IDL:omg.org/CORBA/Object:1.0";
+
+    @BeforeServer
+    public static void setup(ORB orb, POA root, Bus bus) throws Exception {
+        POA poa = root.create_POA("isa", root.the_POAManager(), new Policy[]{root.create_id_assignment_policy(USER_ID)});
+        // two objects of unrelated types, both advertised only as CORBA::Object
+        poa.activate_object_with_id("test".getBytes(), new Test_impl(orb, "test", false));
+        poa.activate_object_with_id("server".getBytes(), new TestServer_impl(orb, new TestInfo[0]));
+        bus.put("genericTest", orb.object_to_string(poa.create_reference_with_id("test".getBytes(), OBJECT_ID)));
+        bus.put("genericServer", orb.object_to_string(poa.create_reference_with_id("server".getBytes(), OBJECT_ID)));
+        // the same two objects, each advertised as the other's type
+        bus.put("testAsServer", orb.object_to_string(poa.create_reference_with_id("test".getBytes(), TestServerHelper.id())));
+        bus.put("serverAsServer", orb.object_to_string(poa.create_reference_with_id("server".getBytes(), TestServerHelper.id())));
+    }
+
+    private static IsACache isACache(ORB orb) {
+        return ((org.apache.yoko.orb.CORBA.ORB) orb)._OB_ORBInstance().getIsACache();
+    }
+
+    @Test
+    void testGenericTypeIdIsNotCached(ORB orb, Bus bus) {
+        org.omg.CORBA.Object test = orb.string_to_object(bus.get("genericTest"));
+        org.omg.CORBA.Object server = orb.string_to_object(bus.get("genericServer"));
+        final int size = isACache(orb).size();
+        for (int i = 0; i < 2; i++) {
+            assertThat(test._is_a(TestHelper.id()), equalTo(true));
+            assertThat(server._is_a(TestHelper.id()), equalTo(false));
+            assertThat(server._is_a(TestServerHelper.id()), equalTo(true));
+            assertThat(test._is_a(TestServerHelper.id()), equalTo(false));
+        }
+        assertThat("answers for a generic type id should not be remembered", isACache(orb).size(), equalTo(size));
+    }
+
+    @Test
+    void testAnswersAreKeptPerReference(ORB orb, Bus bus) {
+        org.omg.CORBA.Object test = orb.string_to_object(bus.get("testAsServer"));
+        org.omg.CORBA.Object server = orb.string_to_object(bus.get("serverAsServer"));
+        final long hits = isACache(orb).hits();
+        for (int i = 0; i < 2; i++) {
+            assertThat(test._is_a(TestHelper.id()), equalTo(true));
+            assertThat(server._is_a(TestHelper.id()), equalTo(false));
+        }
+        assertThat("the second round of answers should have come from the cache", isACache(orb).hits(), equalTo(hits + 2));
+        // a new reference to the same object shares the answer
+        assertThat(orb.string_to_object(bus.get("testAsServer"))._is_a(TestHelper.id()), equalTo(true));
+        assertThat(isACache(orb).hits(), equalTo(hits + 3));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.BeforeServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static testify.iiop.annotation.ConfigureOrb.OrbId.CLIENT_ORB;
+import static testify.iiop.annotation.ConfigureOrb.OrbId.SERVER_ORB;
+
+/**
+ * Test that the request trace records how each reply ended, on both the server and the client,
+ * including replies that carry a user or system exception.
+ */
+@ConfigureServer(
+        clientOrb = @ConfigureOrb(value = CLIENT_ORB, props = "yoko.orb.request_trace_size=64"),
+        serverOrb = @ConfigureOrb(value = SERVER_ORB, props = "yoko.orb.request_trace_size=64"))
+public class RequestTraceReplyTest {
+    public static class Refusal extends Exception {
+        public Refusal(String message) { super(message); }
+    }
+
+    public interface Traced extends Remote {
+        String echo(String s) throws RemoteException;
+        void refuse(String s) throws RemoteException, Refusal;
+        void crash(String s) throws RemoteException;
+        String serverTrace() throws RemoteException;
+    }
+
+    private static ORB serverOrb;
+
+    @BeforeServer
+    public static void saveOrb(ORB orb) {
+        serverOrb = orb;
+    }
+
+    @RemoteImpl
+    public static final Traced IMPL = new Traced() {
+        public String echo(String s) { return s; }
+        public void refuse(String s) throws Refusal { throw new Refusal(s); }
+        public void crash(String s) { throw new IllegalStateException(s); }
+        public String serverTrace() { return trace(serverOrb).dump(); }
+    };
+
+    private static RequestTrace trace(ORB orb) {
+        return ((org.apache.yoko.orb.CORBA.ORB) orb)._OB_ORBInstance().getRequestTrace();
+    }
+
+    private static void assertTraced(String dump, String event, String op, String status) {
+        final Pattern line = Pattern.compile(event + "\\s+reqId=\\d+ op=" + op + " size=\\d+ status=" + status + "\\b");
+        assertThat(event + " " + op + " " + status + " in\n" + dump, line.matcher(dump).find(), equalTo(true));
+    }
+
+    @Test
+    public void testRepliesAreTracedWithTheirStatus(Traced traced, ORB orb) throws Exception {
+        assertThat(traced.echo("hello"), equalTo("hello"));
+        assertThrows(Refusal.class, () -> traced.refuse("no"));
+        assertThrows(RemoteException.class, () -> traced.crash("bang"));
+
+        final String server = traced.serverTrace();
+        assertTraced(server, "REPLY_SENT", "echo", "NO_EXCEPTION");
+        assertTraced(server, "REPLY_SENT", "refuse", "USER_EXCEPTION");
+        assertTraced(server, "REPLY_SENT", "crash", "SYSTEM_EXCEPTION");
+
+        final String client = trace(orb).dump();
+        assertTraced(client, "REPLY_RECEIVED", "echo", "NO_EXCEPTION");
+        assertTraced(client, "REPLY_RECEIVED", "refuse", "USER_EXCEPTION");
+        assertTraced(client, "REPLY_RECEIVED", "crash", "SYSTEM_EXCEPTION");
+    }
+}
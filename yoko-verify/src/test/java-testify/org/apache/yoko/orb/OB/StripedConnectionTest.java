@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static testify.iiop.annotation.ConfigureOrb.OrbId.CLIENT_ORB;
+
+/**
+ * Test that requests striped across several connections to one endpoint each get their own reply.
+ * Request ids are given out before a stripe is chosen, so they must be unique across all the stripes.
+ */
+@ConfigureServer(clientOrb = @ConfigureOrb(value = CLIENT_ORB, props = {
+        "yoko.orb.client_connections=4",
+        "yoko.orb.client_connection_selection=round_robin"
+}))
+public class StripedConnectionTest {
+    @ConfigureServer(clientOrb = @ConfigureOrb(value = CLIENT_ORB, props = {
+            "yoko.orb.client_connections=4",
+            "yoko.orb.client_connection_selection=least_outstanding"
+    }))
+    public static class LeastOutstandingStripedConnectionTest extends StripedConnectionTest {}
+
+    public interface Echo extends Remote {
+        int echo(int i) throws RemoteException;
+    }
+
+    @RemoteImpl
+    public static final Echo IMPL = new Echo() {
+        public int echo(int i) {
+            // keep some requests outstanding, so that least-outstanding selection opens more connections
+            if (i % 10 == 0) Thread.yield();
+            return i;
+        }
+    };
+
+    @Test
+    public void testConcurrentRequestsGetTheirOwnReplies(Echo echo) throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            final List<Future<Integer>> replies = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                final int request = i;
+                replies.add(pool.submit(() -> echo.echo(request)));
+            }
+            for (int i = 0; i < replies.size(); i++) assertThat(replies.get(i).get(30, SECONDS), equalTo(i));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.Test;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static testify.iiop.annotation.ConfigureOrb.OrbId.SERVER_ORB;
+
+/**
+ * Test sending replies that are larger than the server's GIOP fragment size,
+ * so that they are streamed back to the client as a series of fragments.
+ * Only the server ORB is configured to fragment its replies.
+ */
+@ConfigureServer(serverOrb = @ConfigureOrb(value = SERVER_ORB, props = {
+        "yoko.orb.giop.fragment_size=256",
+        "yoko.orb.oa.version=1.2"
+}))
+public class FragmentedReplyTest {
+    @ConfigureServer(serverOrb = @ConfigureOrb(value = SERVER_ORB, props = {
+            "yoko.orb.giop.fragment_size=256",
+            "yoko.orb.oa.version=1.1"
+    }))
+    public static class FragmentedReplyGiop11Test extends FragmentedReplyTest {}
+
+    public static class BigException extends Exception {
+        public BigException(String message) { super(message); }
+    }
+
+    public interface Big extends Remote {
+        String echo(String s) throws RemoteException;
+        void fail(String s) throws RemoteException, BigException;
+    }
+
+    private static final String PAYLOAD;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 5000; i++) sb.append("fragment ").append(i).append(' ');
+        PAYLOAD = sb.toString();
+    }
+
+    @RemoteImpl
+    public static final Big IMPL = new Big() {
+        public String echo(String s) { return s; }
+        public void fail(String s) throws BigException { throw new BigException(s); }
+    };
+
+    @Test
+    public void testFragmentedReply(Big big) throws Exception {
+        assertThat("String should have been returned correctly.", big.echo(PAYLOAD), equalTo(PAYLOAD));
+    }
+
+    @Test
+    public void testFragmentedUserException(Big big) throws Exception {
+        BigException e = assertThrows(BigException.class, () -> big.fail(PAYLOAD));
+        assertThat("Exception message should have been returned correctly.", e.getMessage(), equalTo(PAYLOAD));
+        // the connection should still be usable after a fragmented exception reply
+        assertThat(big.echo(PAYLOAD), equalTo(PAYLOAD));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.omg.CORBA.OBJ_ADAPTER;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.Policy;
 import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAPackage.ObjectAlreadyActive;
 import org.omg.PortableServer.POAPackage.ObjectNotActive;
 import org.omg.PortableServer.POAPackage.ServantAlreadyActive;
 import org.omg.PortableServer.POAPackage.WrongPolicy;
@@ -32,7 +33,13 @@ import org.omg.PortableServer.ServantActivatorPOA;
 import test.poa.Test_impl;
 import testify.iiop.annotation.ConfigureOrb;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -173,6 +180,56 @@ public class PoaActivateTest {
         assertTrue(activatorImpl.isValid());
     }
 
+    @Test
+    void testConcurrentActivateWithSameId(ORB orb, POA rootPoa) throws Exception {
+        POA poa = rootPoa.create_POA("concurrent", rootPoa.the_POAManager(), new Policy[]{
+                rootPoa.create_id_assignment_policy(USER_ID),
+                rootPoa.create_id_uniqueness_policy(UNIQUE_ID),
+                rootPoa.create_servant_retention_policy(RETAIN)});
+        final int threads = 4;
+        ExecutorService xs = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < 500; i++) {
+                byte[] id = ("race" + i).getBytes();
+                CyclicBarrier barrier = new CyclicBarrier(threads);
+                List<Test_impl> servants = new ArrayList<>();
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int j = 0; j < threads; j++) {
+                    Test_impl servant = new Test_impl(orb, "obj" + i + "_" + j, false);
+                    servants.add(servant);
+                    results.add(xs.submit(() -> {
+                        barrier.await();
+                        try {
+                            poa.activate_object_with_id(id, servant);
+                            return true;
+                        } catch (ObjectAlreadyActive e) {
+                            return false;
+                        }
+                    }));
+                }
+                // exactly one activation should win
+                Test_impl winner = null;
+                for (int j = 0; j < threads; j++) {
+                    if (!results.get(j).get()) continue;
+                    assertTrue(winner == null);
+                    winner = servants.get(j);
+                }
+                assertTrue(poa.id_to_servant(id) == winner);
+                poa.deactivate_object(id);
+                // the losers must not still be reserved for the id they lost
+                for (Test_impl servant : servants) {
+                    if (servant == winner) continue;
+                    byte[] otherId = ("other" + i + "_" + servants.indexOf(servant)).getBytes();
+                    poa.activate_object_with_id(otherId, servant);
+                    poa.deactivate_object(otherId);
+                }
+            }
+        } finally {
+            xs.shutdown();
+        }
+        poa.destroy(true, true);
+    }
+
     final static class TestActivator_impl extends ServantActivatorPOA {
         private byte[] oid;
         private POA poa;
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.PortableServer;
+
+import org.apache.yoko.orb.OBPortableServer.POAManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.PortableServer.POA;
+import org.omg.PortableServer.POAManager;
+import test.poa.TestHelper;
+import test.poa.Test_impl;
+import testify.bus.Bus;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.BeforeServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+import static org.apache.yoko.orb.OBPortableServer.COMMUNICATIONS_CONCURRENCY_POLICY_REACTIVE.value;
+import static org.apache.yoko.orb.PortableServer.PolicyValue.NO_IMPLICIT_ACTIVATION;
+import static org.apache.yoko.orb.PortableServer.PolicyValue.create_POA;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check that a POA manager made reactive by a communications concurrency policy
+ * (rather than by a property) receives its requests on the ORB's reactor.
+ */
+@ConfigureServer
+public class ReactivePoaManagerTest {
+    public interface ServerThreads extends Remote {
+        boolean isReactorRunning() throws RemoteException;
+    }
+
+    static String reactorThreadPrefix;
+    static test.poa.Test test;
+
+    @RemoteImpl
+    public static final ServerThreads IMPL = () -> Thread.getAllStackTraces().keySet().stream()
+            .map(Thread::getName)
+            .anyMatch(name -> name.equals(reactorThreadPrefix + "0"));
+
+    @BeforeServer
+    public static void setup(ORB orb, POA root, Bus bus) throws Exception {
+        reactorThreadPrefix = "Yoko:Server:Reactor:" + ((org.apache.yoko.orb.CORBA.ORB) orb)._OB_ORBInstance().getOrbId() + ":";
+        POAManagerFactory factory = (POAManagerFactory) root.the_POAManagerFactory();
+        Policy reactive = factory.create_communications_concurrency_policy(value);
+        POAManager manager = factory.create_POAManager("reactive", new Policy[]{reactive});
+        POA poa = create_POA("reactive", root, manager, NO_IMPLICIT_ACTIVATION);
+        manager.activate();
+        byte[] oid = poa.activate_object(new Test_impl(orb, poa));
+        bus.put("test", orb.object_to_string(poa.id_to_reference(oid)));
+    }
+
+    @BeforeAll
+    public static void setupClient(ORB orb, Bus bus) {
+        test = TestHelper.narrow(orb.string_to_object(bus.get("test")));
+    }
+
+    @Test
+    void testRequestIsReceivedByReactor(ServerThreads serverThreads) throws Exception {
+        test.aMethod();
+        assertTrue(serverThreads.isReactorRunning(), "the request should have been received on a reactor thread");
+    }
+}
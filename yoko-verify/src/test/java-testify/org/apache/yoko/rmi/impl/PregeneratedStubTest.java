@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import acme.StubbedEcho;
+import org.junit.jupiter.api.Test;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Check that a stub generated by {@link StubBuilder} when the tests were built
+ * is used instead of one generated at runtime.
+ */
+@ConfigureServer
+public class PregeneratedStubTest {
+    @RemoteImpl
+    public static final StubbedEcho IMPL = s -> s.toUpperCase(Locale.ROOT);
+
+    @Test
+    public void testPregeneratedStubIsUsed(StubbedEcho stub) throws Exception {
+        assertThat(stub.getClass().getName(), equalTo("org.omg.stub.acme._StubbedEcho_Stub"));
+        assertThat(stub.echo("hello"), equalTo("HELLO"));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.CORBA.ORBPolicyManager_impl.Snapshot;
+import org.apache.yoko.orb.OB.ConnectTimeoutPolicy_impl;
+import org.apache.yoko.orb.OB.RefCountPolicyList;
+import org.apache.yoko.orb.OB.RequestTimeoutPolicy_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Policy;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.omg.CORBA.SetOverrideType.ADD_OVERRIDE;
+import static org.omg.CORBA.SetOverrideType.SET_OVERRIDE;
+
+class ORBPolicyManager_implTest {
+    @Test
+    void testSnapshotIsSharedUntilThePoliciesChange() {
+        ORBPolicyManager_impl pm = new ORBPolicyManager_impl(new PolicyMap(new ConnectTimeoutPolicy_impl(100)));
+        Snapshot first = pm._OB_snapshot();
+        assertThat(pm._OB_snapshot(), sameInstance(first));
+        assertThat(first.policies.connectTimeout, is(100));
+        assertThat(first.policies.requestTimeout, is(-1));
+    }
+
+    @Test
+    void testAddOverrideTakesANewSnapshotAndLeavesTheOldOneAlone() {
+        ORBPolicyManager_impl pm = new ORBPolicyManager_impl(new PolicyMap(new ConnectTimeoutPolicy_impl(100)));
+        Snapshot first = pm._OB_snapshot();
+        Policy[] firstPolicies = first.policies.value.clone();
+
+        pm.set_policy_overrides(new Policy[]{new RequestTimeoutPolicy_impl(200)}, ADD_OVERRIDE);
+        Snapshot second = pm._OB_snapshot();
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.version, greaterThan(first.version));
+        assertThat(second.policies.connectTimeout, is(100));
+        assertThat(second.policies.requestTimeout, is(200));
+        assertThat(second.policies.value, arrayWithSize(2));
+        // the old snapshot still describes the old policies
+        assertThat(first.policies.requestTimeout, is(-1));
+        assertThat(first.policies.value, is(firstPolicies));
+    }
+
+    @Test
+    void testSetOverrideTakesANewSnapshotAndLeavesTheOldOneAlone() {
+        ORBPolicyManager_impl pm = new ORBPolicyManager_impl(new PolicyMap(new ConnectTimeoutPolicy_impl(100)));
+        Snapshot first = pm._OB_snapshot();
+
+        pm.set_policy_overrides(new Policy[]{new RequestTimeoutPolicy_impl(200)}, SET_OVERRIDE);
+        Snapshot second = pm._OB_snapshot();
+
+        assertThat(second.version, greaterThan(first.version));
+        assertThat(second.policies.connectTimeout, is(-1));
+        assertThat(second.policies.requestTimeout, is(200));
+        assertThat(first.policies.connectTimeout, is(100));
+        assertThat(first.policies.value, arrayWithSize(1));
+    }
+
+    @Test
+    void testEveryChangeGetsANewVersion() {
+        ORBPolicyManager_impl pm = new ORBPolicyManager_impl(new PolicyMap());
+        long version = pm._OB_snapshot().version;
+        for (int i = 1; i <= 3; i++) {
+            // no snapshot is taken between these two changes
+            pm.set_policy_overrides(new Policy[]{new RequestTimeoutPolicy_impl(i)}, ADD_OVERRIDE);
+            pm.set_policy_overrides(new Policy[]{new ConnectTimeoutPolicy_impl(i)}, ADD_OVERRIDE);
+            Snapshot next = pm._OB_snapshot();
+            assertThat(next.version, is(version + 2));
+            assertThat(next.policies.connectTimeout, is(i));
+            version = next.version;
+        }
+    }
+
+    @Test
+    void testPolicyListDoesNotShareTheCallersArray() {
+        Policy[] policies = {new ConnectTimeoutPolicy_impl(100)};
+        RefCountPolicyList list = new RefCountPolicyList(policies);
+        policies[0] = new ConnectTimeoutPolicy_impl(999);
+        assertThat(list.connectTimeout, is(100));
+        assertThat(((ConnectTimeoutPolicy_impl) list.value[0]).value(), is(100));
+    }
+}
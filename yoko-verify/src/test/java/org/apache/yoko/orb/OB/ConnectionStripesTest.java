@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.util.Reference;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ConnectionStripesTest {
+    private static final class Conn {
+        volatile int outstanding;
+        Conn(int outstanding) { this.outstanding = outstanding; }
+    }
+
+    private static final class Ref implements Reference<Conn> {
+        final Conn conn;
+        volatile int closes;
+        Ref(Conn conn) { this.conn = conn; }
+        public Conn get() { return conn; }
+        public void close() { closes++; }
+    }
+
+    private static ConnectionStripes<Conn> stripes(int count, boolean roundRobin, Conn first) {
+        return new ConnectionStripes<>(count, roundRobin, c -> c.outstanding, first);
+    }
+
+    @Test
+    void testRoundRobinTakesEachStripeInTurn() {
+        final ConnectionStripes<Conn> stripes = stripes(3, true, new Conn(0));
+        final List<Integer> choices = new ArrayList<>();
+        for (int i = 0; i < 7; i++) choices.add(stripes.choose());
+        assertThat(choices, contains(0, 1, 2, 0, 1, 2, 0));
+    }
+
+    @Test
+    void testLeastOutstandingOnlyOpensAnotherStripeWhenAllAreBusy() {
+        final Conn first = new Conn(0);
+        final ConnectionStripes<Conn> stripes = stripes(3, false, first);
+        assertThat("an idle connection should be reused", stripes.choose(), is(0));
+        first.outstanding = 2;
+        assertThat("a busy connection should lead to a new stripe", stripes.choose(), is(1));
+        assertThat(stripes.get(1), is(nullValue()));
+        final Conn second = new Conn(0);
+        stripes.publish(1, new Ref(second));
+        assertThat(stripes.choose(), is(1));
+        second.outstanding = 1;
+        assertThat("every open stripe is busy", stripes.choose(), is(2));
+        stripes.publish(2, new Ref(new Conn(5)));
+        assertThat("the least loaded stripe should be chosen", stripes.choose(), is(1));
+        first.outstanding = 0;
+        assertThat(stripes.choose(), is(0));
+    }
+
+    @Test
+    void testConcurrentFirstConnectsPublishOnlyOne() throws Exception {
+        final int threads = 8;
+        final ConnectionStripes<Conn> stripes = stripes(2, true, new Conn(0));
+        final List<Ref> refs = new ArrayList<>();
+        for (int i = 0; i < threads; i++) refs.add(new Ref(new Conn(0)));
+        final CyclicBarrier start = new CyclicBarrier(threads);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Conn>> results = new ArrayList<>();
+            for (Ref ref : refs) results.add(pool.submit(() -> {
+                start.await();
+                return stripes.publish(1, ref);
+            }));
+            final List<Conn> returned = new ArrayList<>();
+            for (Future<Conn> result : results) returned.add(result.get(5, SECONDS));
+            final Conn published = stripes.get(1);
+            for (Conn conn : returned) assertThat(conn, sameInstance(published));
+            int closed = 0;
+            for (Ref ref : refs) {
+                if (ref.conn == published) assertThat("the published reference must be kept", ref.closes, is(0));
+                else assertThat("every other reference must be released", ref.closes, is(1));
+                closed += ref.closes;
+            }
+            assertThat(closed, is(threads - 1));
+            stripes.close();
+            for (Ref ref : refs) assertThat(ref.closes, is(1));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCloseDuringConnectReleasesTheNewConnection() throws Exception {
+        final ConnectionStripes<Conn> stripes = stripes(2, true, new Conn(0));
+        final CountDownLatch connecting = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final Ref ref = new Ref(new Conn(0));
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Conn> result = pool.submit(() -> {
+                assertThat(stripes.choose(), is(0));
+                assertThat(stripes.choose(), is(1));
+                connecting.countDown();
+                // the client is destroyed while this stripe connects
+                closed.await();
+                return stripes.publish(1, ref);
+            });
+            assertThat(connecting.await(5, SECONDS), is(true));
+            stripes.close();
+            closed.countDown();
+            assertThat(result.get(5, SECONDS), is(nullValue()));
+            assertThat(ref.closes, is(1));
+            assertThat(stripes.get(1), is(nullValue()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCloseReleasesPublishedStripesOnce() {
+        final ConnectionStripes<Conn> stripes = stripes(3, true, new Conn(0));
+        final Ref second = new Ref(new Conn(0)), third = new Ref(new Conn(0));
+        stripes.publish(1, second);
+        stripes.publish(2, third);
+        stripes.close();
+        stripes.close();
+        assertThat(second.closes, equalTo(1));
+        assertThat(third.closes, equalTo(1));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.OutputStreamHolder;
+import org.apache.yoko.orb.IOP.ServiceContexts;
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.apache.yoko.orb.OCI.TransportInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.COMM_FAILURE;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.TRANSIENT;
+import org.omg.IOP.IOR;
+
+import java.util.Properties;
+
+import static org.apache.yoko.util.MinorCodes.MinorDuplicateReqId;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE;
+
+class MessageQueueTest {
+    private static ORB orb;
+    private static ORBInstance orbInstance;
+
+    /** A client that hands out whatever request id it is told to */
+    private static final class FixedIdClient extends Client {
+        int nextId;
+        FixedIdClient() { super(Client.Threaded, null); }
+        public void destroy() {}
+        public int getNewRequestID() { return nextId; }
+        public ServiceContexts getAMIRouterContexts() { return null; }
+        public ProfileInfo[] getUsableProfiles(IOR ior, Policy[] pl) { return null; }
+        public ConnectorInfo connectorInfo() { return null; }
+        public TransportInfo transportInfo() { return null; }
+        public DowncallEmitter startDowncall(Downcall down, OutputStreamHolder out) { return null; }
+        public boolean matches(Client clt) { return clt == this; }
+        public void bind(int connectTimeout) {}
+        public boolean twoway() { return true; }
+    }
+
+    private final FixedIdClient client = new FixedIdClient();
+
+    @BeforeAll
+    static void createOrb() {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        orb = ORB.init(new String[0], props);
+        orbInstance = ((org.apache.yoko.orb.CORBA.ORB) orb)._OB_ORBInstance();
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    private Downcall sent(int reqId) {
+        client.nextId = reqId;
+        Downcall down = new Downcall(orbInstance, client, null, null, "op", true);
+        down.setPending();
+        return down;
+    }
+
+    @Test
+    void testPendingAndPeakCounts() {
+        MessageQueue queue = new MessageQueue();
+        Downcall d1 = sent(1), d2 = sent(2), d3 = sent(3);
+        queue.addPending(d1);
+        queue.addPending(d2);
+        queue.addPending(d3);
+        assertThat(queue.pendingCount(), is(3));
+        assertThat(queue.peakPendingCount(), is(3));
+
+        assertThat(queue.findAndRemovePending(2), sameInstance(d2));
+        assertThat(queue.findAndRemovePending(2), nullValue());
+        assertThat(queue.pendingCount(), is(2));
+        assertThat(queue.peakPendingCount(), is(3));
+
+        queue.addPending(sent(4));
+        assertThat(queue.pendingCount(), is(3));
+        assertThat(queue.peakPendingCount(), is(3));
+        queue.addPending(sent(5));
+        assertThat(queue.peakPendingCount(), is(4));
+
+        queue.setException(new TRANSIENT(), false);
+        assertThat(queue.pendingCount(), is(0));
+        assertThat(queue.peakPendingCount(), is(4));
+        assertThat(d1.excep(), instanceOf(TRANSIENT.class));
+        assertThat(d3.excep(), instanceOf(TRANSIENT.class));
+        assertThat(((TRANSIENT) d1.excep()).completed, is(COMPLETED_MAYBE));
+    }
+
+    @Test
+    void testDuplicateRequestIdFailsTheNewcomer() {
+        MessageQueue queue = new MessageQueue();
+        Downcall first = sent(7), second = sent(7);
+        queue.addPending(first);
+        queue.addPending(second);
+
+        assertThat(first.excep(), nullValue());
+        assertThat(first.pending(), is(true));
+        assertThat(second.excep(), instanceOf(COMM_FAILURE.class));
+        COMM_FAILURE failure = (COMM_FAILURE) second.excep();
+        assertThat(failure.minor, equalTo(MinorDuplicateReqId));
+        assertThat(failure.completed, is(COMPLETED_MAYBE));
+
+        assertThat(queue.pendingCount(), is(1));
+        assertThat(queue.peakPendingCount(), is(1));
+        assertThat(queue.findAndRemovePending(7), sameInstance(first));
+        assertThat(queue.pendingCount(), is(0));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OB.Net.Resolver;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.yoko.orb.OB.Net.DEFAULT_RESOLUTION_TTL;
+import static org.apache.yoko.orb.OB.Net.MAX_RESOLUTIONS;
+import static org.apache.yoko.orb.OB.Net.resolutionTtl;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class NetTest {
+    private static final long TTL = MILLISECONDS.toNanos(1000);
+    private final InetAddress address = InetAddress.getLoopbackAddress();
+    private final List<String> lookups = new ArrayList<>();
+    private long now = 42;
+
+    private final Function<String, InetAddress> lookup = host -> {
+        lookups.add(host);
+        return host.startsWith("unknown") ? null : address;
+    };
+
+    private Resolver resolver(long ttl) { return new Resolver(ttl, () -> now, lookup); }
+
+    @Test
+    void testResolutionIsCachedUntilItExpires() {
+        Resolver resolver = resolver(TTL);
+        assertThat(resolver.resolve("host"), sameInstance(address));
+        now += TTL - 1;
+        assertThat(resolver.resolve("host"), sameInstance(address));
+        assertThat(lookups, contains("host"));
+        now += 1;
+        assertThat(resolver.resolve("host"), sameInstance(address));
+        assertThat(lookups, contains("host", "host"));
+    }
+
+    @Test
+    void testFailedResolutionIsCached() {
+        Resolver resolver = resolver(TTL);
+        assertThat(resolver.resolve("unknown.host"), nullValue());
+        assertThat(resolver.resolve("unknown.host"), nullValue());
+        assertThat(lookups, contains("unknown.host"));
+        now += TTL;
+        assertThat(resolver.resolve("unknown.host"), nullValue());
+        assertThat(lookups, contains("unknown.host", "unknown.host"));
+    }
+
+    @Test
+    void testZeroTtlDisablesTheCache() {
+        Resolver resolver = resolver(0);
+        assertThat(resolver.resolve("host"), sameInstance(address));
+        assertThat(resolver.resolve("host"), sameInstance(address));
+        assertThat(resolver.resolve("unknown.host"), nullValue());
+        assertThat(resolver.resolve("unknown.host"), nullValue());
+        assertThat(lookups, contains("host", "host", "unknown.host", "unknown.host"));
+        assertThat(resolver.size(), is(0));
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        Resolver resolver = resolver(TTL);
+        for (int i = 0; i < 3 * MAX_RESOLUTIONS; i++) {
+            resolver.resolve("host" + i);
+            assertThat(resolver.size(), lessThanOrEqualTo(MAX_RESOLUTIONS));
+        }
+    }
+
+    @Test
+    void testExpiredEntriesAreDroppedFirstWhenFull() {
+        Resolver resolver = resolver(TTL);
+        for (int i = 0; i < MAX_RESOLUTIONS - 1; i++) resolver.resolve("old" + i);
+        now += TTL;
+        resolver.resolve("fresh");
+        assertThat(resolver.size(), is(MAX_RESOLUTIONS));
+        // the cache is full, so the expired entries make way for the next one
+        resolver.resolve("next");
+        assertThat(resolver.size(), is(2));
+        lookups.clear();
+        resolver.resolve("fresh");
+        resolver.resolve("next");
+        assertThat(lookups.size(), is(0));
+    }
+
+    @Test
+    void testTtlProperty() {
+        assertThat(resolutionTtl(null), is(DEFAULT_RESOLUTION_TTL));
+        assertThat(resolutionTtl(" 500 "), is(500));
+        assertThat(resolutionTtl("0"), is(0));
+        assertThat(resolutionTtl("-1"), is(0));
+        assertThat(resolutionTtl("soon"), is(DEFAULT_RESOLUTION_TTL));
+    }
+}
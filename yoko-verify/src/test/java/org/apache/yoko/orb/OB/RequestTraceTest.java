@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+import org.omg.GIOP.ReplyStatusType_1_2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.OB.RequestTrace.Event.REPLY_SENT;
+import static org.apache.yoko.orb.OB.RequestTrace.Event.REQUEST_RECEIVED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.omg.GIOP.ReplyStatusType_1_2.NO_EXCEPTION;
+import static org.omg.GIOP.ReplyStatusType_1_2.SYSTEM_EXCEPTION;
+import static org.omg.GIOP.ReplyStatusType_1_2.USER_EXCEPTION;
+
+class RequestTraceTest {
+    private static final Pattern LINE = Pattern.compile("\\S+ (\\w+)\\s+reqId=(-?\\d+) op=(\\w+) size=(-?\\d+)(?: status=(\\w+))?(?: duration=(\\d+)us)?");
+    private static final String[] OPS = {"alpha", "beta", "gamma", "delta", "epsilon"};
+    private static final ReplyStatusType_1_2[] STATUSES = {NO_EXCEPTION, USER_EXCEPTION, SYSTEM_EXCEPTION};
+
+    @Test
+    void testDumpShowsRequestsAndReplyStatus() {
+        RequestTrace trace = new RequestTrace(8);
+        trace.record(REQUEST_RECEIVED, 1, "ping", null, 10, -1);
+        trace.record(REPLY_SENT, 1, "ping", USER_EXCEPTION, 20, 5_000);
+        trace.record(REPLY_SENT, 2, "pong", SYSTEM_EXCEPTION, 30, -1);
+        String[] lines = trace.dump().split(System.lineSeparator());
+        assertThat(lines.length, is(3));
+        assertThat(lines[0], containsString("REQUEST_RECEIVED reqId=1 op=ping size=10"));
+        assertThat(lines[0], not(containsString("status=")));
+        assertThat(lines[1], containsString("REPLY_SENT       reqId=1 op=ping size=20 status=USER_EXCEPTION duration=5us"));
+        assertThat(lines[2], containsString("reqId=2 op=pong size=30 status=SYSTEM_EXCEPTION"));
+    }
+
+    @Test
+    void testOnlyTheLatestEventsAreKept() {
+        RequestTrace trace = new RequestTrace(5); // rounded up to 8
+        for (int i = 0; i < 20; i++) trace.record(REQUEST_RECEIVED, i, "op", null, i, -1);
+        assertThat(trace.recorded(), is(20L));
+        String[] lines = trace.dump().split(System.lineSeparator());
+        assertThat(lines.length, is(8));
+        for (int i = 0; i < 8; i++) assertThat(lines[i], containsString("reqId=" + (12 + i) + " "));
+    }
+
+    @Test
+    void testConcurrentWritersNeverShowTornEvents() throws Exception {
+        final int writers = 4, dumps = 20_000;
+        // a tiny ring, so that writers often lap each other
+        final RequestTrace trace = new RequestTrace(4);
+        final ExecutorService pool = Executors.newFixedThreadPool(writers);
+        final AtomicBoolean reading = new AtomicBoolean(true);
+        try {
+            final List<Future<Integer>> written = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                final int base = w * 100_000_000;
+                written.add(pool.submit(() -> {
+                    int id = base;
+                    while (reading.get()) {
+                        trace.record(REPLY_SENT, id, OPS[id % OPS.length], STATUSES[id % STATUSES.length], id ^ 0x5555, id * 1000L);
+                        id++;
+                    }
+                    return id - base;
+                }));
+            }
+            // dump while the writers are lapping the ring
+            int checked = 0;
+            for (int i = 0; i < dumps; i++) {
+                for (String line : trace.dump().split(System.lineSeparator())) {
+                    if (!line.isEmpty()) checked += check(line);
+                }
+            }
+            reading.set(false);
+            long total = 0;
+            for (Future<Integer> f : written) total += f.get(60, SECONDS);
+            assertThat(checked, greaterThan(0));
+            assertThat(trace.recorded(), is(total));
+            // once the writers are finished every retained event is whole
+            for (String line : trace.dump().split(System.lineSeparator())) check(line);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Check that every field of a dumped event came from the same call to record() */
+    private static int check(String line) {
+        Matcher m = LINE.matcher(line);
+        assertThat(line, m.matches(), is(true));
+        final int id = Integer.parseInt(m.group(2));
+        assertThat(line, m.group(1), equalTo("REPLY_SENT"));
+        assertThat(line, m.group(3), equalTo(OPS[id % OPS.length]));
+        assertThat(line, Integer.parseInt(m.group(4)), equalTo(id ^ 0x5555));
+        assertThat(line, m.group(5), equalTo(new String[]{"NO_EXCEPTION", "USER_EXCEPTION", "SYSTEM_EXCEPTION"}[id % 3]));
+        assertThat(line, Long.parseLong(m.group(6)), equalTo((long) id));
+        return 1;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.CORBA.TypeCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.apache.yoko.io.Buffer.createReadBuffer;
+import static org.apache.yoko.orb.OB.TypeCodeCache.ENTRY_OVERHEAD;
+import static org.apache.yoko.orb.OB.TypeCodeCache.SHARDS;
+import static org.apache.yoko.orb.OB.TypeCodeCache.shardIndex;
+import static org.apache.yoko.orb.OB.TypeCodeFactory.createInterfaceTC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class TypeCodeCacheTest {
+    private static final int ENCAPSULATION_SIZE = 100;
+    private static final int WEIGHT = ENCAPSULATION_SIZE + ENTRY_OVERHEAD;
+    private static ORB orb;
+    private static TypeCodeCache orbCache;
+
+    @BeforeAll
+    static void createOrb() {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        orb = ORB.init(new String[0], props);
+        orbCache = ((org.apache.yoko.orb.CORBA.ORB) orb)._OB_ORBInstance().getTypeCodeCache();
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    private static TypeCode tc(String id) { return (TypeCode) createInterfaceTC(id, "Name"); }
+
+    private static byte[] bytes(int seed) {
+        byte[] b = new byte[ENCAPSULATION_SIZE];
+        Arrays.fill(b, (byte) seed);
+        return b;
+    }
+
+    /** @return ids that all fall in the same shard */
+    private static List<String> sameShardIds(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; ids.size() < count; i++) {
+            String id = "IDL:Test/Type" + i + ":1.0";
+            if (shardIndex(id) == 0) ids.add(id);
+        }
+        return ids;
+    }
+
+    /** @return a cache where each shard holds at most the given number of test entries */
+    private static TypeCodeCache cacheHolding(int entriesPerShard) {
+        return new TypeCodeCache(SHARDS * WEIGHT * entriesPerShard);
+    }
+
+    @Test
+    void testHitNeedsIdenticalBytes() {
+        TypeCodeCache cache = cacheHolding(1);
+        String id = "IDL:Test/Hit:1.0";
+        TypeCode tc = tc(id);
+        cache.put(id, tc, bytes(1));
+
+        ReadBuffer same = createReadBuffer(bytes(1));
+        assertThat(cache.get(id, same, ENCAPSULATION_SIZE), sameInstance(tc));
+        // nothing is read from the buffer
+        assertThat(same.getPosition(), is(0));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(0L));
+
+        byte[] different = bytes(1);
+        different[ENCAPSULATION_SIZE - 1] = 2;
+        assertThat(cache.get(id, createReadBuffer(different), ENCAPSULATION_SIZE), nullValue());
+        assertThat(cache.get(id, createReadBuffer(bytes(1)), ENCAPSULATION_SIZE - 1), nullValue());
+        assertThat(cache.get("IDL:Test/Unknown:1.0", createReadBuffer(bytes(1)), ENCAPSULATION_SIZE), nullValue());
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(3L));
+    }
+
+    @Test
+    void testMismatchedDefinitionIsReplaced() {
+        TypeCodeCache cache = cacheHolding(1);
+        String id = "IDL:Test/Replaced:1.0";
+        TypeCode oldTc = tc(id);
+        cache.put(id, oldTc, bytes(1));
+
+        assertThat(cache.get(id, createReadBuffer(bytes(2)), ENCAPSULATION_SIZE), nullValue());
+        TypeCode newTc = tc(id);
+        cache.put(id, newTc, bytes(2));
+
+        assertThat(cache.get(id, createReadBuffer(bytes(2)), ENCAPSULATION_SIZE), sameInstance(newTc));
+        assertThat(cache.get(id, createReadBuffer(bytes(1)), ENCAPSULATION_SIZE), nullValue());
+        assertThat(cache.size(), is((long) WEIGHT));
+        assertThat(cache.evictions(), is(0L));
+    }
+
+    @Test
+    void testByteBudgetEvictsLeastRecentlyUsed() {
+        TypeCodeCache cache = cacheHolding(2);
+        List<String> ids = sameShardIds(3);
+        cache.put(ids.get(0), tc(ids.get(0)), bytes(0));
+        cache.put(ids.get(1), tc(ids.get(1)), bytes(1));
+        assertThat(cache.size(), is(2L * WEIGHT));
+
+        // use the first entry, so the second is now the least recently used
+        assertThat(cache.get(ids.get(0), createReadBuffer(bytes(0)), ENCAPSULATION_SIZE), notNullValue());
+        cache.put(ids.get(2), tc(ids.get(2)), bytes(2));
+
+        assertThat(cache.evictions(), is(1L));
+        assertThat(cache.size(), is(2L * WEIGHT));
+        assertThat(cache.get(ids.get(0), createReadBuffer(bytes(0)), ENCAPSULATION_SIZE), notNullValue());
+        assertThat(cache.get(ids.get(1), createReadBuffer(bytes(1)), ENCAPSULATION_SIZE), nullValue());
+        assertThat(cache.get(ids.get(2), createReadBuffer(bytes(2)), ENCAPSULATION_SIZE), notNullValue());
+    }
+
+    @Test
+    void testEntryLargerThanAShardIsNotCached() {
+        TypeCodeCache cache = new TypeCodeCache(SHARDS * (WEIGHT - 1));
+        String id = "IDL:Test/TooBig:1.0";
+        cache.put(id, tc(id), bytes(1));
+        assertThat(cache.size(), is(0L));
+        assertThat(cache.evictions(), is(0L));
+        assertThat(cache.get(id, createReadBuffer(bytes(1)), ENCAPSULATION_SIZE), nullValue());
+    }
+
+    @Test
+    void testClear() {
+        TypeCodeCache cache = cacheHolding(1);
+        String id = "IDL:Test/Cleared:1.0";
+        cache.put(id, tc(id), bytes(1));
+        cache.clear();
+        assertThat(cache.size(), is(0L));
+        assertThat(cache.get(id, createReadBuffer(bytes(1)), ENCAPSULATION_SIZE), nullValue());
+    }
+
+    private static org.omg.CORBA.TypeCode roundTrip(org.omg.CORBA.TypeCode tc) {
+        OutputStream out = (OutputStream) orb.create_output_stream();
+        out.write_TypeCode(tc);
+        return out.create_input_stream().read_TypeCode();
+    }
+
+    @Test
+    void testStreamReusesCachedTypeCode() {
+        String id = "IDL:Test/Streamed:1.0";
+        long hits = orbCache.hits();
+        org.omg.CORBA.TypeCode first = roundTrip(createInterfaceTC(id, "Streamed"));
+        org.omg.CORBA.TypeCode second = roundTrip(createInterfaceTC(id, "Streamed"));
+        assertThat(second, sameInstance(first));
+        assertThat(orbCache.hits(), is(hits + 1));
+    }
+
+    @Test
+    void testStreamRereadsMismatchedDefinition() throws Exception {
+        String id = "IDL:Test/Redefined:1.0";
+        org.omg.CORBA.TypeCode first = roundTrip(createInterfaceTC(id, "Before"));
+        long misses = orbCache.misses();
+        org.omg.CORBA.TypeCode second = roundTrip(createInterfaceTC(id, "After"));
+        assertThat(orbCache.misses(), is(misses + 1));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.name(), is("After"));
+        // the new definition has replaced the old one
+        assertThat(roundTrip(createInterfaceTC(id, "After")), sameInstance(second));
+        assertThat(roundTrip(createInterfaceTC(id, "Before")).name(), is("Before"));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.PortableServer.POAHelper;
+
+import java.nio.ByteBuffer;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ObjectKeyDemuxTest {
+    private static ORB orb;
+    private static POA_impl root;
+
+    @BeforeAll
+    static void createOrb() throws Exception {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        orb = ORB.init(new String[0], props);
+        root = (POA_impl) POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    private static byte[] key(int i) { return ByteBuffer.allocate(4).putInt(i).array(); }
+
+    private static POA_impl child(String name) throws Exception {
+        return (POA_impl) root.create_POA(name, root.the_POAManager(), new Policy[0]);
+    }
+
+    @Test
+    void testHitAndMiss() {
+        ObjectKeyDemux demux = new ObjectKeyDemux(64);
+        byte[] oid = {42};
+        demux.put(key(1), root, oid);
+        ObjectKeyDemux.Target target = demux.get(key(1));
+        assertThat(target, notNullValue());
+        assertThat(target.poa, sameInstance(root));
+        assertThat(target.oid, sameInstance(oid));
+        assertThat(demux.get(key(2)), nullValue());
+        demux.remove(key(1));
+        assertThat(demux.get(key(1)), nullValue());
+    }
+
+    @Test
+    void testZeroSizeDisablesTheTable() {
+        ObjectKeyDemux demux = new ObjectKeyDemux(0);
+        demux.put(key(1), root, new byte[0]);
+        assertThat(demux.get(key(1)), nullValue());
+        assertThat(demux.size(), is(0));
+    }
+
+    @Test
+    void testEvictionKeepsRecentlyUsedKeys() {
+        ObjectKeyDemux demux = new ObjectKeyDemux(32);
+        demux.put(key(-1), root, new byte[0]);
+        for (int i = 0; i < 1000; i++) {
+            // keep touching the hot key so it stays the most recently used in its shard
+            assertThat(demux.get(key(-1)), notNullValue());
+            demux.put(key(i), root, new byte[0]);
+            assertThat(demux.size(), lessThanOrEqualTo(32));
+        }
+        assertThat(demux.get(key(-1)), notNullValue());
+        assertThat(demux.get(key(999)), notNullValue());
+        // the earliest keys have been evicted one at a time, not by emptying the table
+        assertThat(demux.get(key(0)), nullValue());
+        assertThat(demux.size(), is(32));
+    }
+
+    @Test
+    void testRemoveAllDropsOnlyThatPoa() throws Exception {
+        POA_impl other = child("removeAll");
+        try {
+            ObjectKeyDemux demux = new ObjectKeyDemux(64);
+            demux.put(key(1), root, new byte[0]);
+            demux.put(key(2), other, new byte[0]);
+            demux.removeAll(other);
+            assertThat(demux.get(key(1)), notNullValue());
+            assertThat(demux.get(key(2)), nullValue());
+        } finally {
+            other.destroy(false, true);
+        }
+    }
+
+    @Test
+    void testDestroyingAPoaInvalidatesItsKeys() throws Exception {
+        POA_impl doomed = child("doomed");
+        ObjectKeyDemux demux = ((POAManager_impl) root.the_POAManager()).demux;
+        demux.put(key(7), doomed, new byte[0]);
+        demux.put(key(8), root, new byte[0]);
+        doomed.destroy(false, true);
+        assertThat(demux.get(key(7)), nullValue());
+        assertThat(demux.get(key(8)), notNullValue());
+        demux.remove(key(8));
+    }
+}
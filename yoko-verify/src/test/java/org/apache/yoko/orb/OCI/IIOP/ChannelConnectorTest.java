@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.OCI.IIOP.ChannelConnector.STAGGER_MILLIS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the racing of connection attempts to several addresses of one host.
+ * The addresses are all loopback addresses, which on Linux are all served by the loopback interface.
+ */
+class ChannelConnectorTest {
+    private static final InetAddress FIRST = address("127.0.0.1");
+    private static final InetAddress SECOND = address("127.0.0.2");
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    private static InetAddress address(String s) {
+        try {
+            return InetAddress.getByName(s);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @AfterEach
+    void closeAll() throws Exception {
+        for (AutoCloseable c : resources) c.close();
+    }
+
+    private <T extends AutoCloseable> T closeLater(T t) {
+        resources.add(t);
+        return t;
+    }
+
+    private ServerSocket listen(InetAddress address, int port, int backlog) throws IOException {
+        return closeLater(new ServerSocket(port, backlog, address));
+    }
+
+    /** A listener that accepts no more connections: further attempts stall without being refused */
+    private ServerSocket stall(InetAddress address, int port) throws IOException {
+        final ServerSocket server = listen(address, port, 1);
+        for (int i = 0; i < 2; i++) closeLater(new Socket()).connect(server.getLocalSocketAddress(), 1000);
+        return server;
+    }
+
+    /** A port with nothing listening on it */
+    private static int unusedPort(InetAddress address) throws IOException {
+        try (ServerSocket s = new ServerSocket(0, 1, address)) {
+            return s.getLocalPort();
+        }
+    }
+
+    private Socket connect(InetAddress[] addresses, int port) throws Exception {
+        return closeLater(ChannelConnector.connect(addresses, port).get(10, SECONDS));
+    }
+
+    private static InetAddress remote(Socket socket) {
+        return ((InetSocketAddress) socket.getRemoteSocketAddress()).getAddress();
+    }
+
+    private static long millisSince(long start) {
+        return NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @Test
+    void testConnectToSingleAddress() throws Exception {
+        final ServerSocket server = listen(FIRST, 0, 50);
+        final Socket socket = connect(new InetAddress[]{FIRST}, server.getLocalPort());
+        assertThat(socket.isConnected(), is(true));
+        assertThat(socket.getPort(), equalTo(server.getLocalPort()));
+        assertThat(socket.getChannel().isBlocking(), is(false));
+    }
+
+    @Test
+    void testRefusedConnectionFails() throws Exception {
+        final CompletableFuture<Socket> result = ChannelConnector.connect(new InetAddress[]{FIRST}, unusedPort(FIRST));
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(10, SECONDS));
+        assertThat(e.getCause(), instanceOf(ConnectException.class));
+    }
+
+    @Test
+    void testEarlierAddressIsPreferred() throws Exception {
+        final int port = listen(SECOND, 0, 50).getLocalPort();
+        listen(FIRST, port, 50);
+        assertThat(remote(connect(new InetAddress[]{FIRST, SECOND}, port)), equalTo(FIRST));
+        assertThat(remote(connect(new InetAddress[]{SECOND, FIRST}, port)), equalTo(SECOND));
+    }
+
+    @Test
+    void testRefusedAddressFallsBackWithoutWaiting() throws Exception {
+        final int port = listen(SECOND, 0, 50).getLocalPort();
+        final long start = System.nanoTime();
+        assertThat(remote(connect(new InetAddress[]{FIRST, SECOND}, port)), equalTo(SECOND));
+        assertThat(millisSince(start), lessThan(STAGGER_MILLIS));
+    }
+
+    @Test
+    void testStalledAddressIsRacedAfterTheStagger() throws Exception {
+        final int port = listen(SECOND, 0, 50).getLocalPort();
+        stall(FIRST, port);
+        final long start = System.nanoTime();
+        assertThat(remote(connect(new InetAddress[]{FIRST, SECOND}, port)), equalTo(SECOND));
+        assertThat(millisSince(start), greaterThanOrEqualTo(STAGGER_MILLIS));
+    }
+
+    @Test
+    void testAllAddressesRefusedFails() throws Exception {
+        final int port = unusedPort(FIRST);
+        final CompletableFuture<Socket> result = ChannelConnector.connect(new InetAddress[]{FIRST, SECOND}, port);
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(10, SECONDS));
+        assertThat(e.getCause(), instanceOf(ConnectException.class));
+    }
+
+    @Test
+    void testCancellingAbandonsTheRace() throws Exception {
+        final int port = stall(FIRST, 0).getLocalPort();
+        final CompletableFuture<Socket> result = ChannelConnector.connect(new InetAddress[]{FIRST}, port);
+        assertThat(result.cancel(false), is(true));
+        // the connector carries on serving other requests
+        final ServerSocket server = listen(SECOND, 0, 50);
+        assertThat(remote(connect(new InetAddress[]{SECOND}, server.getLocalPort())), equalTo(SECOND));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ChannelWaiterTest {
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+    private SocketChannel client, server;
+
+    @BeforeEach
+    void connect() throws Exception {
+        try (ServerSocketChannel listener = ServerSocketChannel.open()) {
+            listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            client = SocketChannel.open(listener.getLocalAddress());
+            server = listener.accept();
+        }
+        client.configureBlocking(false);
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        pool.shutdownNow();
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testReadTimesOutWhenNothingArrives() throws Exception {
+        assertThat(ChannelWaiter.await(client, OP_READ, 100), is(false));
+    }
+
+    @Test
+    void testReadIsReleasedWhenDataArrives() throws Exception {
+        final Future<Boolean> ready = pool.submit(() -> ChannelWaiter.await(client, OP_READ, 0));
+        Thread.sleep(100);
+        assertThat(ready.isDone(), is(false));
+        server.write(ByteBuffer.wrap(new byte[]{1}));
+        assertThat(ready.get(10, SECONDS), is(true));
+        assertThat(client.read(ByteBuffer.allocate(1)), is(1));
+    }
+
+    @Test
+    void testWriteWaitIsNotHeldUpByReadWait() throws Exception {
+        final Future<Boolean> read = pool.submit(() -> ChannelWaiter.await(client, OP_READ, 0));
+        Thread.sleep(100);
+        assertThat(ChannelWaiter.await(client, OP_WRITE, 10_000), is(true));
+        assertThat(read.isDone(), is(false));
+        server.write(ByteBuffer.wrap(new byte[]{1}));
+        assertThat(read.get(10, SECONDS), is(true));
+    }
+
+    @Test
+    void testForgettingAClosedChannelReleasesItsWaiters() throws Exception {
+        final Future<Boolean> ready = pool.submit(() -> ChannelWaiter.await(client, OP_READ, 0));
+        Thread.sleep(100);
+        client.close();
+        ChannelWaiter.forget(client);
+        assertThat(ready.get(10, SECONDS), is(true));
+        // a closed channel does not make anyone wait
+        assertThat(ChannelWaiter.await(client, OP_READ, 0), is(true));
+    }
+}
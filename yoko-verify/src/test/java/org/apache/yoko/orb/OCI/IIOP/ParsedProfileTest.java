@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.CORBA.OutputStream;
+import org.apache.yoko.orb.OCI.ProfileInfo;
+import org.junit.jupiter.api.Test;
+import org.omg.IIOP.ProfileBody_1_1;
+import org.omg.IIOP.ProfileBody_1_1Helper;
+import org.omg.IIOP.Version;
+import org.omg.IOP.TaggedComponent;
+import org.omg.IOP.TaggedProfile;
+
+import java.lang.ref.WeakReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ParsedProfileTest {
+    private static final byte[] KEY = {1, 2, 3, 4};
+    private static final int TAG_ALTERNATE_IIOP_ADDRESS = org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS.value;
+    private static final int TAG_INTERNET_IOP = org.omg.IOP.TAG_INTERNET_IOP.value;
+
+    private static byte[] alternateAddress(String host, short port) {
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            out.write_string(host);
+            out.write_ushort(port);
+            return out.copyWrittenBytes();
+        }
+    }
+
+    private static TaggedProfile profile() {
+        TaggedComponent[] components = {new TaggedComponent(TAG_ALTERNATE_IIOP_ADDRESS, alternateAddress("10.0.0.2", (short) 2000))};
+        ProfileBody_1_1 body = new ProfileBody_1_1(new Version((byte) 1, (byte) 2), "10.0.0.1", (short) 1000, KEY.clone(), components);
+        try (OutputStream out = new OutputStream()) {
+            out._OB_writeEndian();
+            ProfileBody_1_1Helper.write(out, body);
+            return new TaggedProfile(TAG_INTERNET_IOP, out.copyWrittenBytes());
+        }
+    }
+
+    @Test
+    void testProfileIsParsed() {
+        ParsedProfile parsed = ParsedProfile.of(profile());
+        assertThat(parsed.major, is((byte) 1));
+        assertThat(parsed.minor, is((byte) 2));
+        assertThat(parsed.host, is("10.0.0.1"));
+        assertThat(parsed.port, is((short) 1000));
+        assertThat(parsed.key, is(KEY));
+        assertThat(parsed.matches("10.0.0.1", (short) 1000, null, false), is(true));
+        assertThat(parsed.matches("10.0.0.2", (short) 2000, null, false), is(true));
+        assertThat(parsed.matches("10.0.0.2", (short) 1000, null, false), is(false));
+    }
+
+    @Test
+    void testCacheIsKeyedOnTheIdentityOfTheData() {
+        TaggedProfile profile = profile();
+        ParsedProfile parsed = ParsedProfile.of(profile);
+        assertThat(ParsedProfile.of(profile), sameInstance(parsed));
+        // another profile sharing the same data array shares the parsed form
+        assertThat(ParsedProfile.of(new TaggedProfile(TAG_INTERNET_IOP, profile.profile_data)), sameInstance(parsed));
+        // equal data in a different array is parsed again
+        assertThat(ParsedProfile.of(new TaggedProfile(TAG_INTERNET_IOP, profile.profile_data.clone())), not(sameInstance(parsed)));
+    }
+
+    @Test
+    void testEntryIsReleasedWithTheProfileData() throws Exception {
+        TaggedProfile profile = profile();
+        WeakReference<ParsedProfile> parsed = new WeakReference<>(ParsedProfile.of(profile));
+        System.gc();
+        // the cache keeps the parsed profile for as long as the profile data is reachable
+        assertThat(ParsedProfile.of(profile), sameInstance(parsed.get()));
+        profile = null;
+        // the cache holds its values strongly until it drops the entry, so once the value is collected the entry has gone
+        for (int i = 0; i < 100 && parsed.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+            ParsedProfile.cacheSize();
+        }
+        assertThat(parsed.get() == null, is(true));
+    }
+
+    @Test
+    void testProfileInfosAreDefensiveCopies() {
+        ParsedProfile parsed = ParsedProfile.of(profile());
+        ProfileInfo first = parsed.toProfileInfo(TAG_INTERNET_IOP, 0);
+        assertThat(first.key, is(KEY));
+        assertThat(first.components.length, is(1));
+        assertThat(first.components[0].tag, is(TAG_ALTERNATE_IIOP_ADDRESS));
+
+        // scribble over everything the caller was given
+        first.key[0] = 99;
+        first.components[0].component_data[0] = 99;
+        first.components[0] = new TaggedComponent(-1, new byte[0]);
+
+        ProfileInfo second = parsed.toProfileInfo(TAG_INTERNET_IOP, 1);
+        assertThat(second.key, not(sameInstance(first.key)));
+        assertThat(second.key, is(KEY));
+        assertThat(parsed.key, is(KEY));
+        assertThat(second.components[0].tag, is(TAG_ALTERNATE_IIOP_ADDRESS));
+        assertThat(second.components[0].component_data, is(alternateAddress("10.0.0.2", (short) 2000)));
+        assertThat(second.index, is(1));
+        assertThat(parsed.matches("10.0.0.2", (short) 2000, null, false), is(true));
+    }
+}
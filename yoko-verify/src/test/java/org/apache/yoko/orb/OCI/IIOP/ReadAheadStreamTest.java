@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.orb.OCI.IIOP.Transport_impl.ReadAheadStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+import static org.apache.yoko.io.Buffer.createWriteBuffer;
+import static org.apache.yoko.orb.OCI.IIOP.Transport_impl.READ_AHEAD_SIZE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ReadAheadStreamTest {
+    private static final int HEADER_SIZE = 12;
+
+    /** Supplies the given chunks, at most one per read, and counts the reads */
+    private static final class ChunkedStream extends InputStream {
+        private final Queue<ByteBuffer> chunks = new ArrayDeque<>();
+        int reads;
+        int largestRequest;
+
+        ChunkedStream(byte[]... chunks) { for (byte[] c : chunks) this.chunks.add(ByteBuffer.wrap(c)); }
+
+        public int read() { throw new UnsupportedOperationException(); }
+
+        public int read(byte[] b, int off, int len) {
+            reads++;
+            largestRequest = Math.max(largestRequest, len);
+            final ByteBuffer chunk = chunks.peek();
+            if (chunk == null) return -1;
+            final int n = Math.min(len, chunk.remaining());
+            chunk.get(b, off, n);
+            if (!chunk.hasRemaining()) chunks.remove();
+            return n;
+        }
+    }
+
+    /** @return a GIOP 1.2 request message with a body of the given size */
+    private static byte[] message(int bodySize, int fill) {
+        ByteBuffer bb = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+        bb.put(new byte[]{'G', 'I', 'O', 'P', 1, 2, 0, 0}).putInt(bodySize);
+        while (bb.hasRemaining()) bb.put((byte) fill);
+        return bb.array();
+    }
+
+    private static byte[] concat(byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] p : parts) out.write(p);
+        return out.toByteArray();
+    }
+
+    /** Receive the given number of bytes the way the transport does */
+    private static byte[] receive(InputStream in, int size) throws IOException {
+        WriteBuffer buffer = createWriteBuffer(size);
+        while (!buffer.isComplete()) assertThat(buffer.readFrom(in), is(true));
+        return Arrays.copyOf(buffer.readFromStart().copyRemainingBytes(), size);
+    }
+
+    /** Receive one GIOP message, header first and then the body the header describes */
+    private static byte[] receiveMessage(InputStream in) throws IOException {
+        byte[] header = receive(in, HEADER_SIZE);
+        byte[] body = receive(in, ByteBuffer.wrap(header, 8, 4).getInt());
+        return concat(header, body);
+    }
+
+    @Test
+    void testSeveralMessagesInOneRead() throws Exception {
+        byte[] m1 = message(20, 1), m2 = message(0, 2), m3 = message(100, 3);
+        ChunkedStream socket = new ChunkedStream(concat(m1, m2, m3));
+        ReadAheadStream in = new ReadAheadStream(socket);
+
+        assertThat(receiveMessage(in), is(m1));
+        assertThat(socket.reads, is(1));
+        assertThat(in.buffered(), is(m2.length + m3.length));
+        assertThat(receiveMessage(in), is(m2));
+        assertThat(receiveMessage(in), is(m3));
+        assertThat(socket.reads, is(1));
+        assertThat(in.buffered(), is(0));
+    }
+
+    @Test
+    void testHeaderSplitAcrossReads() throws Exception {
+        byte[] m1 = message(30, 1), m2 = message(10, 2);
+        byte[] all = concat(m1, m2);
+        // the first header arrives in two pieces, and the second header starts in the middle of a read
+        int split1 = 5, split2 = m1.length + 3;
+        ChunkedStream socket = new ChunkedStream(
+                Arrays.copyOfRange(all, 0, split1),
+                Arrays.copyOfRange(all, split1, split2),
+                Arrays.copyOfRange(all, split2, all.length));
+        ReadAheadStream in = new ReadAheadStream(socket);
+
+        assertThat(receiveMessage(in), is(m1));
+        assertThat(receiveMessage(in), is(m2));
+        assertThat(socket.reads, is(3));
+        assertThat(in.buffered(), is(0));
+    }
+
+    @Test
+    void testLargeBodyBypassesTheReadAheadBuffer() throws Exception {
+        byte[] m = message(3 * READ_AHEAD_SIZE, 7);
+        ChunkedStream socket = new ChunkedStream(
+                Arrays.copyOfRange(m, 0, HEADER_SIZE),
+                Arrays.copyOfRange(m, HEADER_SIZE, m.length));
+        ReadAheadStream in = new ReadAheadStream(socket);
+
+        assertThat(receiveMessage(in), is(m));
+        // the body was requested straight from the socket, rather than through the smaller read-ahead buffer
+        assertThat(socket.largestRequest, is(3 * READ_AHEAD_SIZE));
+    }
+
+    @Test
+    void testEnableSelectionWaitsForTheReadAheadToDrain() throws Exception {
+        try (ServerSocketChannel listener = ServerSocketChannel.open()) {
+            listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(listener.getLocalAddress());
+                 SocketChannel server = listener.accept()) {
+                Transport_impl transport = new Transport_impl(client.socket(), new ListenerMap());
+                try {
+                    OutputStream peer = server.socket().getOutputStream();
+                    byte[] m1 = message(20, 1), m2 = message(30, 2), m3 = message(40, 3);
+                    peer.write(concat(m1, m2));
+                    peer.flush();
+
+                    assertThat(transportReceive(transport, HEADER_SIZE + 20), is(m1));
+                    // the second message has been read ahead, so the channel must not be used yet
+                    assertThat(transport.enableSelection(), nullValue());
+                    assertThat(client.isBlocking(), is(true));
+
+                    assertThat(transportReceive(transport, HEADER_SIZE + 30), is(m2));
+                    SelectableChannel channel = transport.enableSelection();
+                    assertThat(channel, notNullValue());
+                    assertThat(channel, sameInstance(client));
+                    assertThat(client.isBlocking(), is(false));
+
+                    // later messages are read from the channel
+                    peer.write(m3);
+                    peer.flush();
+                    assertThat(transportReceive(transport, HEADER_SIZE + 40), is(m3));
+                } finally {
+                    transport.close();
+                }
+            }
+        }
+    }
+
+    private static byte[] transportReceive(Transport_impl transport, int size) {
+        WriteBuffer buffer = createWriteBuffer(size);
+        transport.receive(buffer, true);
+        return Arrays.copyOf(buffer.readFromStart().copyRemainingBytes(), size);
+    }
+}
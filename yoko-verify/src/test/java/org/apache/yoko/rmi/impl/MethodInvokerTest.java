@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.ResponseHandler;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodInvokerTest {
+    private static ORB orb;
+
+    public interface Target extends Remote {
+        int subtract(int a, int b) throws RemoteException;
+        double mix(boolean z, byte b, char c, short s, int i, long j, float f, double d) throws RemoteException;
+        void record(int value) throws RemoteException;
+        String greet(String name, int times) throws RemoteException;
+        char next(char c) throws RemoteException;
+        boolean not(boolean z) throws RemoteException;
+        void fail(String message) throws RemoteException, TargetException;
+        int explode() throws RemoteException;
+    }
+
+    /** A remote interface that is not public, so its methods can only be called reflectively */
+    interface HiddenTarget extends Remote {
+        int hidden(int a) throws RemoteException;
+    }
+
+    public static class TargetException extends Exception {
+        public TargetException(String message) { super(message); }
+    }
+
+    static final class TargetImpl implements Target, HiddenTarget {
+        final List<Integer> recorded = new ArrayList<>();
+        public int subtract(int a, int b) { return a - b; }
+        public double mix(boolean z, byte b, char c, short s, int i, long j, float f, double d) { return (z ? 1 : -1) * (b + c + s + i + j + f + d); }
+        public void record(int value) { recorded.add(value); }
+        public String greet(String name, int times) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < times; i++) sb.append("hello ").append(name).append(';');
+            return sb.toString();
+        }
+        public char next(char c) { return (char) (c + 1); }
+        public boolean not(boolean z) { return !z; }
+        public void fail(String message) throws TargetException { throw new TargetException(message); }
+        public int explode() { throw new IllegalStateException("boom"); }
+        public int hidden(int a) { return a; }
+    }
+
+    /** Creates replies, and counts them */
+    private static final class Replies implements ResponseHandler {
+        int replies;
+        public OutputStream createReply() { replies++; return orb.create_output_stream(); }
+        public OutputStream createExceptionReply() { throw new AssertionError("exception replies are written by the servant, not the invoker"); }
+    }
+
+    private final TargetImpl target = new TargetImpl();
+    private final Replies replies = new Replies();
+
+    @BeforeAll
+    static void createOrb() {
+        Properties props = new Properties();
+        props.put("org.omg.CORBA.ORBClass", "org.apache.yoko.orb.CORBA.ORB");
+        props.put("org.omg.CORBA.ORBSingletonClass", "org.apache.yoko.orb.CORBA.ORBSingleton");
+        orb = ORB.init(new String[0], props);
+    }
+
+    @AfterAll
+    static void destroyOrb() {
+        orb.destroy();
+    }
+
+    private static MethodDescriptor method(Class<?> type, String name) {
+        for (MethodDescriptor desc : TypeRepository.get().getRemoteInterface(type).getMethods()) {
+            if (desc.getReflectedMethod().getName().equals(name)) return desc;
+        }
+        throw new AssertionError("no method " + name);
+    }
+
+    /** Call the method through its direct invoker, with arguments already written to the stream */
+    private InputStream invoke(String name, OutputStream args) throws Throwable {
+        MethodInvoker invoker = method(Target.class, name).getInvoker();
+        assertThat(invoker.isDirect(), is(true));
+        OutputStream reply = invoker.invoke(args.create_input_stream(), target, replies);
+        assertThat(replies.replies, is(1));
+        return reply.create_input_stream();
+    }
+
+    @Test
+    void testIntArgumentsAreReadInOrder() throws Throwable {
+        OutputStream args = orb.create_output_stream();
+        args.write_long(10);
+        args.write_long(3);
+        assertThat(invoke("subtract", args).read_long(), is(7));
+    }
+
+    @Test
+    void testEveryPrimitiveType() throws Throwable {
+        OutputStream args = orb.create_output_stream();
+        args.write_boolean(false);
+        args.write_octet((byte) 1);
+        args.write_wchar('\u0002');
+        args.write_short((short) 30);
+        args.write_long(400);
+        args.write_longlong(5000L);
+        args.write_float(0.5f);
+        args.write_double(0.25);
+        assertThat(invoke("mix", args).read_double(), is(-(1 + 2 + 30 + 400 + 5000 + 0.5 + 0.25)));
+    }
+
+    @Test
+    void testCharResult() throws Throwable {
+        OutputStream args = orb.create_output_stream();
+        args.write_wchar('x');
+        assertThat(invoke("next", args).read_wchar(), is('y'));
+    }
+
+    @Test
+    void testBooleanResult() throws Throwable {
+        OutputStream args = orb.create_output_stream();
+        args.write_boolean(true);
+        assertThat(invoke("not", args).read_boolean(), is(false));
+    }
+
+    @Test
+    void testVoidMethodGetsAnEmptyReply() throws Throwable {
+        OutputStream args = orb.create_output_stream();
+        args.write_long(42);
+        InputStream reply = invoke("record", args);
+        assertThat(target.recorded, contains(42));
+        assertThat(((org.apache.yoko.orb.CORBA.InputStream) reply).available(), is(0));
+    }
+
+    @Test
+    void testObjectArgumentAndResult() throws Throwable {
+        MethodDescriptor greet = method(Target.class, "greet");
+        OutputStream args = orb.create_output_stream();
+        greet.parameter_types[0].write(args, "world");
+        args.write_long(2);
+        Object result = greet.return_type.read(invoke("greet", args));
+        assertThat(result, equalTo("hello world;hello world;"));
+    }
+
+    @Test
+    void testDeclaredExceptionIsThrownUnwrapped() throws Throwable {
+        MethodDescriptor fail = method(Target.class, "fail");
+        OutputStream args = orb.create_output_stream();
+        fail.parameter_types[0].write(args, "no");
+        MethodInvoker invoker = fail.getInvoker();
+        assertThat(invoker.isDirect(), is(true));
+        TargetException e = assertThrows(TargetException.class, () -> invoker.invoke(args.create_input_stream(), target, replies));
+        assertThat(e.getMessage(), is("no"));
+        // no reply was created, so the servant can write an exception reply instead
+        assertThat(replies.replies, is(0));
+    }
+
+    @Test
+    void testRuntimeExceptionIsThrownUnwrapped() throws Throwable {
+        MethodInvoker invoker = method(Target.class, "explode").getInvoker();
+        OutputStream args = orb.create_output_stream();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> invoker.invoke(args.create_input_stream(), target, replies));
+        assertThat(e.getMessage(), is("boom"));
+        assertThat(replies.replies, is(0));
+    }
+
+    @Test
+    void testInvokerIsCreatedOnce() {
+        MethodDescriptor desc = method(Target.class, "subtract");
+        assertThat(desc.getInvoker(), sameInstance(desc.getInvoker()));
+    }
+
+    @Test
+    void testNonPublicInterfaceFallsBackToReflection() {
+        assertThat(method(HiddenTarget.class, "hidden").getInvoker(), sameInstance(MethodInvoker.REFLECTIVE));
+    }
+}
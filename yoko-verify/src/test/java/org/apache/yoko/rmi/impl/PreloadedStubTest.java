@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import acme.StubbedEcho;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Check that the stubs listed in the stub index generated by {@link StubBuilder} when the tests were built
+ * are installed as soon as an RMI state is created, when <code>org.apache.yoko.rmi.preloadStubs</code> is set.
+ * This test runs in its own test task, which sets the property.
+ */
+class PreloadedStubTest {
+    @Test
+    void testStubIsInstalledWhenTheStateIsCreated() throws Exception {
+        // a new context loader gets a new state
+        final Thread thread = Thread.currentThread();
+        final ClassLoader oldLoader = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[0], PreloadedStubTest.class.getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            final RMIState state = new PortableRemoteObjectExtImpl().getCurrentState();
+            final Constructor<?> cons = state.stub_map.get(StubbedEcho.class);
+            assertThat(cons, notNullValue());
+            assertThat(cons.getDeclaringClass().getName(), equalTo("org.omg.stub.acme._StubbedEcho_Stub"));
+            // the same loader gets the same state
+            assertThat(new PortableRemoteObjectExtImpl().getCurrentState() == state, equalTo(true));
+        } finally {
+            thread.setContextClassLoader(oldLoader);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.util.corba;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Each test runs once through method handles and once through the Unsafe fallback */
+class FieldTest {
+    @SuppressWarnings("unused")
+    private static class Holder {
+        private byte b;
+        private boolean z;
+        private short s;
+        private char c;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private String ref;
+        private final int finalInt;
+        private final String finalRef;
+        private static int staticInt;
+        private static String staticRef;
+
+        Holder(int finalInt, String finalRef) {
+            this.finalInt = finalInt;
+            this.finalRef = finalRef;
+        }
+    }
+
+    private static Field field(String name, boolean useHandles) throws Exception {
+        return new Field(Holder.class.getDeclaredField(name), useHandles);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testPrimitiveRoundTrips(boolean useHandles) throws Exception {
+        final Holder h = new Holder(0, null);
+        field("b", useHandles).setByte(h, (byte) -7);
+        field("z", useHandles).setBoolean(h, true);
+        field("s", useHandles).setShort(h, (short) 0x1234);
+        field("c", useHandles).setChar(h, '€');
+        field("i", useHandles).setInt(h, Integer.MIN_VALUE);
+        field("l", useHandles).setLong(h, Long.MAX_VALUE);
+        field("f", useHandles).setFloat(h, 1.5f);
+        field("d", useHandles).setDouble(h, -2.25);
+        assertThat(h.b, is((byte) -7));
+        assertThat(h.z, is(true));
+        assertThat(h.s, is((short) 0x1234));
+        assertThat(h.c, is('€'));
+        assertThat(h.i, is(Integer.MIN_VALUE));
+        assertThat(h.l, is(Long.MAX_VALUE));
+        assertThat(h.f, is(1.5f));
+        assertThat(h.d, is(-2.25));
+        assertThat(field("b", useHandles).getByte(h), is((byte) -7));
+        assertThat(field("z", useHandles).getBoolean(h), is(true));
+        assertThat(field("s", useHandles).getShort(h), is((short) 0x1234));
+        assertThat(field("c", useHandles).getChar(h), is('€'));
+        assertThat(field("i", useHandles).getInt(h), is(Integer.MIN_VALUE));
+        assertThat(field("l", useHandles).getLong(h), is(Long.MAX_VALUE));
+        assertThat(field("f", useHandles).getFloat(h), is(1.5f));
+        assertThat(field("d", useHandles).getDouble(h), is(-2.25));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testReferenceRoundTrip(boolean useHandles) throws Exception {
+        final Holder h = new Holder(0, null);
+        final Field ref = field("ref", useHandles);
+        final String value = new String("value");
+        ref.set(h, value);
+        assertThat(h.ref, sameInstance(value));
+        assertThat(ref.get(h), sameInstance(value));
+        ref.set(h, null);
+        assertThat(ref.get(h), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testWrongReferenceTypeIsRejected(boolean useHandles) throws Exception {
+        final Holder h = new Holder(0, "unchanged");
+        final Field ref = field("ref", useHandles);
+        assertThrows(IllegalArgumentException.class, () -> ref.set(h, 42));
+        assertThat(h.ref, is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testFinalFieldRoundTrips(boolean useHandles) throws Exception {
+        final Holder h = new Holder(1, "before");
+        final Field finalInt = field("finalInt", useHandles);
+        final Field finalRef = field("finalRef", useHandles);
+        assertThat(finalInt.getInt(h), is(1));
+        assertThat(finalRef.get(h), is("before"));
+        // deserialization writes final fields
+        finalInt.setInt(h, 2);
+        finalRef.set(h, "after");
+        assertThat(finalInt.getInt(h), is(2));
+        assertThat(finalRef.get(h), is("after"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testStaticFieldRoundTrips(boolean useHandles) throws Exception {
+        final Field staticInt = field("staticInt", useHandles);
+        final Field staticRef = field("staticRef", useHandles);
+        staticInt.setInt(null, 99);
+        staticRef.set(null, "shared");
+        assertThat(Holder.staticInt, is(99));
+        assertThat(Holder.staticRef, is("shared"));
+        Holder.staticInt = 100;
+        Holder.staticRef = "changed";
+        assertThat(staticInt.getInt(null), is(100));
+        assertThat(staticRef.get(null), is("changed"));
+    }
+}